@@ -844,6 +844,14 @@ public class DelegateModule extends AbstractModule {
         10, new ThreadFactoryBuilder().setNameFormat("taskProgress-%d").setPriority(Thread.MAX_PRIORITY).build());
   }
 
+  @Provides
+  @Singleton
+  @Named("logStreamingPushExecutor")
+  public ExecutorService logStreamingPushExecutor() {
+    return ThreadPool.create(1, 10, 1, TimeUnit.SECONDS,
+        new ThreadFactoryBuilder().setNameFormat("log-streaming-push-%d").setPriority(Thread.NORM_PRIORITY).build());
+  }
+
   @Provides
   @Singleton
   @Named("k8sSteadyStateExecutor")
@@ -19,6 +19,9 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String LOG_STREAMING_QUEUE_DEPTH = "log_streaming_queue_depth";
+  public static final String LOG_STREAMING_DROPPED_LINES = "log_streaming_dropped_lines";
+  public static final String LOG_STREAMING_PUSH_LATENCY = "log_streaming_push_latency";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +31,9 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(LOG_STREAMING_QUEUE_DEPTH, create("Number of log lines waiting to be pushed.", DELEGATE_NAME_LABEL));
+    put(LOG_STREAMING_DROPPED_LINES, create("Number of log lines dropped due to full buffers.", DELEGATE_NAME_LABEL));
+    put(LOG_STREAMING_PUSH_LATENCY, create("Time needed to push a batch of log lines.", DELEGATE_NAME_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
@@ -139,6 +139,7 @@ import io.harness.filesystem.FileIo;
 import io.harness.grpc.util.RestartableServiceManager;
 import io.harness.logging.AutoLogContext;
 import io.harness.logstreaming.LogStreamingClient;
+import io.harness.logstreaming.LogStreamingDispatcher;
 import io.harness.logstreaming.LogStreamingHelper;
 import io.harness.logstreaming.LogStreamingSanitizer;
 import io.harness.logstreaming.LogStreamingTaskClient;
@@ -361,6 +362,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
+  @Inject private LogStreamingDispatcher logStreamingDispatcher;
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceAgentClient delegateServiceAgentClient;
   @Inject private KryoSerializer kryoSerializer;
@@ -480,6 +482,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         perpetualTaskWorker.setAccountId(accountId);
         perpetualTaskWorker.start();
       }
+      logStreamingDispatcher.start();
       log.info("Delegate will start running on JRE {}", System.getProperty(JAVA_VERSION));
       log.info("The deploy mode for delegate is [{}]", System.getenv().get("DEPLOY_MODE"));
       startTime = clock.millis();
@@ -1305,6 +1308,8 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     log.info("Executors terminated after {}s. All tasks completed? Task [{}], Polling [{}]",
         Duration.ofMillis(clock.millis() - shutdownStart).toMillis() * 1000, terminatedTaskExec, terminatedPoll);
 
+    logStreamingDispatcher.stop();
+
     if (perpetualTaskWorker != null) {
       log.info("Stopping perpetual task workers");
       perpetualTaskWorker.stop();
@@ -1720,6 +1725,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
                                                    .stream()
                                                    .map(DelegateTaskPackage::getDelegateTaskId)
                                                    .collect(toList()))
+              .resourceThresholdReached(rejectRequest.get())
               .location(Paths.get("").toAbsolutePath().toString())
               .build();
 
@@ -1777,6 +1783,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
                                                    .stream()
                                                    .map(DelegateTaskPackage::getDelegateTaskId)
                                                    .collect(toList()))
+              .resourceThresholdReached(rejectRequest.get())
               .location(Paths.get("").toAbsolutePath().toString())
               .build();
       lastHeartbeatSentAt.set(clock.millis());
@@ -2143,6 +2150,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     LogStreamingTaskClientBuilder taskClientBuilder =
         LogStreamingTaskClient.builder()
             .logStreamingClient(logStreamingClient)
+            .logStreamingDispatcher(logStreamingDispatcher)
             .accountId(delegateTaskPackage.getAccountId())
             .token(delegateTaskPackage.getLogStreamingToken())
             .logStreamingSanitizer(
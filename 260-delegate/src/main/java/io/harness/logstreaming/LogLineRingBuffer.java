@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded ring buffer of log lines. Any number of task threads can offer lines without taking a lock, the lines are
+ * drained by the log streaming dispatcher. When the buffer is full offer fails instead of blocking the task.
+ */
+@OwnedBy(HarnessTeam.DEL)
+class LogLineRingBuffer {
+  private final AtomicReferenceArray<LogLine> buffer;
+  private final int mask;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private volatile long consumerIndex;
+
+  LogLineRingBuffer(int capacity) {
+    if (Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two, but was " + capacity);
+    }
+    buffer = new AtomicReferenceArray<>(capacity);
+    mask = capacity - 1;
+  }
+
+  boolean offer(LogLine logLine) {
+    while (true) {
+      long index = producerIndex.get();
+      if (index - consumerIndex > mask) {
+        return false;
+      }
+      if (producerIndex.compareAndSet(index, index + 1)) {
+        buffer.set((int) (index & mask), logLine);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Moves up to {@code maxLines} published lines to {@code target} preserving the order they were offered in.
+   * A line that is claimed, but not yet published by its producer stops the drain and will be picked next time.
+   */
+  synchronized int drainTo(List<LogLine> target, int maxLines) {
+    long index = consumerIndex;
+    int drained = 0;
+    while (drained < maxLines) {
+      int slot = (int) (index & mask);
+      LogLine logLine = buffer.get(slot);
+      if (logLine == null) {
+        break;
+      }
+      buffer.set(slot, null);
+      target.add(logLine);
+      index++;
+      drained++;
+    }
+    consumerIndex = index;
+    return drained;
+  }
+
+  int size() {
+    return (int) Math.max(0, producerIndex.get() - consumerIndex);
+  }
+}
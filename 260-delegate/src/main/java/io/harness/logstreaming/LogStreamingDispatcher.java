@@ -0,0 +1,239 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_DROPPED_LINES;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_PUSH_LATENCY;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_QUEUE_DEPTH;
+
+import static java.lang.System.currentTimeMillis;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.network.SafeHttpCall;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delegate wide log pipeline used by all {@link LogStreamingTaskClient}s.
+ *
+ * Every log key gets its own bounded ring buffer. A single dispatcher thread wakes up every 100 ms or as soon as one
+ * of the streams has a full batch, drains the streams and pushes
+ * each batch with one {@link LogStreamingClient#pushMessage} call on the push executor. At most one push per stream is
+ * in flight, so the order of the lines within a stream is preserved.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(HarnessTeam.DEL)
+public class LogStreamingDispatcher {
+  @VisibleForTesting static final int STREAM_CAPACITY = 16384;
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 1000;
+  private static final long FLUSH_INTERVAL_MILLIS = 100;
+  private static final long STREAM_IDLE_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final String DELEGATE_NAME =
+      isNotBlank(System.getenv().get("DELEGATE_NAME")) ? System.getenv().get("DELEGATE_NAME") : "";
+
+  private final ExecutorService pushExecutor;
+  private final HarnessMetricRegistry metricRegistry;
+  private final Map<String, LogStream> streams = new ConcurrentHashMap<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean running;
+  private volatile Thread dispatcherThread;
+
+  @Inject
+  public LogStreamingDispatcher(
+      @Named("logStreamingPushExecutor") ExecutorService pushExecutor, HarnessMetricRegistry metricRegistry) {
+    this.pushExecutor = pushExecutor;
+    this.metricRegistry = metricRegistry;
+  }
+
+  public void writeLogLine(LogStreamingClient logStreamingClient, String token, String accountId, String logKey,
+      LogLine logLine) {
+    LogStream stream =
+        streams.computeIfAbsent(logKey, key -> new LogStream(logStreamingClient, token, accountId, logKey));
+    stream.lastWriteAt = currentTimeMillis();
+    int pendingLines = stream.pending.incrementAndGet();
+    if (!stream.buffer.offer(logLine)) {
+      stream.pending.decrementAndGet();
+      metricRegistry.recordGaugeInc(LOG_STREAMING_DROPPED_LINES, new String[] {DELEGATE_NAME});
+      if (stream.dropping.compareAndSet(false, true)) {
+        log.warn("Log stream buffer for key {} is full, dropping log lines", logKey);
+      }
+      return;
+    }
+    stream.dropping.set(false);
+
+    if (pendingLines >= MAX_BATCH_SIZE) {
+      wakeUp();
+    }
+  }
+
+  /**
+   * Waits for all the lines of the stream to be pushed and forgets the stream.
+   * @return false if the stream was not drained within the timeout
+   */
+  public boolean closeStream(String logKey, long timeoutMillis) {
+    LogStream stream = streams.get(logKey);
+    if (stream == null) {
+      return true;
+    }
+
+    long endAt = currentTimeMillis() + timeoutMillis;
+    synchronized (stream) {
+      while (!stream.isDrained() && currentTimeMillis() < endAt) {
+        log.debug("for {} the logs are not drained yet. sleeping...", logKey);
+        wakeUp();
+        try {
+          stream.wait(FLUSH_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    streams.remove(logKey, stream);
+    return stream.isDrained();
+  }
+
+  /**
+   * Drains every stream that has no push in flight and submits one push per stream.
+   */
+  @VisibleForTesting
+  void dispatch() {
+    long now = currentTimeMillis();
+    int queueDepth = 0;
+    for (LogStream stream : streams.values()) {
+      queueDepth += stream.buffer.size();
+      if (stream.pending.get() == 0) {
+        if (now - stream.lastWriteAt > STREAM_IDLE_EXPIRY_MILLIS && !stream.pushing.get()
+            && streams.remove(stream.logKey, stream) && stream.pending.get() > 0) {
+          // A line sneaked in while the stream was being forgotten
+          streams.putIfAbsent(stream.logKey, stream);
+        }
+        continue;
+      }
+      if (!stream.pushing.compareAndSet(false, true)) {
+        continue;
+      }
+
+      List<LogLine> batch = new ArrayList<>(Math.min(stream.pending.get(), MAX_BATCH_SIZE));
+      stream.buffer.drainTo(batch, MAX_BATCH_SIZE);
+      if (batch.isEmpty()) {
+        stream.pushing.set(false);
+        continue;
+      }
+
+      try {
+        pushExecutor.submit(() -> push(stream, batch));
+      } catch (RejectedExecutionException e) {
+        push(stream, batch);
+      }
+    }
+    metricRegistry.recordGaugeValue(LOG_STREAMING_QUEUE_DEPTH, new String[] {DELEGATE_NAME}, queueDepth);
+  }
+
+  public void start() {
+    if (started.compareAndSet(false, true)) {
+      running = true;
+      dispatcherThread = new ThreadFactoryBuilder()
+                             .setNameFormat("log-streaming-dispatcher-%d")
+                             .setDaemon(true)
+                             .setPriority(Thread.NORM_PRIORITY)
+                             .build()
+                             .newThread(this::run);
+      dispatcherThread.start();
+    }
+  }
+
+  public void stop() {
+    running = false;
+    wakeUp();
+  }
+
+  private void push(LogStream stream, List<LogLine> batch) {
+    long startTime = currentTimeMillis();
+    try {
+      SafeHttpCall.executeWithExceptions(
+          stream.logStreamingClient.pushMessage(stream.token, stream.accountId, stream.logKey, batch));
+    } catch (Exception ex) {
+      log.error("Unable to push message to log stream for account {} and key {}", stream.accountId, stream.logKey, ex);
+    } finally {
+      metricRegistry.recordGaugeValue(
+          LOG_STREAMING_PUSH_LATENCY, new String[] {DELEGATE_NAME}, currentTimeMillis() - startTime);
+      stream.pending.addAndGet(-batch.size());
+      stream.pushing.set(false);
+      synchronized (stream) {
+        stream.notifyAll();
+      }
+    }
+    if (stream.pending.get() >= MAX_BATCH_SIZE) {
+      wakeUp();
+    }
+  }
+
+  private void wakeUp() {
+    Thread thread = dispatcherThread;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        dispatch();
+      } catch (Exception e) {
+        log.error("Unexpected error while dispatching log lines", e);
+      }
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS));
+    }
+    // Flush whatever was written during the shutdown
+    dispatch();
+  }
+
+  private static class LogStream {
+    private final LogStreamingClient logStreamingClient;
+    private final String token;
+    private final String accountId;
+    private final String logKey;
+    private final LogLineRingBuffer buffer = new LogLineRingBuffer(STREAM_CAPACITY);
+    // Lines accepted, but not pushed yet, including the ones of the batch in flight
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean pushing = new AtomicBoolean();
+    private final AtomicBoolean dropping = new AtomicBoolean();
+    private volatile long lastWriteAt = currentTimeMillis();
+
+    LogStream(LogStreamingClient logStreamingClient, String token, String accountId, String logKey) {
+      this.logStreamingClient = logStreamingClient;
+      this.token = token;
+      this.accountId = accountId;
+      this.logKey = logKey;
+    }
+
+    boolean isDrained() {
+      return pending.get() == 0 && !pushing.get();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.delegate.metrics.DelegateMetricsConstants.LOG_STREAMING_DROPPED_LINES;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class LogStreamingDispatcherTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String TOKEN = "token";
+
+  private final LogStreamingClient logStreamingClient = mock(LogStreamingClient.class);
+  private final HarnessMetricRegistry metricRegistry = mock(HarnessMetricRegistry.class);
+  private final LogStreamingDispatcher dispatcher =
+      new LogStreamingDispatcher(MoreExecutors.newDirectExecutorService(), metricRegistry);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushOneBatchPerStreamInOrder() {
+    List<LogLine> first = writeLines("key1", 3);
+    List<LogLine> second = writeLines("key2", 2);
+
+    dispatcher.dispatch();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClient).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key1"), captor.capture());
+    assertThat(captor.getValue()).containsExactlyElementsOf(first);
+    verify(logStreamingClient).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key2"), captor.capture());
+    assertThat(captor.getValue()).containsExactlyElementsOf(second);
+
+    dispatcher.dispatch();
+    verify(logStreamingClient, times(2)).pushMessage(any(), any(), any(), any());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSplitLargeStreamsIntoBatches() {
+    List<LogLine> lines = writeLines("key", LogStreamingDispatcher.MAX_BATCH_SIZE + 1);
+
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClient, times(2)).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq("key"), captor.capture());
+    List<LogLine> pushed = new ArrayList<>();
+    captor.getAllValues().forEach(pushed::addAll);
+    assertThat(pushed).containsExactlyElementsOf(lines);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLinesWhenBufferIsFull() {
+    writeLines("key", LogStreamingDispatcher.STREAM_CAPACITY);
+    verify(metricRegistry, never()).recordGaugeInc(eq(LOG_STREAMING_DROPPED_LINES), any());
+
+    writeLines("key", 1);
+    verify(metricRegistry).recordGaugeInc(eq(LOG_STREAMING_DROPPED_LINES), any());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCloseDrainedStream() {
+    writeLines("key", 1);
+    assertThat(dispatcher.closeStream("key", 10)).isFalse();
+
+    writeLines("key", 1);
+    dispatcher.dispatch();
+    assertThat(dispatcher.closeStream("key", 10)).isTrue();
+    assertThat(dispatcher.closeStream("unknown", 10)).isTrue();
+  }
+
+  private List<LogLine> writeLines(String logKey, int count) {
+    List<LogLine> lines = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      LogLine logLine = LogLine.builder().level(LogLevel.INFO).message("line " + i).build();
+      dispatcher.writeLogLine(logStreamingClient, TOKEN, ACCOUNT_ID, logKey, logLine);
+      lines.add(logLine);
+    }
+    return lines;
+  }
+}
@@ -23,11 +23,13 @@ import io.harness.category.element.UnitTests;
 import io.harness.exception.InvalidArgumentsException;
 import io.harness.logging.LogCallback;
 import io.harness.logging.LogLevel;
+import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.rule.Owner;
 
 import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.List;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -37,6 +39,8 @@ public class LogStreamingTaskClientTest extends CategoryTest {
   private final DelegateLogService logServiceMock = mock(DelegateLogService.class);
   private final LogStreamingClient logStreamingClientMock = mock(LogStreamingClient.class);
   private final LogStreamingSanitizer logStreamingSanitizerMock = mock(LogStreamingSanitizer.class);
+  private final LogStreamingDispatcher logStreamingDispatcher =
+      new LogStreamingDispatcher(MoreExecutors.newDirectExecutorService(), mock(HarnessMetricRegistry.class));
 
   private static final String ACCOUNT_ID = generateUuid();
   private static final String TOKEN = generateUuid();
@@ -49,6 +53,7 @@ public class LogStreamingTaskClientTest extends CategoryTest {
                                                                       .accountId(ACCOUNT_ID)
                                                                       .token(TOKEN)
                                                                       .logStreamingSanitizer(logStreamingSanitizerMock)
+                                                                      .logStreamingDispatcher(logStreamingDispatcher)
                                                                       .baseLogKey(BASE_LOG_KEY)
                                                                       .logService(logServiceMock)
                                                                       .appId(APP_ID)
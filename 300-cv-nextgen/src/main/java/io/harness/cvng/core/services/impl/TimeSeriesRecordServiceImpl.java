@@ -47,6 +47,9 @@ import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.services.api.demo.CVNGDemoDataIndexService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.metrics.CVNGMetricsUtils;
+import io.harness.cvng.metrics.beans.AccountMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.JsonUtils;
 
@@ -56,7 +59,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
+import com.mongodb.BulkWriteOperation;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -74,9 +79,9 @@ import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.mongodb.morphia.UpdateOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.UpdateOperations;
+import org.mongodb.morphia.query.UpdateOpsImpl;
 import org.reflections.Reflections;
 import org.reflections.scanners.ResourcesScanner;
 
@@ -91,23 +96,20 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
   @Inject private CVNGDemoDataIndexService cvngDemoDataIndexService;
+  @Inject private MetricService metricService;
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
     log.info("Saving {} data records", dataRecords.size());
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(dataRecords);
+    long startTime = System.currentTimeMillis();
+    Map<String, Map<String, TimeSeriesMetricType>> metricTypeMaps = new HashMap<>();
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(dataRecords, metricTypeMaps);
+    BulkWriteOperation bulkWriteOperation =
+        hPersistence.getCollection(TimeSeriesRecord.class).initializeUnorderedBulkOperation();
     timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
-      TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+      TimeSeriesMetricType metricType = getMetricTypeMap(metricTypeMaps, timeSeriesRecord.getVerificationTaskId())
+                                            .get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -132,13 +134,36 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
     });
+    if (isNotEmpty(timeSeriesRecordMap)) {
+      bulkWriteOperation.execute();
+    }
 
     saveHosts(dataRecords);
+    Duration saveTime = Duration.ofMillis(System.currentTimeMillis() - startTime);
+    log.info("Upserted {} time series records for {} data records in {} ms", timeSeriesRecordMap.size(),
+        dataRecords.size(), saveTime.toMillis());
+    try (AccountMetricContext accountMetricContext = new AccountMetricContext(dataRecords.get(0).getAccountId())) {
+      metricService.recordMetric(CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_COUNT, timeSeriesRecordMap.size());
+      metricService.recordDuration(CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_TIME, saveTime);
+    }
     return true;
   }
 
+  private Map<String, TimeSeriesMetricType> getMetricTypeMap(
+      Map<String, Map<String, TimeSeriesMetricType>> metricTypeMaps, String verificationTaskId) {
+    return metricTypeMaps.computeIfAbsent(verificationTaskId, taskId -> {
+      Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+      timeSeriesAnalysisService.getMetricTemplate(taskId).forEach(timeSeriesMetricDefinition
+          -> metricTypeMap.putIfAbsent(
+              timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      return metricTypeMap;
+    });
+  }
+
   @Value
   @Builder
   private static class TimeSeriesRecordBucketKey {
@@ -178,12 +203,9 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords, Map<String, Map<String, TimeSeriesMetricType>> metricTypeMaps) {
+    Map<String, TimeSeriesMetricType> metricTypeMap =
+        getMetricTypeMap(metricTypeMaps, dataRecords.get(0).getVerificationTaskId());
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
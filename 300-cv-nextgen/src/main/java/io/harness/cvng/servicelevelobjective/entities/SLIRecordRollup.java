@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.entities;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotation.StoreIn;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.CreatedAtAware;
+import io.harness.persistence.PersistentEntity;
+import io.harness.persistence.UpdatedAtAware;
+import io.harness.persistence.UuidAware;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.mongodb.morphia.annotations.Id;
+
+/**
+ * The first {@link SLIRecord} of every hour or day of an SLI. The running counts make any record a complete point of
+ * the SLI graph, so graphs of long time ranges read one rollup per bucket instead of scattered minute records.
+ */
+@Data
+@Builder
+@FieldNameConstants(innerTypeName = "SLIRecordRollupKeys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@Entity(value = "sliRecordRollups", noClassnameStored = true)
+@HarnessEntity(exportable = true)
+@OwnedBy(HarnessTeam.CV)
+@StoreIn(DbAliases.CVNG)
+public class SLIRecordRollup implements PersistentEntity, UuidAware, UpdatedAtAware, CreatedAtAware {
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("sli_granularity_bucket")
+                 .unique(true)
+                 .field(SLIRecordRollupKeys.sliId)
+                 .field(SLIRecordRollupKeys.granularity)
+                 .field(SLIRecordRollupKeys.bucketStartTime)
+                 .build())
+        .build();
+  }
+
+  @Id private String uuid;
+  private String verificationTaskId;
+  private String sliId;
+  private Granularity granularity;
+  private Instant bucketStartTime;
+  // The first record of the bucket
+  private Instant timestamp;
+  private SLIState sliState;
+  private long runningBadCount;
+  private long runningGoodCount;
+  private int sliVersion;
+  private long lastUpdatedAt;
+  private long createdAt;
+  @Builder.Default @FdTtlIndex private Date validUntil = Date.from(OffsetDateTime.now().plusDays(180).toInstant());
+
+  public SLIRecord toSLIRecord() {
+    return SLIRecord.builder()
+        .verificationTaskId(verificationTaskId)
+        .sliId(sliId)
+        .timestamp(timestamp)
+        .sliState(sliState)
+        .runningBadCount(runningBadCount)
+        .runningGoodCount(runningGoodCount)
+        .sliVersion(sliVersion)
+        .build();
+  }
+
+  public enum Granularity {
+    HOURLY(TimeUnit.HOURS.toMinutes(1)),
+    DAILY(TimeUnit.DAYS.toMinutes(1));
+
+    @Getter private final long minutes;
+
+    Granularity(long minutes) {
+      this.minutes = minutes;
+    }
+
+    public Instant bucketStartTime(Instant timestamp) {
+      long epochMinute = TimeUnit.SECONDS.toMinutes(timestamp.getEpochSecond());
+      return Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(epochMinute - Math.floorMod(epochMinute, minutes)));
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.harness.cvng.servicelevelobjective.services.impl;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthorityCount;
 
 import io.harness.annotations.retry.RetryOnException;
@@ -20,26 +21,37 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Granularity;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
 import io.harness.cvng.servicelevelobjective.services.api.SLIRecordService;
 import io.harness.persistence.HPersistence;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.mongodb.DuplicateKeyException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.mongodb.morphia.AdvancedDatastore;
+import org.mongodb.morphia.UpdateOptions;
 import org.mongodb.morphia.query.FindOptions;
+import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
+import org.mongodb.morphia.query.UpdateOperations;
 
 public class SLIRecordServiceImpl implements SLIRecordService {
   @VisibleForTesting static int MAX_NUMBER_OF_POINTS = 2000;
@@ -94,6 +106,7 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       sliRecordList.add(sliRecord);
     }
     hPersistence.save(sliRecordList);
+    updateRollups(sliRecordList);
   }
 
   @RetryOnException(retryCount = RETRY_COUNT, retryOn = ConcurrentModificationException.class)
@@ -132,6 +145,56 @@ public class SLIRecordServiceImpl implements SLIRecordService {
       }
     }
     hPersistence.save(updateOrCreateSLIRecords);
+    updateRollups(updateOrCreateSLIRecords);
+  }
+
+  // Keeps the rollups of the buckets of the saved records pointing to the first record of the bucket
+  private void updateRollups(List<SLIRecord> sliRecords) {
+    if (isEmpty(sliRecords)) {
+      return;
+    }
+    for (Granularity granularity : Granularity.values()) {
+      Map<Instant, SLIRecord> firstRecordByBucket = new HashMap<>();
+      for (SLIRecord sliRecord : sliRecords) {
+        firstRecordByBucket.merge(granularity.bucketStartTime(sliRecord.getTimestamp()), sliRecord,
+            (record1, record2) -> record1.getTimestamp().isAfter(record2.getTimestamp()) ? record2 : record1);
+      }
+      firstRecordByBucket.forEach(
+          (bucketStartTime, sliRecord) -> updateRollup(granularity, bucketStartTime, sliRecord));
+    }
+  }
+
+  /**
+   * Upserts the rollup of the bucket unless it already points to an earlier record. Concurrent writers of the same
+   * bucket race on the unique index, the loser retries as a plain update, which matches nothing when the rollup it
+   * lost to points to an earlier record.
+   */
+  private void updateRollup(Granularity granularity, Instant bucketStartTime, SLIRecord sliRecord) {
+    Query<SLIRecordRollup> query = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+                                       .filter(SLIRecordRollupKeys.sliId, sliRecord.getSliId())
+                                       .filter(SLIRecordRollupKeys.granularity, granularity)
+                                       .filter(SLIRecordRollupKeys.bucketStartTime, bucketStartTime)
+                                       .field(SLIRecordRollupKeys.timestamp)
+                                       .greaterThanOrEq(sliRecord.getTimestamp());
+    long now = clock.millis();
+    UpdateOperations<SLIRecordRollup> updateOperations =
+        hPersistence.createUpdateOperations(SLIRecordRollup.class)
+            .setOnInsert(SLIRecordRollupKeys.uuid, generateUuid())
+            .setOnInsert(SLIRecordRollupKeys.createdAt, now)
+            .setOnInsert(SLIRecordRollupKeys.validUntil, SLIRecordRollup.builder().build().getValidUntil())
+            .set(SLIRecordRollupKeys.verificationTaskId, sliRecord.getVerificationTaskId())
+            .set(SLIRecordRollupKeys.timestamp, sliRecord.getTimestamp())
+            .set(SLIRecordRollupKeys.sliState, sliRecord.getSliState())
+            .set(SLIRecordRollupKeys.runningBadCount, sliRecord.getRunningBadCount())
+            .set(SLIRecordRollupKeys.runningGoodCount, sliRecord.getRunningGoodCount())
+            .set(SLIRecordRollupKeys.sliVersion, sliRecord.getSliVersion())
+            .set(SLIRecordRollupKeys.lastUpdatedAt, now);
+    AdvancedDatastore datastore = hPersistence.getDatastore(SLIRecordRollup.class);
+    try {
+      datastore.update(query, updateOperations, new UpdateOptions().upsert(true));
+    } catch (DuplicateKeyException e) {
+      datastore.update(query, updateOperations, new UpdateOptions());
+    }
   }
 
   @Override
@@ -253,6 +316,11 @@ public class SLIRecordServiceImpl implements SLIRecordService {
     if (diff == 0) {
       diff = 1L;
     }
+    Granularity granularity = rollupGranularity(diff);
+    if (granularity != null) {
+      return sliRecordsFromRollups(sliId, granularity, diff, startTime, endTime,
+          Arrays.asList(firstRecord, firstRecordInRange, lastRecordInRange, lastRecord));
+    }
     // long reminder = totalMinutes % maxNumberOfPoints;
     minutes.add(firstRecord.getTimestamp());
     minutes.add(startTime);
@@ -271,6 +339,65 @@ public class SLIRecordServiceImpl implements SLIRecordService {
         .asList();
   }
 
+  // The coarsest rollup that still has a record for every point
+  private static Granularity rollupGranularity(long minutesPerPoint) {
+    Granularity granularity = null;
+    for (Granularity candidate : Granularity.values()) {
+      if (candidate.getMinutes() <= minutesPerPoint
+          && (granularity == null || candidate.getMinutes() > granularity.getMinutes())) {
+        granularity = candidate;
+      }
+    }
+    return granularity;
+  }
+
+  private List<SLIRecord> sliRecordsFromRollups(String sliId, Granularity granularity, long minutesPerPoint,
+      Instant startTime, Instant endTime, List<SLIRecord> boundaryRecords) {
+    // Records written before the rollups existed are still read per minute
+    SLIRecordRollup firstRollup = hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+                                      .filter(SLIRecordRollupKeys.sliId, sliId)
+                                      .filter(SLIRecordRollupKeys.granularity, granularity)
+                                      .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+                                      .get();
+    Instant rolledUpFrom = firstRollup == null ? endTime : firstRollup.getBucketStartTime();
+    List<Instant> minutes = new ArrayList<>();
+    List<Instant> bucketStartTimes = new ArrayList<>();
+    Duration diffDuration = Duration.ofMinutes(minutesPerPoint / granularity.getMinutes() * granularity.getMinutes());
+    for (Instant current = granularity.bucketStartTime(startTime); current.isBefore(endTime);
+         current = current.plus(diffDuration)) {
+      if (current.isBefore(rolledUpFrom)) {
+        minutes.add(current);
+      } else {
+        bucketStartTimes.add(current);
+      }
+    }
+
+    Map<Instant, SLIRecord> sliRecordByTimestamp = new TreeMap<>();
+    if (!minutes.isEmpty()) {
+      hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
+          .filter(SLIRecordKeys.sliId, sliId)
+          .field(SLIRecordKeys.timestamp)
+          .in(minutes)
+          .asList()
+          .forEach(sliRecord -> sliRecordByTimestamp.put(sliRecord.getTimestamp(), sliRecord));
+    }
+    if (!bucketStartTimes.isEmpty()) {
+      hPersistence.createQuery(SLIRecordRollup.class, excludeAuthorityCount)
+          .filter(SLIRecordRollupKeys.sliId, sliId)
+          .filter(SLIRecordRollupKeys.granularity, granularity)
+          .field(SLIRecordRollupKeys.bucketStartTime)
+          .in(bucketStartTimes)
+          .asList()
+          .forEach(rollup -> sliRecordByTimestamp.put(rollup.getTimestamp(), rollup.toSLIRecord()));
+    }
+    // The first bucket can start before the range
+    sliRecordByTimestamp.keySet().removeIf(timestamp -> timestamp.isBefore(startTime) || !timestamp.isBefore(endTime));
+    boundaryRecords.stream()
+        .filter(Objects::nonNull)
+        .forEach(sliRecord -> sliRecordByTimestamp.put(sliRecord.getTimestamp(), sliRecord));
+    return new ArrayList<>(sliRecordByTimestamp.values());
+  }
+
   @VisibleForTesting
   List<SLIRecord> getSLIRecords(String sliId, Instant startTimeStamp, Instant endTimeStamp) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthorityCount)
@@ -286,6 +413,8 @@ public class SLIRecordServiceImpl implements SLIRecordService {
   @Override
   public void delete(List<String> sliIds) {
     hPersistence.delete(hPersistence.createQuery(SLIRecord.class).field(SLIRecordKeys.sliId).in(sliIds));
+    hPersistence.delete(
+        hPersistence.createQuery(SLIRecordRollup.class).field(SLIRecordRollupKeys.sliId).in(sliIds));
   }
 
   private SLIRecord getLastSLIRecord(String sliId, Instant startTimeStamp) {
@@ -14,6 +14,7 @@ import static io.harness.cvng.core.services.CVNextGenConstants.PERFORMANCE_PACK_
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.rule.OwnerRule.KAMAL;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.PRAVEEN;
 import static io.harness.rule.OwnerRule.RAGHU;
 import static io.harness.rule.OwnerRule.SOWMYA;
@@ -22,6 +23,8 @@ import static io.harness.rule.TestUserProvider.testUserProvider;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CvNextGenTestBase;
@@ -511,6 +514,47 @@ public class TimeSeriesRecordServiceImplTest extends CvNextGenTestBase {
     });
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSave_resolvesMetricTemplatesOnce() {
+    List<TimeSeriesDataCollectionRecord> collectionRecords = new ArrayList<>();
+    for (int i = 0; i < 3 * CV_ANALYSIS_WINDOW_MINUTES; i++) {
+      TimeSeriesDataCollectionRecord collectionRecord = TimeSeriesDataCollectionRecord.builder()
+                                                            .accountId(accountId)
+                                                            .verificationTaskId(verificationTaskId)
+                                                            .host("host-" + i % 2)
+                                                            .timeStamp(TimeUnit.MINUTES.toMillis(i))
+                                                            .metricValues(new HashSet<>())
+                                                            .build();
+      for (int j = 0; j < 4; j++) {
+        TimeSeriesDataRecordMetricValue metricValue = TimeSeriesDataRecordMetricValue.builder()
+                                                          .metricName("metric-" + j)
+                                                          .metricIdentifier("metricIdentifier-" + j)
+                                                          .timeSeriesValues(new HashSet<>())
+                                                          .build();
+        metricValue.getTimeSeriesValues().add(
+            TimeSeriesDataRecordGroupValue.builder().value(random.nextDouble()).groupName("group").build());
+        collectionRecord.getMetricValues().add(metricValue);
+      }
+      collectionRecords.add(collectionRecord);
+    }
+    timeSeriesRecordService.save(collectionRecords);
+
+    verify(timeSeriesAnalysisService, times(1)).getMetricTemplate(verificationTaskId);
+    List<TimeSeriesRecord> timeSeriesRecords = hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+                                                   .filter(TimeSeriesRecordKeys.verificationTaskId, verificationTaskId)
+                                                   .asList();
+    // 3 buckets x 2 hosts x 4 metrics
+    assertThat(timeSeriesRecords).hasSize(24);
+    timeSeriesRecords.forEach(timeSeriesRecord -> assertThat(timeSeriesRecord.getMetricType()).isNotNull());
+    List<Integer> groupValueCounts = timeSeriesRecords.stream()
+                                         .map(timeSeriesRecord -> timeSeriesRecord.getTimeSeriesGroupValues().size())
+                                         .collect(Collectors.toList());
+    assertThat(groupValueCounts).containsOnly(2, 3);
+    assertThat(groupValueCounts.stream().mapToInt(Integer::intValue).sum()).isEqualTo(collectionRecords.size() * 4);
+  }
+
   @Test
   @Owner(developers = SOWMYA)
   @Category(UnitTests.class)
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cvng.servicelevelobjective.services.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CvNextGenTestBase;
+import io.harness.category.element.StressTests;
+import io.harness.cvng.servicelevelobjective.beans.SLIMissingDataType;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Time to load the graphs of a dashboard of many SLOs, from the hourly rollups and from the minute records.
+ */
+@Slf4j
+public class SLIRecordServiceImplStressTest extends CvNextGenTestBase {
+  private static final int SLO_COUNT = 1000;
+  private static final int DAYS = 2;
+  // Dashboard widget density making the points a couple of hours apart
+  private static final int POINTS = 24;
+
+  @Inject private SLIRecordServiceImpl sliRecordService;
+  @Inject private HPersistence hPersistence;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareDashboardLoadFromRollupsAndRecords() {
+    SLIRecordServiceImpl.MAX_NUMBER_OF_POINTS = POINTS;
+    Instant startTime = Instant.parse("2020-07-27T00:00:00Z");
+    Instant endTime = startTime.plus(Duration.ofDays(DAYS));
+    List<String> sliIds = new ArrayList<>();
+    for (int i = 0; i < SLO_COUNT; i++) {
+      String sliId = generateUuid();
+      sliRecordService.create(sliRecordParams(startTime, endTime), sliId, generateUuid(), 0);
+      sliIds.add(sliId);
+    }
+
+    run("rollups", sliIds, startTime, endTime);
+    hPersistence.delete(hPersistence.createQuery(SLIRecordRollup.class));
+    run("records", sliIds, startTime, endTime);
+  }
+
+  private void run(String name, List<String> sliIds, Instant startTime, Instant endTime) {
+    // Warm up with the first slos
+    for (int i = 0; i < 50; i++) {
+      sliRecordService.getGraphData(sliIds.get(i), startTime, endTime, 1000, SLIMissingDataType.GOOD, 0);
+    }
+    long start = System.nanoTime();
+    for (String sliId : sliIds) {
+      sliRecordService.getGraphData(sliId, startTime, endTime, 1000, SLIMissingDataType.GOOD, 0);
+    }
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+    log.info("Dashboard of {} slos from {}: {} ms, {} ms per slo", sliIds.size(), name, elapsedMillis,
+        (double) elapsedMillis / sliIds.size());
+  }
+
+  private static List<SLIRecordParam> sliRecordParams(Instant startTime, Instant endTime) {
+    List<SLIRecordParam> sliRecordParams = new ArrayList<>();
+    int i = 0;
+    for (Instant minute = startTime; minute.isBefore(endTime); minute = minute.plus(Duration.ofMinutes(1))) {
+      SLIState sliState = i++ % 10 == 0 ? SLIState.BAD : SLIState.GOOD;
+      sliRecordParams.add(SLIRecordParam.builder().sliState(sliState).timeStamp(minute).build());
+    }
+    return sliRecordParams;
+  }
+}
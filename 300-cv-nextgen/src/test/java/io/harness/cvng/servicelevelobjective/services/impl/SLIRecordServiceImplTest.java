@@ -16,6 +16,7 @@ import static io.harness.rule.OwnerRule.ARPITJ;
 import static io.harness.rule.OwnerRule.DEEPAK_CHHIKARA;
 import static io.harness.rule.OwnerRule.KAMAL;
 import static io.harness.rule.OwnerRule.KAPIL;
+import static io.harness.rule.OwnerRule.MARKO;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.data.Offset.offset;
@@ -32,6 +33,9 @@ import io.harness.cvng.servicelevelobjective.entities.SLIRecord;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordKeys;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIRecordParam;
 import io.harness.cvng.servicelevelobjective.entities.SLIRecord.SLIState;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.Granularity;
+import io.harness.cvng.servicelevelobjective.entities.SLIRecordRollup.SLIRecordRollupKeys;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
 
@@ -373,6 +377,102 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     testGraphCalculation(sliStates, SLIMissingDataType.GOOD, expectedSLITrend, expectedBurndown, 35, 4, 0);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testCreate_rollups() {
+    Instant startTime = Instant.parse("2020-07-27T10:30:00Z");
+    createData(startTime, nStates(150));
+
+    List<SLIRecordRollup> hourlyRollups = getRollups(Granularity.HOURLY);
+    assertThat(hourlyRollups).hasSize(3);
+    assertThat(hourlyRollups.get(0).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T10:00:00Z"));
+    assertThat(hourlyRollups.get(0).getTimestamp()).isEqualTo(startTime);
+    assertThat(hourlyRollups.get(1).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T11:00:00Z"));
+    assertThat(hourlyRollups.get(1).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T11:00:00Z"));
+    assertThat(hourlyRollups.get(2).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T12:00:00Z"));
+    assertRollupMatchesRecord(hourlyRollups.get(1));
+    assertRollupMatchesRecord(hourlyRollups.get(2));
+
+    List<SLIRecordRollup> dailyRollups = getRollups(Granularity.DAILY);
+    assertThat(dailyRollups).hasSize(1);
+    assertThat(dailyRollups.get(0).getBucketStartTime()).isEqualTo(Instant.parse("2020-07-27T00:00:00Z"));
+    assertThat(dailyRollups.get(0).getTimestamp()).isEqualTo(startTime);
+
+    createData(startTime.minus(Duration.ofMinutes(10)), nStates(5));
+    hourlyRollups = getRollups(Granularity.HOURLY);
+    assertThat(hourlyRollups).hasSize(3);
+    assertThat(hourlyRollups.get(0).getTimestamp()).isEqualTo(startTime.minus(Duration.ofMinutes(10)));
+    assertRollupMatchesRecord(hourlyRollups.get(0));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testUpdate_rollups() {
+    Instant startTime = Instant.parse("2020-07-27T10:00:00Z");
+    createData(startTime, nStates(150));
+    List<SLIState> updatedStates = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      updatedStates.add(BAD);
+    }
+    sliRecordService.create(getSLIRecordParam(startTime.plus(Duration.ofMinutes(30)), updatedStates), sliId,
+        verificationTaskId, 1);
+
+    List<SLIRecordRollup> hourlyRollups = getRollups(Granularity.HOURLY);
+    assertThat(hourlyRollups).hasSize(3);
+    assertThat(hourlyRollups.get(1).getSliVersion()).isEqualTo(1);
+    assertThat(hourlyRollups.get(2).getSliVersion()).isEqualTo(0);
+    hourlyRollups.forEach(this::assertRollupMatchesRecord);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testCreate_rollupsKeepEarlierRecordOfBucket() {
+    Instant startTime = Instant.parse("2020-07-27T10:30:00Z");
+    hPersistence.save(SLIRecordRollup.builder()
+                          .sliId(sliId)
+                          .verificationTaskId(verificationTaskId)
+                          .granularity(Granularity.HOURLY)
+                          .bucketStartTime(Instant.parse("2020-07-27T10:00:00Z"))
+                          .timestamp(Instant.parse("2020-07-27T10:05:00Z"))
+                          .sliState(GOOD)
+                          .sliVersion(7)
+                          .build());
+    createData(startTime, nStates(90));
+
+    List<SLIRecordRollup> hourlyRollups = getRollups(Granularity.HOURLY);
+    assertThat(hourlyRollups).hasSize(2);
+    assertThat(hourlyRollups.get(0).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T10:05:00Z"));
+    assertThat(hourlyRollups.get(0).getSliVersion()).isEqualTo(7);
+    assertThat(hourlyRollups.get(1).getTimestamp()).isEqualTo(Instant.parse("2020-07-27T11:00:00Z"));
+    assertRollupMatchesRecord(hourlyRollups.get(1));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetGraphData_fromHourlyRollups() {
+    Instant startTime = Instant.parse("2020-07-27T10:00:00Z");
+    createData(startTime, nStates(600));
+    Instant endTime = startTime.plus(Duration.ofMinutes(600));
+
+    SLOGraphData fromRollups =
+        sliRecordService.getGraphData(sliId, startTime, endTime, 1000, SLIMissingDataType.GOOD, 0);
+    assertThat(fromRollups.getSloPerformanceTrend())
+        .extracting(Point::getTimestamp)
+        .containsExactly(startTime.toEpochMilli(), startTime.plus(Duration.ofHours(2)).toEpochMilli(),
+            startTime.plus(Duration.ofHours(4)).toEpochMilli(), startTime.plus(Duration.ofHours(6)).toEpochMilli(),
+            startTime.plus(Duration.ofHours(8)).toEpochMilli(), endTime.minus(Duration.ofMinutes(1)).toEpochMilli());
+
+    // Without the rollups the same minutes are read from the records
+    hPersistence.delete(hPersistence.createQuery(SLIRecordRollup.class).filter(SLIRecordRollupKeys.sliId, sliId));
+    SLOGraphData fromRecords =
+        sliRecordService.getGraphData(sliId, startTime, endTime, 1000, SLIMissingDataType.GOOD, 0);
+    assertThat(fromRollups).isEqualTo(fromRecords);
+  }
+
   @Test
   @Owner(developers = KAPIL)
   @Category(UnitTests.class)
@@ -398,6 +498,33 @@ public class SLIRecordServiceImplTest extends CvNextGenTestBase {
     }
     return sliRecordParams;
   }
+  private List<SLIState> nStates(int count) {
+    List<SLIState> sliStates = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      sliStates.add(i % 3 == 0 ? BAD : i % 3 == 1 ? GOOD : NO_DATA);
+    }
+    return sliStates;
+  }
+
+  private List<SLIRecordRollup> getRollups(Granularity granularity) {
+    return hPersistence.createQuery(SLIRecordRollup.class, excludeAuthority)
+        .filter(SLIRecordRollupKeys.sliId, sliId)
+        .filter(SLIRecordRollupKeys.granularity, granularity)
+        .order(Sort.ascending(SLIRecordRollupKeys.bucketStartTime))
+        .asList();
+  }
+
+  private void assertRollupMatchesRecord(SLIRecordRollup rollup) {
+    SLIRecord sliRecord = hPersistence.createQuery(SLIRecord.class, excludeAuthority)
+                              .filter(SLIRecordKeys.sliId, sliId)
+                              .filter(SLIRecordKeys.timestamp, rollup.getTimestamp())
+                              .get();
+    assertThat(rollup.getRunningGoodCount()).isEqualTo(sliRecord.getRunningGoodCount());
+    assertThat(rollup.getRunningBadCount()).isEqualTo(sliRecord.getRunningBadCount());
+    assertThat(rollup.getSliState()).isEqualTo(sliRecord.getSliState());
+    assertThat(rollup.getSliVersion()).isEqualTo(sliRecord.getSliVersion());
+  }
+
   private SLIRecord getLastRecord(String sliId) {
     return hPersistence.createQuery(SLIRecord.class, excludeAuthority)
         .filter(SLIRecordKeys.sliId, sliId)
@@ -73,6 +73,7 @@ import io.harness.serializer.YamlBeansModuleRegistrars;
 import io.harness.service.impl.DelegateAsyncServiceImpl;
 import io.harness.service.impl.DelegateProgressServiceImpl;
 import io.harness.service.impl.DelegateSyncServiceImpl;
+import io.harness.service.impl.DelegateSyncTaskResponseTracker;
 import io.harness.sto.plan.creator.STOPipelineServiceInfoProvider;
 import io.harness.token.remote.TokenClient;
 import io.harness.waiter.NotifierScheduledExecutorService;
@@ -383,6 +384,7 @@ public class STOManagerApplication extends Application<STOManagerConfiguration>
             injector.getInstance(NotifyResponseCleaner.class), random.nextInt(300), 300L, TimeUnit.SECONDS);
     injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("taskPollExecutor")))
         .scheduleWithFixedDelay(injector.getInstance(DelegateSyncServiceImpl.class), 0L, 2L, TimeUnit.SECONDS);
+    injector.getInstance(DelegateSyncTaskResponseTracker.class).start();
 
     for (int i = 0; i < config.getAsyncDelegateResponseConsumption().getCorePoolSize(); i++) {
       injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("async-taskPollExecutor")))
@@ -92,6 +92,7 @@ import io.harness.serializer.YamlBeansModuleRegistrars;
 import io.harness.service.impl.DelegateAsyncServiceImpl;
 import io.harness.service.impl.DelegateProgressServiceImpl;
 import io.harness.service.impl.DelegateSyncServiceImpl;
+import io.harness.service.impl.DelegateSyncTaskResponseTracker;
 import io.harness.telemetry.CiTelemetryRecordsJob;
 import io.harness.token.remote.TokenClient;
 import io.harness.waiter.NotifierScheduledExecutorService;
@@ -388,6 +389,7 @@ public class CIManagerApplication extends Application<CIManagerConfiguration> {
             injector.getInstance(NotifyResponseCleaner.class), random.nextInt(300), 300L, TimeUnit.SECONDS);
     injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("taskPollExecutor")))
         .scheduleWithFixedDelay(injector.getInstance(DelegateSyncServiceImpl.class), 0L, 2L, TimeUnit.SECONDS);
+    injector.getInstance(DelegateSyncTaskResponseTracker.class).start();
 
     for (int i = 0; i < config.getAsyncDelegateResponseConsumption().getCorePoolSize(); i++) {
       injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named("async-taskPollExecutor")))
@@ -8,13 +8,17 @@
 package software.wings.app;
 
 import static io.harness.beans.DelegateTask.Status.QUEUED;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.exception.WingsException.ExecutionContext.MANAGER;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.maintenance.MaintenanceController.getMaintenanceFlag;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_RETRY;
 import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_REBROADCAST;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
+import static java.util.stream.Collectors.toList;
+
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
@@ -34,6 +38,7 @@ import io.harness.version.VersionInfoManager;
 import software.wings.beans.TaskType;
 import software.wings.core.managerConfiguration.ConfigurationController;
 import software.wings.service.impl.DelegateTaskBroadcastHelper;
+import software.wings.service.impl.DelegateTaskDispatcher;
 import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateSelectionLogsService;
 import software.wings.service.intfc.DelegateService;
@@ -68,6 +73,7 @@ public class DelegateQueueTask implements Runnable {
   @Inject private AssignDelegateService assignDelegateService;
   @Inject private DelegateService delegateService;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskDispatcher delegateTaskDispatcher;
   @Inject private ConfigurationController configurationController;
   @Inject private DelegateTaskService delegateTaskService;
   @Inject private DelegateSelectionLogsService delegateSelectionLogsService;
@@ -76,6 +82,7 @@ public class DelegateQueueTask implements Runnable {
 
   private static long BROADCAST_INTERVAL = TimeUnit.MINUTES.toMillis(1);
   private static int MAX_BROADCAST_ROUND = 3;
+  private static final int BROADCAST_LIMIT = 10;
 
   @Override
   public void run() {
@@ -84,6 +91,7 @@ public class DelegateQueueTask implements Runnable {
     }
 
     try {
+      delegateTaskDispatcher.expireLeases();
       rebroadcastUnassignedTasks();
     } catch (WingsException exception) {
       ExceptionLogger.logProcessedMessages(exception, MANAGER, log);
@@ -122,29 +130,51 @@ public class DelegateQueueTask implements Runnable {
           continue;
         }
 
-        // add connected eligible delegates to broadcast list. Also rotate the eligibleDelegatesList list
-        List<String> broadcastToDelegates = Lists.newArrayList();
-        int broadcastLimit = Math.min(eligibleDelegatesList.size(), 10);
-
-        Iterator<String> delegateIdIterator = eligibleDelegatesList.iterator();
+        boolean targetedDispatch =
+            featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, delegateTask.getAccountId());
+        List<String> dispatchCandidates =
+            targetedDispatch ? getDispatchCandidates(delegateTask, eligibleDelegatesList) : eligibleDelegatesList;
 
-        while (delegateIdIterator.hasNext() && broadcastLimit > broadcastToDelegates.size()) {
-          String delegateId = eligibleDelegatesList.removeFirst();
-          broadcastToDelegates.add(delegateId);
-          eligibleDelegatesList.addLast(delegateId);
-        }
         long nextInterval = TimeUnit.SECONDS.toMillis(5);
         int broadcastRoundCount = delegateTask.getBroadcastRound();
         Set<String> alreadyTriedDelegates =
             Optional.ofNullable(delegateTask.getAlreadyTriedDelegates()).orElse(Sets.newHashSet());
 
         // if all delegates got one round of rebroadcast, then increase broadcast interval & broadcastRound
-        if (alreadyTriedDelegates.containsAll(delegateTask.getEligibleToExecuteDelegateIds())) {
+        if (alreadyTriedDelegates.containsAll(dispatchCandidates)) {
           alreadyTriedDelegates.clear();
           broadcastRoundCount++;
           nextInterval = (long) broadcastRoundCount * BROADCAST_INTERVAL;
         }
+
+        List<String> broadcastToDelegates = Lists.newArrayList();
+        if (targetedDispatch) {
+          // dispatch to the least loaded delegate not tried yet in this round, the next one once its lease expires
+          String delegateId = delegateTaskDispatcher.selectDelegate(
+              delegateTask.getAccountId(), dispatchCandidates, alreadyTriedDelegates);
+          if (delegateId != null) {
+            broadcastToDelegates.add(delegateId);
+          }
+        } else {
+          // add connected eligible delegates to broadcast list. Also rotate the eligibleDelegatesList list
+          int broadcastLimit = Math.min(eligibleDelegatesList.size(), BROADCAST_LIMIT);
+
+          Iterator<String> delegateIdIterator = eligibleDelegatesList.iterator();
+
+          while (delegateIdIterator.hasNext() && broadcastLimit > broadcastToDelegates.size()) {
+            String delegateId = eligibleDelegatesList.removeFirst();
+            broadcastToDelegates.add(delegateId);
+            eligibleDelegatesList.addLast(delegateId);
+          }
+        }
         alreadyTriedDelegates.addAll(broadcastToDelegates);
+        if (targetedDispatch) {
+          nextInterval = DelegateTaskDispatcher.DISPATCH_LEASE;
+          // when the last delegate of the round does not acquire the task either, the next round starts after a backoff
+          if (alreadyTriedDelegates.containsAll(dispatchCandidates)) {
+            nextInterval += (long) (broadcastRoundCount + 1) * BROADCAST_INTERVAL;
+          }
+        }
 
         UpdateOperations<DelegateTask> updateOperations =
             persistence.createUpdateOperations(DelegateTask.class)
@@ -169,11 +199,29 @@ public class DelegateQueueTask implements Runnable {
           log.info("ST: Rebroadcast queued task id {} on broadcast attempt: {} on round {} to {} ",
               delegateTask.getUuid(), delegateTask.getBroadcastCount(), delegateTask.getBroadcastRound(),
               delegateTask.getBroadcastToDelegateIds());
-          delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_REBROADCAST);
+          if (targetedDispatch) {
+            delegateTaskDispatcher.lease(delegateTask, broadcastToDelegates);
+            delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_DISPATCH_RETRY);
+          } else {
+            delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_REBROADCAST);
+          }
           broadcastHelper.rebroadcastDelegateTask(delegateTask);
           count++;
         }
       }
     }
   }
+
+  // The connected delegates, only the whitelisted ones when any is, as for the first dispatch of the task
+  private List<String> getDispatchCandidates(DelegateTask delegateTask, List<String> eligibleDelegates) {
+    List<String> connectedDelegates = assignDelegateService.getConnectedDelegateList(eligibleDelegates, delegateTask);
+    List<String> candidates = isEmpty(connectedDelegates) ? eligibleDelegates : connectedDelegates;
+    List<String> whitelistedDelegates =
+        candidates.stream()
+            .filter(delegateId
+                -> assignDelegateService.isDelegateGroupWhitelisted(delegateTask, delegateId)
+                    || assignDelegateService.isWhitelisted(delegateTask, delegateId))
+            .collect(toList());
+    return whitelistedDelegates.isEmpty() ? candidates : whitelistedDelegates;
+  }
 }
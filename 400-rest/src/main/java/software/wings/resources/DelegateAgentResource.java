@@ -603,6 +603,7 @@ public class DelegateAgentResource {
         .ng(delegateParams.isNg())
         .sampleDelegate(delegateParams.isSampleDelegate())
         .currentlyExecutingDelegateTasks(delegateParams.getCurrentlyExecutingDelegateTasks())
+        .resourceThresholdReached(delegateParams.isResourceThresholdReached())
         .location(delegateParams.getLocation())
         .build();
   }
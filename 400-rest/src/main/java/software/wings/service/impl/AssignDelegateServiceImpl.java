@@ -25,6 +25,7 @@ import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_N
 import static com.google.common.cache.CacheLoader.InvalidCacheLoadException;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -75,6 +76,7 @@ import software.wings.service.intfc.EnvironmentService;
 import software.wings.service.intfc.InfrastructureMappingService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -94,6 +96,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -126,6 +129,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
   public static final long WHITELIST_TTL = TimeUnit.HOURS.toMillis(6);
   public static final long BLACKLIST_TTL = TimeUnit.MINUTES.toMillis(5);
   private static final long WHITELIST_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+  // Same as the validity of the delegates in the delegate cache the eligibility index is built from
+  private static final long ELIGIBILITY_INDEX_SYNC_INTERVAL = TimeUnit.MINUTES.toMillis(1);
 
   private static final String NO_ACTIVE_DELEGATES = "Account has no active delegates";
 
@@ -181,6 +186,28 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  private LoadingCache<ImmutablePair<String, String>, Set<String>> whitelistedDelegatesCache =
+      CacheBuilder.newBuilder()
+          .maximumSize(10000)
+          .expireAfterWrite(2, TimeUnit.MINUTES)
+          .build(new CacheLoader<ImmutablePair<String, String>, Set<String>>() {
+            @Override
+            public Set<String> load(ImmutablePair<String, String> key) {
+              Set<String> delegateIds = ConcurrentHashMap.newKeySet();
+              persistence.createQuery(DelegateConnectionResult.class)
+                  .filter(DelegateConnectionResultKeys.accountId, key.getLeft())
+                  .filter(DelegateConnectionResultKeys.criteria, key.getRight())
+                  .filter(DelegateConnectionResultKeys.validated, true)
+                  .project(DelegateConnectionResultKeys.delegateId, true)
+                  .asList()
+                  .forEach(result -> delegateIds.add(result.getDelegateId()));
+              return delegateIds;
+            }
+          });
+
+  private Cache<String, DelegateEligibilityIndex> eligibilityIndexes =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(1, TimeUnit.HOURS).build();
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
@@ -669,28 +696,25 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     List<String> delegateIds = new ArrayList<>();
 
     try {
-      List<String> connectedEligibleDelegates =
-          retrieveActiveDelegates(task.getAccountId(), task)
-              .stream()
-              .filter(delegateId -> task.getEligibleToExecuteDelegateIds().contains(delegateId))
-              .collect(toList());
+      Set<String> eligibleDelegateIds = new HashSet<>(task.getEligibleToExecuteDelegateIds());
+      List<String> connectedEligibleDelegates = retrieveActiveDelegates(task.getAccountId(), task)
+                                                    .stream()
+                                                    .filter(eligibleDelegateIds::contains)
+                                                    .collect(toList());
 
       List<String> criteria = fetchCriteria(task);
       if (isEmpty(criteria)) {
         return connectedEligibleDelegates;
       }
 
+      // One set of validated delegates per criterion instead of one connection result per delegate and criterion
+      List<Set<String>> whitelistedDelegates = new ArrayList<>();
+      for (String criterion : criteria) {
+        whitelistedDelegates.add(whitelistedDelegatesCache.get(ImmutablePair.of(task.getAccountId(), criterion)));
+      }
+
       for (String delegateId : connectedEligibleDelegates) {
-        boolean matching = true;
-        for (String criterion : criteria) {
-          Optional<DelegateConnectionResult> result =
-              delegateConnectionResultCache.get(ImmutablePair.of(delegateId, criterion));
-          if (!result.isPresent() || !result.get().isValidated()) {
-            matching = false;
-            break;
-          }
-        }
-        if (matching) {
+        if (whitelistedDelegates.stream().allMatch(whitelisted -> whitelisted.contains(delegateId))) {
           delegateIds.add(delegateId);
         }
       }
@@ -766,6 +790,16 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
               .setOnInsert(DelegateConnectionResultKeys.validUntil, result.getValidUntil())
               .set(DelegateConnectionResultKeys.validated, result.isValidated());
       persistence.upsert(query, updateOperations, upsertReturnNewOptions);
+
+      Set<String> whitelistedDelegates =
+          whitelistedDelegatesCache.getIfPresent(ImmutablePair.of(result.getAccountId(), result.getCriteria()));
+      if (whitelistedDelegates != null) {
+        if (result.isValidated()) {
+          whitelistedDelegates.add(result.getDelegateId());
+        } else {
+          whitelistedDelegates.remove(result.getDelegateId());
+        }
+      }
     }
   }
 
@@ -874,10 +908,14 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return eligibleDelegateIds;
       }
 
+      DelegateEligibilityIndex eligibilityIndex = getEligibilityIndex(task.getAccountId());
+      Set<String> candidateDelegateIds =
+          eligibilityIndex.getDelegates(task.getData().getTaskType(), fetchTaskSelectors(task));
       eligibleDelegateIds =
           delegates.stream()
               .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
+                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                      && canAssignTask(eligibilityIndex, candidateDelegateIds, delegate.getUuid(), task))
               .map(Delegate::getUuid)
               .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -916,18 +954,55 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     boolean canAssignTaskToDelegate =
         canAssignTaskToDelegate(delegate.getSupportedTaskTypes(), task.getData().getTaskType());
     if (!canAssignTaskToDelegate) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_TASK_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_TASK_GROUP).add(delegateName);
+      addNonAssignableDelegate(task, CAN_NOT_ASSIGN_TASK_GROUP, delegateName);
       log.debug("Delegate {} does not support task {} which is of type {}", delegateId, task.getUuid(),
           task.getData().getTaskType());
       return canAssignTaskToDelegate;
     }
 
+    if (!canAssignTaskScopes(delegate, task, delegateName)) {
+      return false;
+    }
+
+    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
+    if (!canAssignSelectors) {
+      addNonAssignableDelegate(task, CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP, delegateName);
+      log.debug("can not assign canAssignSelectors {}", canAssignSelectors);
+      return canAssignSelectors;
+    }
+    return true;
+  }
+
+  /**
+   * Same checks as {@link #canAssignTask(String, DelegateTask)}, with the task type and selector checks answered by
+   * the eligibility index. Only the delegates supporting the task type and having its selectors are evaluated against
+   * the scopes, which depend on the application and environment of the task.
+   */
+  private boolean canAssignTask(DelegateEligibilityIndex eligibilityIndex, Set<String> candidateDelegateIds,
+      String delegateId, DelegateTask task) {
+    DelegateEligibilityIndex.Entry entry = eligibilityIndex.get(delegateId);
+    if (entry == null) {
+      return canAssignTask(delegateId, task);
+    }
+
+    if (!candidateDelegateIds.contains(delegateId)) {
+      String taskType = task.getData().getTaskType();
+      addNonAssignableDelegate(task,
+          taskType != null && entry.getTaskTypes().contains(taskType) ? CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP
+                                                                      : CAN_NOT_ASSIGN_TASK_GROUP,
+          entry.getDelegateName());
+      return false;
+    }
+
+    Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
+    return delegate != null && canAssignTaskScopes(delegate, task, entry.getDelegateName());
+  }
+
+  private boolean canAssignTaskScopes(Delegate delegate, DelegateTask task, String delegateName) {
     boolean canAssignDelegateScopes = canAssignDelegateScopes(delegate, task);
 
     if (!canAssignDelegateScopes) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP).add(delegateName);
+      addNonAssignableDelegate(task, CAN_NOT_ASSIGN_DELEGATE_SCOPE_GROUP, delegateName);
       log.debug("can not assign canAssignDelegateScopes {}", canAssignDelegateScopes);
       return canAssignDelegateScopes;
     }
@@ -936,20 +1011,113 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         canAssignDelegateProfileScopes(delegate, task.getSetupAbstractions(), task.getUuid());
 
     if (!canAssignDelegateProfileScopes) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP).add(delegateName);
+      addNonAssignableDelegate(task, CAN_NOT_ASSIGN_PROFILE_SCOPE_GROUP, delegateName);
       log.debug("can not assign canAssignDelegateProfileScopes {}", canAssignDelegateProfileScopes);
       return canAssignDelegateProfileScopes;
     }
+    return true;
+  }
 
-    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
-    if (!canAssignSelectors) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP).add(delegateName);
-      log.debug("can not assign canAssignSelectors {}", canAssignSelectors);
-      return canAssignSelectors;
+  private void addNonAssignableDelegate(DelegateTask task, String reason, String delegateName) {
+    task.getNonAssignableDelegates().computeIfAbsent(reason, key -> new ArrayList<>()).add(delegateName);
+  }
+
+  private Set<String> fetchTaskSelectors(DelegateTask task) {
+    if (isEmpty(task.getExecutionCapabilities())) {
+      return emptySet();
+    }
+    List<SelectorCapability> selectorCapabilities =
+        delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities());
+    if (isEmpty(selectorCapabilities)) {
+      return emptySet();
+    }
+    log.info("Selectors received : {}", selectorCapabilities);
+
+    Set<String> selectors = new HashSet<>();
+    for (SelectorCapability selectorCapability : selectorCapabilities) {
+      if (isNotEmpty(selectorCapability.getSelectors())) {
+        selectors.addAll(trimmedLowercaseSet(selectorCapability.getSelectors()));
+      }
+    }
+    return selectors;
+  }
+
+  /**
+   * Returns the eligibility index of the account, rebuilding it from the delegate cache when the delegates of the
+   * account were reloaded or the index was not synced in the last minute. In between, the index is kept up to date by
+   * the delegate updates and heartbeats processed by this manager.
+   */
+  private DelegateEligibilityIndex getEligibilityIndex(String accountId) {
+    List<Delegate> accountDelegates = getAccountDelegates(accountId);
+    DelegateEligibilityIndex eligibilityIndex =
+        eligibilityIndexes.asMap().computeIfAbsent(accountId, key -> new DelegateEligibilityIndex());
+    if (eligibilityIndex.needsSync(accountDelegates, currentTimeMillis(), ELIGIBILITY_INDEX_SYNC_INTERVAL)) {
+      synchronized (eligibilityIndex) {
+        long now = currentTimeMillis();
+        if (eligibilityIndex.needsSync(accountDelegates, now, ELIGIBILITY_INDEX_SYNC_INTERVAL)) {
+          Set<String> delegateIds = new HashSet<>();
+          for (Delegate accountDelegate : accountDelegates) {
+            Delegate delegate = delegateCache.get(accountId, accountDelegate.getUuid(), false);
+            if (delegate != null) {
+              delegateIds.add(delegate.getUuid());
+              eligibilityIndex.put(toEligibilityIndexEntry(delegate));
+            }
+          }
+          eligibilityIndex.retainAll(delegateIds);
+          eligibilityIndex.markSynced(accountDelegates, now);
+        }
+      }
+    }
+    return eligibilityIndex;
+  }
+
+  private DelegateEligibilityIndex.Entry toEligibilityIndexEntry(Delegate delegate) {
+    String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+    Set<String> taskTypes =
+        delegate.getSupportedTaskTypes() == null ? emptySet() : new HashSet<>(delegate.getSupportedTaskTypes());
+    Set<String> selectors = trimmedLowercaseSet(delegateService.retrieveDelegateSelectors(delegate, true));
+    return new DelegateEligibilityIndex.Entry(delegate.getUuid(), delegateName, delegate.getDelegateProfileId(),
+        taskTypes, selectors == null ? emptySet() : selectors);
+  }
+
+  @Override
+  public void onDelegateUpdated(Delegate delegate) {
+    if (delegate == null) {
+      return;
+    }
+    // Indexes are built on the first task assignment for the account
+    DelegateEligibilityIndex eligibilityIndex = eligibilityIndexes.getIfPresent(delegate.getAccountId());
+    if (eligibilityIndex == null) {
+      return;
+    }
+    try {
+      if (delegate.getStatus() == DelegateInstanceStatus.DELETED) {
+        eligibilityIndex.remove(delegate.getUuid());
+      } else {
+        eligibilityIndex.put(toEligibilityIndexEntry(delegate));
+      }
+    } catch (Exception e) {
+      log.warn("Unable to update eligibility index for delegate {}", delegate.getUuid(), e);
+    }
+  }
+
+  @Override
+  public void onDelegateDeleted(String accountId, String delegateId) {
+    DelegateEligibilityIndex eligibilityIndex = eligibilityIndexes.getIfPresent(accountId);
+    if (eligibilityIndex != null) {
+      eligibilityIndex.remove(delegateId);
+    }
+  }
+
+  @Override
+  public void onDelegateProfileUpdated(String accountId, String delegateProfileId) {
+    DelegateEligibilityIndex eligibilityIndex = eligibilityIndexes.getIfPresent(accountId);
+    if (eligibilityIndex == null) {
+      return;
+    }
+    for (String delegateId : eligibilityIndex.getDelegatesWithProfile(delegateProfileId)) {
+      onDelegateUpdated(delegateCache.get(accountId, delegateId, false));
     }
-    return true;
   }
 
   @Override
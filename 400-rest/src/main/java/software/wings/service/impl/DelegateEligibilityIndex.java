@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import static java.util.Collections.emptySet;
+import static java.util.Comparator.comparingInt;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
+/**
+ * Inverted index of the delegates of an account, from the task types they support and the selectors they have to the
+ * ids of the delegates. The delegates able to take a task are found by intersecting the posting lists of its task type
+ * and selectors, instead of evaluating every delegate of the account against the task.
+ */
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateEligibilityIndex {
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> delegatesByTaskType = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> delegatesBySelector = new ConcurrentHashMap<>();
+
+  private volatile List<Delegate> syncedAccountDelegates;
+  private volatile long syncedAt;
+
+  @Value
+  public static class Entry {
+    String delegateId;
+    String delegateName;
+    String delegateProfileId;
+    Set<String> taskTypes;
+    Set<String> selectors;
+  }
+
+  public Entry get(String delegateId) {
+    return entries.get(delegateId);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Adds or replaces the entry of a delegate. Posting lists are only touched when the task types or selectors of the
+   * delegate changed, so indexing a delegate on every heartbeat is cheap.
+   */
+  public synchronized void put(Entry entry) {
+    Entry previous = entries.put(entry.getDelegateId(), entry);
+    if (previous != null && previous.getTaskTypes().equals(entry.getTaskTypes())
+        && previous.getSelectors().equals(entry.getSelectors())) {
+      return;
+    }
+    if (previous != null) {
+      removePostings(delegatesByTaskType, previous.getTaskTypes(), previous.getDelegateId());
+      removePostings(delegatesBySelector, previous.getSelectors(), previous.getDelegateId());
+    }
+    addPostings(delegatesByTaskType, entry.getTaskTypes(), entry.getDelegateId());
+    addPostings(delegatesBySelector, entry.getSelectors(), entry.getDelegateId());
+  }
+
+  public synchronized void remove(String delegateId) {
+    Entry previous = entries.remove(delegateId);
+    if (previous != null) {
+      removePostings(delegatesByTaskType, previous.getTaskTypes(), delegateId);
+      removePostings(delegatesBySelector, previous.getSelectors(), delegateId);
+    }
+  }
+
+  public synchronized void retainAll(Set<String> delegateIds) {
+    for (String delegateId : new ArrayList<>(entries.keySet())) {
+      if (!delegateIds.contains(delegateId)) {
+        remove(delegateId);
+      }
+    }
+  }
+
+  public List<String> getDelegatesWithProfile(String delegateProfileId) {
+    List<String> delegateIds = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      if (Objects.equals(entry.getDelegateProfileId(), delegateProfileId)) {
+        delegateIds.add(entry.getDelegateId());
+      }
+    }
+    return delegateIds;
+  }
+
+  /**
+   * Returns the ids of the delegates supporting the task type and having all the selectors, which are expected to be
+   * trimmed and lower cased.
+   */
+  public Set<String> getDelegates(String taskType, Set<String> selectors) {
+    if (taskType == null) {
+      return emptySet();
+    }
+    List<Set<String>> postings = new ArrayList<>();
+    postings.add(delegatesByTaskType.getOrDefault(taskType, emptySet()));
+    if (isNotEmpty(selectors)) {
+      for (String selector : selectors) {
+        postings.add(delegatesBySelector.getOrDefault(selector, emptySet()));
+      }
+    }
+
+    // Walk the shortest posting list and probe the others
+    postings.sort(comparingInt(Set::size));
+    Set<String> delegateIds = new HashSet<>();
+    for (String delegateId : postings.get(0)) {
+      boolean matching = true;
+      for (int i = 1; i < postings.size(); i++) {
+        if (!postings.get(i).contains(delegateId)) {
+          matching = false;
+          break;
+        }
+      }
+      if (matching) {
+        delegateIds.add(delegateId);
+      }
+    }
+    return delegateIds;
+  }
+
+  /**
+   * Whether the index has to be rebuilt from the delegates of the account, either because the list of delegates of the
+   * account was reloaded or because the entries may be older than the delegate, group and profile data they come from.
+   */
+  public boolean needsSync(List<Delegate> accountDelegates, long now, long syncInterval) {
+    return syncedAccountDelegates != accountDelegates || syncedAt < now - syncInterval;
+  }
+
+  public void markSynced(List<Delegate> accountDelegates, long now) {
+    syncedAccountDelegates = accountDelegates;
+    syncedAt = now;
+  }
+
+  private static void addPostings(Map<String, Set<String>> postings, Collection<String> keys, String delegateId) {
+    for (String key : keys) {
+      postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(delegateId);
+    }
+  }
+
+  private static void removePostings(Map<String, Set<String>> postings, Collection<String> keys, String delegateId) {
+    for (String key : keys) {
+      Set<String> delegateIds = postings.get(key);
+      if (delegateIds != null) {
+        delegateIds.remove(delegateId);
+        if (delegateIds.isEmpty()) {
+          postings.remove(key, delegateIds);
+        }
+      }
+    }
+  }
+}
@@ -56,6 +56,7 @@ import io.harness.validation.SuppressValidation;
 
 import software.wings.beans.Account;
 import software.wings.beans.Event;
+import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateProfileService;
 import software.wings.service.intfc.account.AccountCrudObserver;
 import software.wings.utils.Utils;
@@ -100,6 +101,7 @@ public class DelegateProfileServiceImpl implements DelegateProfileService, Accou
   @Inject private FeatureFlagService featureFlagService;
   @Inject private SecretService secretService;
   @Inject private DelegateCache delegateCache;
+  @Inject private AssignDelegateService assignDelegateService;
   @Inject @Named(EventsFrameworkConstants.ENTITY_CRUD) private Producer eventProducer;
 
   @Getter(onMethod = @__(@SuppressValidation))
@@ -178,6 +180,7 @@ public class DelegateProfileServiceImpl implements DelegateProfileService, Accou
     // Update and invalidate cache
     persistence.update(query, updateOperations);
     delegateCache.invalidateDelegateProfileCache(delegateProfile.getAccountId(), delegateProfile.getUuid());
+    assignDelegateService.onDelegateProfileUpdated(delegateProfile.getAccountId(), delegateProfile.getUuid());
 
     DelegateProfile updatedDelegateProfile = get(delegateProfile.getAccountId(), delegateProfile.getUuid());
     log.info("Updated delegate profile: {}", updatedDelegateProfile.getUuid());
@@ -247,6 +250,7 @@ public class DelegateProfileServiceImpl implements DelegateProfileService, Accou
     DelegateProfile delegateProfileSelectorsUpdated =
         persistence.findAndModify(delegateProfileQuery, updateOperations, returnNewOptions);
     delegateCache.invalidateDelegateProfileCache(accountId, delegateProfileId);
+    assignDelegateService.onDelegateProfileUpdated(accountId, delegateProfileId);
     log.info("Updated delegate profile selectors: {}", delegateProfileSelectorsUpdated.getSelectors());
 
     auditServiceHelper.reportForAuditingUsingAccountId(
@@ -274,6 +278,7 @@ public class DelegateProfileServiceImpl implements DelegateProfileService, Accou
     DelegateProfile delegateProfileSelectorsUpdated =
         persistence.findAndModify(delegateProfileQuery, updateOperations, returnNewOptions);
     delegateCache.invalidateDelegateProfileCache(accountId, delegateProfileSelectorsUpdated.getUuid());
+    assignDelegateService.onDelegateProfileUpdated(accountId, delegateProfileSelectorsUpdated.getUuid());
     log.info("Updated delegate profile selectors: {}", delegateProfileSelectorsUpdated.getSelectors());
 
     auditServiceHelper.reportForAuditingUsingAccountId(
@@ -383,6 +383,7 @@ public class DelegateServiceImpl implements DelegateService {
   @Inject private ConfigService configService;
   @Inject private PersistentLocker persistentLocker;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskDispatcher delegateTaskDispatcher;
   @Inject private AuditServiceHelper auditServiceHelper;
   @Inject private SubdomainUrlHelperIntfc subdomainUrlHelper;
   @Inject private ConfigurationController configurationController;
@@ -1132,12 +1133,15 @@ public class DelegateServiceImpl implements DelegateService {
 
   @Override
   public Delegate updateHeartbeatForDelegateWithPollingEnabled(Delegate delegate) {
+    UpdateOperations<Delegate> updateOperations =
+        persistence.createUpdateOperations(Delegate.class)
+            .set(DelegateKeys.lastHeartBeat, currentTimeMillis())
+            .set(DelegateKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant()));
+    delegateTaskDispatcher.getReportedLoad(delegate).forEach(updateOperations::set);
     persistence.update(persistence.createQuery(Delegate.class)
                            .filter(DelegateKeys.accountId, delegate.getAccountId())
                            .filter(DelegateKeys.uuid, delegate.getUuid()),
-        persistence.createUpdateOperations(Delegate.class)
-            .set(DelegateKeys.lastHeartBeat, currentTimeMillis())
-            .set(DelegateKeys.validUntil, Date.from(OffsetDateTime.now().plusDays(Delegate.TTL.toDays()).toInstant())));
+        updateOperations);
     delegateTaskService.touchExecutingTasks(
         delegate.getAccountId(), delegate.getUuid(), delegate.getCurrentlyExecutingDelegateTasks());
 
@@ -1222,6 +1226,7 @@ public class DelegateServiceImpl implements DelegateService {
       }
     }
 
+    delegateTaskDispatcher.getReportedLoad(delegate).forEach(updateOperations::set);
     persistence.update(persistence.createQuery(Delegate.class)
                            .filter(DelegateKeys.accountId, delegate.getAccountId())
                            .filter(DelegateKeys.uuid, delegate.getUuid()),
@@ -1231,7 +1236,9 @@ public class DelegateServiceImpl implements DelegateService {
 
     eventEmitter.send(Channel.DELEGATES,
         anEvent().withOrgId(delegate.getAccountId()).withUuid(delegate.getUuid()).withType(Type.UPDATE).build());
-    return delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    Delegate updatedDelegate = delegateCache.get(delegate.getAccountId(), delegate.getUuid(), true);
+    assignDelegateService.onDelegateUpdated(updatedDelegate);
+    return updatedDelegate;
   }
 
   private String processTemplate(Map<String, String> scriptParams, String template) throws IOException {
@@ -2315,6 +2322,7 @@ public class DelegateServiceImpl implements DelegateService {
     log.info("Adding delegate {} for account {}", delegate.getHostName(), delegate.getAccountId());
     persistence.save(delegate);
     log.info("Delegate saved: {}", delegate);
+    assignDelegateService.onDelegateUpdated(delegate);
     return delegate;
   }
 
@@ -2357,6 +2365,7 @@ public class DelegateServiceImpl implements DelegateService {
     persistence.delete(persistence.createQuery(Delegate.class)
                            .filter(DelegateKeys.accountId, accountId)
                            .filter(DelegateKeys.uuid, delegateId));
+    assignDelegateService.onDelegateDeleted(accountId, delegateId);
     sendDelegateDeleteAuditEvent(existingDelegate, accountId);
     log.info("Delegate: {} deleted.", delegateId);
   }
@@ -2702,6 +2711,7 @@ public class DelegateServiceImpl implements DelegateService {
                                   .proxy(delegateParams.isProxy())
                                   .sampleDelegate(delegateParams.isSampleDelegate())
                                   .currentlyExecutingDelegateTasks(delegateParams.getCurrentlyExecutingDelegateTasks())
+                                  .resourceThresholdReached(delegateParams.isResourceThresholdReached())
                                   .ceEnabled(delegateParams.isCeEnabled())
                                   .delegateTokenName(delegateTokenName.orElse(null))
                                   .heartbeatAsObject(delegateParams.isHeartbeatAsObject())
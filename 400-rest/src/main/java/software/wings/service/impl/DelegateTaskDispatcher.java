@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_LATENCY;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_QUEUE_DEPTH;
+
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toList;
+
+import io.harness.annotations.dev.HarnessModule;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.annotations.dev.TargetModule;
+import io.harness.beans.DelegateTask;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.Delegate.DelegateKeys;
+import io.harness.ff.FeatureFlagService;
+import io.harness.metrics.intfc.DelegateMetricsService;
+import io.harness.service.intfc.DelegateCache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the delegates a task is dispatched to, instead of broadcasting the task to every eligible delegate and
+ * letting them race to acquire it. Every heartbeat stores the number of tasks the delegate executes on the delegate
+ * record, so that all the managers share the same view of the loads. The tasks in flight on a delegate are the tasks
+ * of its last heartbeat, plus the tasks this manager dispatched to it or saw it acquire since. Delegates reporting
+ * they reached their resource threshold are only chosen when no other delegate is left, and delegates which did not
+ * report their load recently, because they are disconnected or were never seen, are chosen last.
+ *
+ * A dispatched task is leased to its delegate, so that the delegate is charged with the task until it acquires it or
+ * the lease expires. The nextBroadcast of a dispatched task is the expiry of its lease, so a task the delegate did not
+ * acquire in time is dispatched to the next delegate.
+ */
+@Singleton
+@Slf4j
+@TargetModule(HarnessModule._420_DELEGATE_SERVICE)
+@OwnedBy(DEL)
+public class DelegateTaskDispatcher {
+  public static final long DISPATCH_LEASE = TimeUnit.SECONDS.toMillis(5);
+  // Heartbeats may be sent a few seconds before they are received
+  private static final long HEARTBEAT_LAG = TimeUnit.SECONDS.toMillis(5);
+  // Loads older than this were reported by delegates which are no longer connected
+  private static final long LOAD_EXPIRY = TimeUnit.MINUTES.toMillis(5);
+  private static final long DELEGATE_LOAD_TTL = TimeUnit.MINUTES.toMillis(10);
+  private static final long RESOURCE_THRESHOLD_RANK = Integer.MAX_VALUE;
+  private static final long UNKNOWN_LOAD_RANK = 2L * Integer.MAX_VALUE;
+
+  @Inject private Clock clock;
+  @Inject private DelegateMetricsService delegateMetricsService;
+  @Inject private DelegateCache delegateCache;
+  @Inject private FeatureFlagService featureFlagService;
+
+  private final Map<String, DelegateLoad> delegateLoads = new ConcurrentHashMap<>();
+  private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+  // Tasks this manager dispatched to a delegate, or saw it acquire, which its heartbeats may not count yet
+  private static class DelegateLoad {
+    private volatile long updatedAt;
+    private final Set<String> leasedTaskIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> acquiredTaskIds = new ConcurrentHashMap<>();
+
+    private int getTasksSince(long loadReportedAt) {
+      int tasks = leasedTaskIds.size();
+      for (long acquiredAt : acquiredTaskIds.values()) {
+        if (acquiredAt >= loadReportedAt - HEARTBEAT_LAG) {
+          tasks++;
+        }
+      }
+      return tasks;
+    }
+  }
+
+  @Value
+  private static class Lease {
+    Collection<String> delegateIds;
+    long expiresAt;
+  }
+
+  /**
+   * Returns the load fields to store on the delegate record with the heartbeat of the delegate, none when the heartbeat
+   * does not report the tasks the delegate executes.
+   */
+  public Map<String, Object> getReportedLoad(Delegate delegate) {
+    if (delegate == null || delegate.getCurrentlyExecutingDelegateTasks() == null
+        || !featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, delegate.getAccountId())) {
+      return ImmutableMap.of();
+    }
+    return ImmutableMap.of(DelegateKeys.numberOfExecutingTasks, delegate.getCurrentlyExecutingDelegateTasks().size(),
+        DelegateKeys.resourceThresholdReached, delegate.isResourceThresholdReached(), DelegateKeys.loadReportedAt,
+        clock.millis());
+  }
+
+  /**
+   * Returns the delegate with the fewest tasks in flight, see {@link #selectDelegates}.
+   */
+  public String selectDelegate(String accountId, Collection<String> delegateIds, Set<String> excludedDelegateIds) {
+    List<String> selectedDelegateIds = selectDelegates(accountId, delegateIds, excludedDelegateIds, 1);
+    return selectedDelegateIds.isEmpty() ? null : selectedDelegateIds.get(0);
+  }
+
+  /**
+   * Returns up to limit delegates ordered by their tasks in flight, preferring delegates below their resource threshold
+   * and delegates which reported their load recently. The excluded delegates are only returned when no other delegate
+   * is left. Ties are broken by the order of the delegates.
+   */
+  public List<String> selectDelegates(
+      String accountId, Collection<String> delegateIds, Set<String> excludedDelegateIds, int limit) {
+    long now = clock.millis();
+    Map<String, Long> ranks = new HashMap<>();
+    for (String delegateId : delegateIds) {
+      if (!excludedDelegateIds.contains(delegateId)) {
+        ranks.putIfAbsent(delegateId, rank(accountId, delegateId, now));
+      }
+    }
+    if (ranks.isEmpty() && !excludedDelegateIds.isEmpty()) {
+      return selectDelegates(accountId, delegateIds, emptySet(), limit);
+    }
+    return delegateIds.stream()
+        .filter(ranks::containsKey)
+        .distinct()
+        .sorted(Comparator.comparing(ranks::get))
+        .limit(limit)
+        .collect(toList());
+  }
+
+  // Charges each of the delegates the task was dispatched to with the task, until one of them acquires it
+  public void lease(DelegateTask task, Collection<String> delegateIds) {
+    long now = clock.millis();
+    Lease previous = leases.put(task.getUuid(), new Lease(new ArrayList<>(delegateIds), now + DISPATCH_LEASE));
+    if (previous != null) {
+      release(task.getUuid(), previous);
+    }
+    for (String delegateId : delegateIds) {
+      getDelegateLoad(delegateId, now).leasedTaskIds.add(task.getUuid());
+    }
+  }
+
+  public void onTaskAssigned(DelegateTask task, String delegateId) {
+    long now = clock.millis();
+    Lease lease = leases.remove(task.getUuid());
+    if (lease != null) {
+      release(task.getUuid(), lease);
+    }
+    getDelegateLoad(delegateId, now).acquiredTaskIds.put(task.getUuid(), now);
+    delegateMetricsService.recordDelegateTaskDuration(
+        task, DELEGATE_TASK_DISPATCH_LATENCY, Duration.ofMillis(Math.max(0, now - task.getCreatedAt())));
+  }
+
+  /**
+   * Releases the leases which expired before their delegate acquired the task, so that the delegate is no longer
+   * charged with the task when the task is dispatched to the next delegate. Returns the number of expired leases.
+   */
+  public int expireLeases() {
+    long now = clock.millis();
+    int expired = 0;
+    for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+      if (entry.getValue().getExpiresAt() < now && leases.remove(entry.getKey(), entry.getValue())) {
+        release(entry.getKey(), entry.getValue());
+        expired++;
+      }
+    }
+    for (DelegateLoad delegateLoad : delegateLoads.values()) {
+      // Tasks acquired before the last heartbeats were counted by them
+      delegateLoad.acquiredTaskIds.values().removeIf(acquiredAt -> acquiredAt < now - DELEGATE_LOAD_TTL);
+    }
+    delegateLoads.values().removeIf(delegateLoad
+        -> delegateLoad.updatedAt < now - DELEGATE_LOAD_TTL && delegateLoad.leasedTaskIds.isEmpty());
+    delegateMetricsService.recordDelegateTaskValue(DELEGATE_TASK_DISPATCH_QUEUE_DEPTH, leases.size());
+    if (expired > 0) {
+      log.info("Released {} expired task dispatch leases, {} leases left", expired, leases.size());
+    }
+    return expired;
+  }
+
+  @VisibleForTesting
+  int getInFlightTasks(String accountId, String delegateId) {
+    Delegate delegate = delegateCache.get(accountId, delegateId, false);
+    return delegate == null ? getTasksSince(delegateId, 0) : getInFlightTasks(delegate);
+  }
+
+  private long rank(String accountId, String delegateId, long now) {
+    Delegate delegate = delegateCache.get(accountId, delegateId, false);
+    if (delegate == null || delegate.getLoadReportedAt() < now - LOAD_EXPIRY) {
+      return UNKNOWN_LOAD_RANK + getTasksSince(delegateId, 0);
+    }
+    return (delegate.isResourceThresholdReached() ? RESOURCE_THRESHOLD_RANK : 0L) + getInFlightTasks(delegate);
+  }
+
+  private int getInFlightTasks(Delegate delegate) {
+    return delegate.getNumberOfExecutingTasks() + getTasksSince(delegate.getUuid(), delegate.getLoadReportedAt());
+  }
+
+  private int getTasksSince(String delegateId, long loadReportedAt) {
+    DelegateLoad delegateLoad = delegateLoads.get(delegateId);
+    return delegateLoad == null ? 0 : delegateLoad.getTasksSince(loadReportedAt);
+  }
+
+  private DelegateLoad getDelegateLoad(String delegateId, long now) {
+    DelegateLoad delegateLoad = delegateLoads.computeIfAbsent(delegateId, id -> new DelegateLoad());
+    delegateLoad.updatedAt = now;
+    return delegateLoad;
+  }
+
+  private void release(String taskId, Lease lease) {
+    for (String delegateId : lease.getDelegateIds()) {
+      DelegateLoad delegateLoad = delegateLoads.get(delegateId);
+      if (delegateLoad != null) {
+        delegateLoad.leasedTaskIds.remove(taskId);
+      }
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static io.harness.beans.DelegateTask.Status.ERROR;
 import static io.harness.beans.DelegateTask.Status.QUEUED;
 import static io.harness.beans.DelegateTask.Status.STARTED;
 import static io.harness.beans.DelegateTask.Status.runningStatuses;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
 import static io.harness.beans.FeatureName.GIT_HOST_CONNECTIVITY;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
@@ -44,6 +45,7 @@ import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.NO_EL
 
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
@@ -253,6 +255,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @Inject private ArtifactCollectionUtils artifactCollectionUtils;
   @Inject private PersistentLocker persistentLocker;
   @Inject private DelegateTaskBroadcastHelper broadcastHelper;
+  @Inject private DelegateTaskDispatcher delegateTaskDispatcher;
   @Inject private AuditServiceHelper auditServiceHelper;
   @Inject private SubdomainUrlHelperIntfc subdomainUrlHelper;
   @Inject private ConfigurationController configurationController;
@@ -477,8 +480,11 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
         }
         // shuffle the eligible delegates to evenly distribute the load
         Collections.shuffle(eligibleListOfDelegates);
-        task.setBroadcastToDelegateIds(
-            Lists.newArrayList(getDelegateIdForFirstBroadcast(task, eligibleListOfDelegates)));
+        boolean targetedDispatch = featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, task.getAccountId());
+        if (!targetedDispatch) {
+          task.setBroadcastToDelegateIds(
+              Lists.newArrayList(getDelegateIdForFirstBroadcast(task, eligibleListOfDelegates)));
+        }
         if (isNotEmpty(task.getEligibleToExecuteDelegateIds())) {
           // case when caller send eligibleDelegateIds where we skip assignment process, different selection log message
           delegateSelectionLogsService.logEligibleDelegatesToExecuteTask(
@@ -506,6 +512,12 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
             throw new NoAvailableDelegatesException();
           }
         }
+        if (targetedDispatch) {
+          String delegateId =
+              getDelegateIdForTargetedDispatch(task, connectedEligibleDelegates, eligibleListOfDelegates);
+          task.setBroadcastToDelegateIds(Lists.newArrayList(delegateId));
+          task.setAlreadyTriedDelegates(Sets.newHashSet(delegateId));
+        }
         checkTaskRankRateLimit(task.getRank());
 
         // Added temporarily to help to identifying tasks whose task setup abstractions need to be fixed
@@ -522,7 +534,14 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
         if (task.getData().isAsync()) {
           task.setNextBroadcast(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5));
         }
+        // A targeted task is dispatched to the next delegate once the lease of the first one expires
+        if (targetedDispatch) {
+          task.setNextBroadcast(System.currentTimeMillis() + DelegateTaskDispatcher.DISPATCH_LEASE);
+        }
         persistence.save(task);
+        if (targetedDispatch) {
+          delegateTaskDispatcher.lease(task, task.getBroadcastToDelegateIds());
+        }
         delegateSelectionLogsService.logBroadcastToDelegate(Sets.newHashSet(task.getBroadcastToDelegateIds()), task);
         delegateMetricsService.recordDelegateTaskMetrics(task, DELEGATE_TASK_CREATION);
         log.info("Task {} marked as {} with first attempt broadcast to {}", task.getUuid(), taskStatus,
@@ -551,6 +570,26 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     return eligibleListOfDelegates.get(random.nextInt(eligibleListOfDelegates.size()));
   }
 
+  private String getDelegateIdForTargetedDispatch(
+      DelegateTask delegateTask, List<String> connectedEligibleDelegates, List<String> eligibleListOfDelegates) {
+    List<String> delegateIds =
+        isEmpty(connectedEligibleDelegates) ? eligibleListOfDelegates : connectedEligibleDelegates;
+    // As for the first broadcast, delegates which already validated the task criteria are preferred
+    List<String> whitelistedDelegateIds = new ArrayList<>();
+    for (String delegateId : delegateIds) {
+      if (assignDelegateService.isDelegateGroupWhitelisted(delegateTask, delegateId)
+          || assignDelegateService.isWhitelisted(delegateTask, delegateId)) {
+        whitelistedDelegateIds.add(delegateId);
+      }
+    }
+    if (whitelistedDelegateIds.isEmpty()) {
+      delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_NO_FIRST_WHITELISTED);
+      printCriteriaNoMatch(delegateTask);
+      return delegateTaskDispatcher.selectDelegate(delegateTask.getAccountId(), delegateIds, emptySet());
+    }
+    return delegateTaskDispatcher.selectDelegate(delegateTask.getAccountId(), whitelistedDelegateIds, emptySet());
+  }
+
   private void handleTaskFailureResponse(DelegateTask task, String errorMessage) {
     Query<DelegateTask> taskQuery = persistence.createQuery(DelegateTask.class)
                                         .filter(DelegateTaskKeys.accountId, task.getAccountId())
@@ -1087,6 +1126,7 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
           DelegateTaskServiceClassicImpl.class, delegateTask.getAccountId(), taskId);
 
       delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_ACQUIRE);
+      delegateTaskDispatcher.onTaskAssigned(task, delegateId);
 
       return resolvePreAssignmentExpressions(task, SecretManagerMode.APPLY);
     }
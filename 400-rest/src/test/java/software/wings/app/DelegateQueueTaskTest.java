@@ -7,13 +7,17 @@
 
 package software.wings.app;
 
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.JENNY;
+import static io.harness.rule.OwnerRule.MARKO;
 
+import static software.wings.service.impl.DelegateTaskDispatcher.DISPATCH_LEASE;
 import static software.wings.utils.WingsTestConstants.ACCOUNT_ID;
 import static software.wings.utils.WingsTestConstants.DELEGATE_ID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -34,6 +38,8 @@ import software.wings.WingsBaseTest;
 import software.wings.beans.DelegateTaskBroadcast;
 import software.wings.beans.TaskType;
 import software.wings.service.impl.DelegateTaskBroadcastHelper;
+import software.wings.service.impl.DelegateTaskDispatcher;
+import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.DelegateService;
 import software.wings.service.intfc.DelegateTaskServiceClassic;
 
@@ -55,8 +61,10 @@ public class DelegateQueueTaskTest extends WingsBaseTest {
   @Mock private FeatureFlagService featureFlagService;
   @Mock private DelegateTaskServiceClassic delegateTaskServiceClassic;
   @Mock private DelegateService delegateService;
+  @Mock private AssignDelegateService assignDelegateService;
   @InjectMocks @Inject DelegateQueueTask delegateQueueTask;
   @Inject private BroadcasterFactory broadcasterFactory;
+  @Inject private DelegateTaskDispatcher delegateTaskDispatcher;
 
   @Inject HPersistence persistence;
   @Inject private VersionInfoManager versionInfoManager;
@@ -464,4 +472,62 @@ public class DelegateQueueTaskTest extends WingsBaseTest {
     assertThat(taskAfterBroadcast7.getBroadcastCount()).isEqualTo(7);
     assertThat(taskAfterBroadcast7.getBroadcastRound()).isEqualTo(3);
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTargetedDispatchToLeastLoadedConnectedDelegatesNotTriedYet() {
+    DelegateTask delegateTask = DelegateTask.builder()
+                                    .accountId(ACCOUNT_ID)
+                                    .version(versionInfoManager.getVersionInfo().getVersion())
+                                    .status(Status.QUEUED)
+                                    .expiry(System.currentTimeMillis() + 60000)
+                                    .data(TaskData.builder().taskType(TaskType.HTTP.name()).async(true).build())
+                                    .build();
+    Broadcaster broadcaster = mock(Broadcaster.class);
+    when(broadcasterFactory.lookup(anyString(), eq(true))).thenReturn(broadcaster);
+    when(featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, ACCOUNT_ID)).thenReturn(true);
+    delegateTask.setBroadcastCount(0);
+    delegateTask.setNextBroadcast(System.currentTimeMillis());
+    delegateTask.setEligibleToExecuteDelegateIds(new LinkedList<>(Arrays.asList(DELEGATE_ID, "d1", "d2", "d3")));
+    delegateTask.setAlreadyTriedDelegates(Collections.singleton(DELEGATE_ID));
+    persistence.save(delegateTask);
+    when(assignDelegateService.getConnectedDelegateList(any(), any()))
+        .thenReturn(Arrays.asList(DELEGATE_ID, "d1", "d2"));
+    delegateTaskDispatcher.lease(DelegateTask.builder().uuid(generateUuid()).accountId(ACCOUNT_ID).build(),
+        Collections.singletonList("d1"));
+
+    long start = System.currentTimeMillis();
+    delegateQueueTask.rebroadcastUnassignedTasks();
+
+    ArgumentCaptor<DelegateTaskBroadcast> argumentCaptor = ArgumentCaptor.forClass(DelegateTaskBroadcast.class);
+    verify(broadcaster, times(1)).broadcast(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().getBroadcastToDelegatesIds()).containsExactly("d2");
+
+    DelegateTask task = persistence.get(DelegateTask.class, delegateTask.getUuid());
+    assertThat(task.getBroadcastCount()).isEqualTo(1);
+    assertThat(task.getAlreadyTriedDelegates()).containsExactlyInAnyOrder(DELEGATE_ID, "d2");
+    assertThat(task.getEligibleToExecuteDelegateIds()).containsExactly(DELEGATE_ID, "d1", "d2", "d3");
+    // the task is dispatched to the next delegate once the lease expires
+    assertThat(task.getNextBroadcast()).isBetween(start + DISPATCH_LEASE, System.currentTimeMillis() + DISPATCH_LEASE);
+
+    task.setNextBroadcast(System.currentTimeMillis());
+    persistence.save(task);
+    delegateQueueTask.rebroadcastUnassignedTasks();
+
+    verify(broadcaster, times(2)).broadcast(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().getBroadcastToDelegatesIds()).containsExactly("d1");
+    task = persistence.get(DelegateTask.class, delegateTask.getUuid());
+    assertThat(task.getAlreadyTriedDelegates()).containsExactlyInAnyOrder(DELEGATE_ID, "d1", "d2");
+    // every connected delegate was tried, the next round starts after a backoff
+    assertThat(task.getNextBroadcast()).isGreaterThan(start + DISPATCH_LEASE + TimeUnit.MINUTES.toMillis(1));
+
+    when(assignDelegateService.isWhitelisted(any(), eq("d1"))).thenReturn(true);
+    task.setNextBroadcast(System.currentTimeMillis());
+    persistence.save(task);
+    delegateQueueTask.rebroadcastUnassignedTasks();
+
+    verify(broadcaster, times(3)).broadcast(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().getBroadcastToDelegatesIds()).containsExactly("d1");
+  }
 }
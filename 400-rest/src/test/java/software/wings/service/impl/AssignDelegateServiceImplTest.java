@@ -37,7 +37,10 @@ import static software.wings.service.impl.AssignDelegateServiceImpl.BLACKLIST_TT
 import static software.wings.service.impl.AssignDelegateServiceImpl.ERROR_MESSAGE;
 import static software.wings.service.impl.AssignDelegateServiceImpl.MAX_DELEGATE_LAST_HEARTBEAT;
 import static software.wings.service.impl.AssignDelegateServiceImpl.SCOPE_WILDCARD;
+import static software.wings.service.impl.AssignDelegateServiceImpl.STEP;
 import static software.wings.service.impl.AssignDelegateServiceImpl.WHITELIST_TTL;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP;
+import static software.wings.service.impl.DelegateSelectionLogsServiceImpl.CAN_NOT_ASSIGN_TASK_GROUP;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.MATCHING_CRITERIA;
 import static software.wings.service.impl.AssignDelegateServiceImplTest.CriteriaType.NOT_MATCHING_CRITERIA;
 import static software.wings.service.impl.instance.InstanceSyncTestConstants.APP_ID;
@@ -1072,6 +1075,7 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
 
     when(delegateConnectionResultCache.get(ImmutablePair.of(delegate.getUuid(), connectionResult.getCriteria())))
         .thenReturn(of(connectionResult));
+    persistence.save(connectionResult);
 
     when(delegateCache.get("ACCOUNT_ID", "DELEGATE_ID", false)).thenReturn(delegate);
 
@@ -1930,6 +1934,66 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).isEmpty();
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesToExecuteTaskMatchesSelectorsThroughIndex() throws ExecutionException {
+    Delegate delegate1 = createAccountDelegate();
+    delegate1.setTags(asList("Sel1", "sel2"));
+    Delegate delegate2 = createAccountDelegate();
+    delegate2.setHostName("otherHost");
+    delegate2.setTags(asList("sel2"));
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(asList(delegate1, delegate2));
+    when(delegateCache.get(ACCOUNT_ID, delegate1.getUuid(), false)).thenReturn(delegate1);
+    when(delegateCache.get(ACCOUNT_ID, delegate2.getUuid(), false)).thenReturn(delegate2);
+    when(delegateService.retrieveDelegateSelectors(any(Delegate.class), eq(true)))
+        .thenAnswer(invocation -> new HashSet<>(((Delegate) invocation.getArgument(0)).getTags()));
+
+    DelegateTask task = constructSelectorTask(" sel1", "SEL2");
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).containsExactly(delegate1.getUuid());
+    assertThat(task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP)).containsExactly("otherHost");
+
+    delegate2.setTags(asList("sel1", "sel2"));
+    assignDelegateService.onDelegateUpdated(delegate2);
+
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(constructSelectorTask("sel1", "sel2")))
+        .containsExactlyInAnyOrder(delegate1.getUuid(), delegate2.getUuid());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetEligibleDelegatesToExecuteTaskReportsUnsupportedTaskType() throws ExecutionException {
+    Delegate delegate = createAccountDelegate();
+    delegate.setSupportedTaskTypes(asList(TaskType.SCRIPT.name()));
+    when(accountDelegatesCache.get(ACCOUNT_ID)).thenReturn(asList(delegate));
+    when(delegateCache.get(ACCOUNT_ID, delegate.getUuid(), false)).thenReturn(delegate);
+
+    DelegateTask task = constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED);
+
+    assertThat(assignDelegateService.getEligibleDelegatesToExecuteTask(task)).isEmpty();
+    assertThat(task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_TASK_GROUP)).containsExactly("localhost");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testConnectedWhitelistedDelegatesFollowSavedConnectionResults() throws ExecutionException {
+    DelegateTask delegateTask = createDelegateTask(true, MATCHING_CRITERIA);
+    delegateTask.setEligibleToExecuteDelegateIds(new LinkedList<>(asList("DELEGATE_ID")));
+    assertThat(assignDelegateService.connectedWhitelistedDelegates(delegateTask)).containsExactly("DELEGATE_ID");
+
+    String criteria = delegateTask.getExecutionCapabilities().get(0).fetchCapabilityBasis();
+    assignDelegateService.saveConnectionResults(asList(DelegateConnectionResult.builder()
+                                                           .accountId("ACCOUNT_ID")
+                                                           .delegateId("DELEGATE_ID")
+                                                           .criteria(criteria)
+                                                           .validated(false)
+                                                           .build()));
+
+    assertThat(assignDelegateService.connectedWhitelistedDelegates(delegateTask)).isEmpty();
+  }
+
   @Test
   @Owner(developers = JENNY)
   @Category(UnitTests.class)
@@ -2307,6 +2371,13 @@ public class AssignDelegateServiceImplTest extends WingsBaseTest {
     return delegateTask;
   }
 
+  private DelegateTask constructSelectorTask(String... selectors) {
+    DelegateTask task = constructDelegateTask(false, Collections.emptySet(), DelegateTask.Status.QUEUED);
+    task.setExecutionCapabilities(asList(
+        SelectorCapability.builder().selectors(new HashSet<>(asList(selectors))).selectorOrigin(STEP).build()));
+    return task;
+  }
+
   private Delegate createAccountDelegate() {
     Delegate delegate = Delegate.builder()
                             .accountId(ACCOUNT_ID)
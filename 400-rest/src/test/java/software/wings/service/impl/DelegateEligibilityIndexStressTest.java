@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Latency and allocation of finding the delegates able to take a second worth of tasks, 100 tasks, in an account of
+ * 5000 delegates, evaluating every delegate against every task against intersecting the posting lists of the index.
+ */
+@OwnedBy(HarnessTeam.DEL)
+@Slf4j
+public class DelegateEligibilityIndexStressTest extends CategoryTest {
+  private static final int DELEGATES = 5000;
+  private static final int TASKS_PER_SECOND = 100;
+  private static final int SECONDS = 20;
+  private static final int WARMUP_SECONDS = 5;
+  private static final int TASK_TYPES = 50;
+  private static final int SELECTORS = 200;
+
+  private final Random random = new Random(42);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareEligibilityIndex() {
+    List<DelegateEligibilityIndex.Entry> delegates = new ArrayList<>();
+    DelegateEligibilityIndex eligibilityIndex = new DelegateEligibilityIndex();
+    for (int i = 0; i < DELEGATES; i++) {
+      Set<String> taskTypes = new HashSet<>();
+      for (int j = 0; j < TASK_TYPES; j++) {
+        if (random.nextInt(4) != 0) {
+          taskTypes.add("TASK_TYPE_" + j);
+        }
+      }
+      Set<String> selectors = new HashSet<>();
+      selectors.add("group-" + (i % 100));
+      selectors.add("Selector-" + random.nextInt(SELECTORS));
+      selectors.add("selector-" + random.nextInt(SELECTORS));
+      DelegateEligibilityIndex.Entry entry =
+          new DelegateEligibilityIndex.Entry("delegate" + i, "host" + i, null, taskTypes, selectors);
+      delegates.add(entry);
+      eligibilityIndex.put(new DelegateEligibilityIndex.Entry(
+          entry.getDelegateId(), entry.getDelegateName(), null, taskTypes, trimmedLowercaseSet(selectors)));
+    }
+
+    List<String> taskTypes = new ArrayList<>();
+    List<Set<String>> taskSelectors = new ArrayList<>();
+    for (int i = 0; i < TASKS_PER_SECOND; i++) {
+      taskTypes.add("TASK_TYPE_" + random.nextInt(TASK_TYPES));
+      Set<String> selectors = new HashSet<>();
+      selectors.add("group-" + random.nextInt(100));
+      taskSelectors.add(selectors);
+    }
+
+    Function<Integer, Set<String>> perDelegate = task -> {
+      Set<String> delegateIds = new HashSet<>();
+      for (DelegateEligibilityIndex.Entry delegate : delegates) {
+        if (delegate.getTaskTypes().contains(taskTypes.get(task))
+            && trimmedLowercaseSet(delegate.getSelectors()).containsAll(taskSelectors.get(task))) {
+          delegateIds.add(delegate.getDelegateId());
+        }
+      }
+      return delegateIds;
+    };
+    Function<Integer, Set<String>> indexed =
+        task -> eligibilityIndex.getDelegates(taskTypes.get(task), taskSelectors.get(task));
+
+    for (int i = 0; i < TASKS_PER_SECOND; i++) {
+      assertThat(indexed.apply(i)).isEqualTo(perDelegate.apply(i));
+    }
+    run("per delegate", perDelegate);
+    run("eligibility index", indexed);
+  }
+
+  private void run(String name, Function<Integer, Set<String>> eligibleDelegates) {
+    for (int i = 0; i < WARMUP_SECONDS * TASKS_PER_SECOND; i++) {
+      eligibleDelegates.apply(i % TASKS_PER_SECOND);
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < SECONDS * TASKS_PER_SECOND; i++) {
+      eligibleDelegates.apply(i % TASKS_PER_SECOND);
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} ms of cpu per second of {} tasks, {} bytes allocated per task", name,
+        elapsedNanos / 1000000 / SECONDS, TASKS_PER_SECOND, allocated / (SECONDS * TASKS_PER_SECOND));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private final DelegateEligibilityIndex eligibilityIndex = new DelegateEligibilityIndex();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetDelegatesIntersectsTaskTypeAndSelectors() {
+    eligibilityIndex.put(entry("delegate1", "profile1", ImmutableSet.of("HTTP", "SCRIPT"), ImmutableSet.of("a", "b")));
+    eligibilityIndex.put(entry("delegate2", "profile1", ImmutableSet.of("HTTP"), ImmutableSet.of("a")));
+    eligibilityIndex.put(entry("delegate3", "profile2", ImmutableSet.of("SCRIPT"), ImmutableSet.of("a", "b")));
+
+    assertThat(eligibilityIndex.getDelegates("HTTP", emptySet())).containsExactlyInAnyOrder("delegate1", "delegate2");
+    assertThat(eligibilityIndex.getDelegates("HTTP", ImmutableSet.of("a", "b"))).containsExactly("delegate1");
+    assertThat(eligibilityIndex.getDelegates("SCRIPT", ImmutableSet.of("b"))).containsExactlyInAnyOrder(
+        "delegate1", "delegate3");
+    assertThat(eligibilityIndex.getDelegates("HTTP", ImmutableSet.of("c"))).isEmpty();
+    assertThat(eligibilityIndex.getDelegates(null, emptySet())).isEmpty();
+    assertThat(eligibilityIndex.getDelegatesWithProfile("profile1"))
+        .containsExactlyInAnyOrder("delegate1", "delegate2");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPutReplacesPostingsOfChangedDelegate() {
+    eligibilityIndex.put(entry("delegate1", null, ImmutableSet.of("HTTP"), ImmutableSet.of("a")));
+    eligibilityIndex.put(entry("delegate1", null, ImmutableSet.of("HTTP"), ImmutableSet.of("b")));
+
+    assertThat(eligibilityIndex.getDelegates("HTTP", ImmutableSet.of("a"))).isEmpty();
+    assertThat(eligibilityIndex.getDelegates("HTTP", ImmutableSet.of("b"))).containsExactly("delegate1");
+    assertThat(eligibilityIndex.size()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRemoveAndRetainAll() {
+    eligibilityIndex.put(entry("delegate1", null, ImmutableSet.of("HTTP"), ImmutableSet.of("a")));
+    eligibilityIndex.put(entry("delegate2", null, ImmutableSet.of("HTTP"), ImmutableSet.of("a")));
+    eligibilityIndex.put(entry("delegate3", null, ImmutableSet.of("HTTP"), ImmutableSet.of("a")));
+
+    eligibilityIndex.remove("delegate1");
+    eligibilityIndex.retainAll(ImmutableSet.of("delegate2"));
+
+    assertThat(eligibilityIndex.getDelegates("HTTP", ImmutableSet.of("a"))).containsExactly("delegate2");
+    assertThat(eligibilityIndex.get("delegate3")).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testNeedsSync() {
+    List<Delegate> accountDelegates = asList(Delegate.builder().uuid("delegate1").build());
+    assertThat(eligibilityIndex.needsSync(accountDelegates, 1000L, 100L)).isTrue();
+
+    eligibilityIndex.markSynced(accountDelegates, 1000L);
+
+    assertThat(eligibilityIndex.needsSync(accountDelegates, 1050L, 100L)).isFalse();
+    assertThat(eligibilityIndex.needsSync(accountDelegates, 1200L, 100L)).isTrue();
+    assertThat(eligibilityIndex.needsSync(emptyList(), 1050L, 100L)).isTrue();
+  }
+
+  private DelegateEligibilityIndex.Entry entry(
+      String delegateId, String delegateProfileId, ImmutableSet<String> taskTypes, ImmutableSet<String> selectors) {
+    return new DelegateEligibilityIndex.Entry(delegateId, delegateId, delegateProfileId, taskTypes, selectors);
+  }
+}
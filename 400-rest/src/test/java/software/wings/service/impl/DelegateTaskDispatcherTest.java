@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_LATENCY;
+import static io.harness.metrics.impl.DelegateMetricsServiceImpl.DELEGATE_TASK_DISPATCH_QUEUE_DEPTH;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.DelegateTask;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.delegate.beans.Delegate.DelegateKeys;
+import io.harness.ff.FeatureFlagService;
+import io.harness.metrics.intfc.DelegateMetricsService;
+import io.harness.rule.Owner;
+import io.harness.service.intfc.DelegateCache;
+
+import com.google.common.collect.ImmutableSet;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateTaskDispatcherTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final List<String> DELEGATE_IDS = asList("delegate1", "delegate2", "delegate3");
+
+  @Mock private Clock clock;
+  @Mock private DelegateMetricsService delegateMetricsService;
+  @Mock private DelegateCache delegateCache;
+  @Mock private FeatureFlagService featureFlagService;
+  @InjectMocks private DelegateTaskDispatcher delegateTaskDispatcher;
+
+  private long now = 100000000L;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(clock.millis()).thenAnswer(invocation -> now);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSelectDelegateWithFewestTasksInFlight() {
+    reportLoad("delegate1", false, 2);
+    reportLoad("delegate2", false, 1);
+    reportLoad("delegate3", false, 0);
+    delegateTaskDispatcher.lease(task("task4"), singletonList("delegate3"));
+    delegateTaskDispatcher.lease(task("task5"), singletonList("delegate3"));
+
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, DELEGATE_IDS, emptySet())).isEqualTo("delegate2");
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, DELEGATE_IDS, ImmutableSet.of("delegate2")))
+        .isEqualTo("delegate1");
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, DELEGATE_IDS, ImmutableSet.copyOf(DELEGATE_IDS)))
+        .isEqualTo("delegate2");
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, emptyList(), emptySet())).isNull();
+    assertThat(delegateTaskDispatcher.selectDelegates(ACCOUNT_ID, DELEGATE_IDS, emptySet(), 2))
+        .containsExactly("delegate2", "delegate1");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSelectDelegateAvoidsDelegatesAboveResourceThreshold() {
+    reportLoad("delegate1", true, 0);
+    reportLoad("delegate2", false, 3);
+    reportLoad("delegate3", true, 0);
+
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, DELEGATE_IDS, emptySet())).isEqualTo("delegate2");
+    assertThat(delegateTaskDispatcher.selectDelegate(ACCOUNT_ID, asList("delegate1", "delegate3"), emptySet()))
+        .isEqualTo("delegate1");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testUnknownAndDisconnectedDelegatesAreChosenLast() {
+    reportLoad("delegate2", false, 0);
+    now += TimeUnit.MINUTES.toMillis(10);
+    reportLoad("delegate3", true, 5);
+
+    assertThat(delegateTaskDispatcher.selectDelegates(ACCOUNT_ID, DELEGATE_IDS, emptySet(), 3))
+        .containsExactly("delegate3", "delegate1", "delegate2");
+
+    delegateTaskDispatcher.lease(task("task1"), singletonList("delegate1"));
+    assertThat(delegateTaskDispatcher.selectDelegates(ACCOUNT_ID, asList("delegate1", "delegate2"), emptySet(), 2))
+        .containsExactly("delegate2", "delegate1");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testAcquiredTaskCountsOnceUntilHeartbeatReportsIt() {
+    reportLoad("delegate1", false, 0);
+    DelegateTask task = task("task1");
+    delegateTaskDispatcher.lease(task, singletonList("delegate1"));
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate1")).isEqualTo(1);
+
+    now += 1000;
+    delegateTaskDispatcher.onTaskAssigned(task, "delegate1");
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate1")).isEqualTo(1);
+    verify(delegateMetricsService)
+        .recordDelegateTaskDuration(task, DELEGATE_TASK_DISPATCH_LATENCY, Duration.ofSeconds(1));
+
+    now += TimeUnit.SECONDS.toMillis(10);
+    reportLoad("delegate1", false, 1);
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate1")).isEqualTo(1);
+
+    reportLoad("delegate1", false, 0);
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate1")).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testExpiredLeasesAreReleased() {
+    delegateTaskDispatcher.lease(task("task1"), singletonList("delegate1"));
+    now += DelegateTaskDispatcher.DISPATCH_LEASE / 2;
+    delegateTaskDispatcher.lease(task("task2"), singletonList("delegate1"));
+    assertThat(delegateTaskDispatcher.expireLeases()).isEqualTo(0);
+
+    now += DelegateTaskDispatcher.DISPATCH_LEASE;
+    delegateTaskDispatcher.lease(task("task2"), asList("delegate2", "delegate3"));
+    assertThat(delegateTaskDispatcher.expireLeases()).isEqualTo(1);
+
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate1")).isEqualTo(0);
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate2")).isEqualTo(1);
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate3")).isEqualTo(1);
+    verify(delegateMetricsService).recordDelegateTaskValue(DELEGATE_TASK_DISPATCH_QUEUE_DEPTH, 1);
+
+    delegateTaskDispatcher.onTaskAssigned(task("task2"), "delegate3");
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate2")).isEqualTo(0);
+    assertThat(delegateTaskDispatcher.getInFlightTasks(ACCOUNT_ID, "delegate3")).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testHeartbeatReportsLoad() {
+    Delegate delegate = Delegate.builder()
+                            .uuid("delegate1")
+                            .accountId(ACCOUNT_ID)
+                            .currentlyExecutingDelegateTasks(asList("task1", "task2"))
+                            .resourceThresholdReached(true)
+                            .build();
+
+    assertThat(delegateTaskDispatcher.getReportedLoad(delegate)).isEmpty();
+
+    when(featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, ACCOUNT_ID)).thenReturn(true);
+    assertThat(delegateTaskDispatcher.getReportedLoad(delegate))
+        .containsOnly(entry(DelegateKeys.numberOfExecutingTasks, 2), entry(DelegateKeys.resourceThresholdReached, true),
+            entry(DelegateKeys.loadReportedAt, now));
+
+    delegate.setCurrentlyExecutingDelegateTasks(null);
+    assertThat(delegateTaskDispatcher.getReportedLoad(delegate)).isEmpty();
+  }
+
+  private void reportLoad(String delegateId, boolean resourceThresholdReached, int numberOfExecutingTasks) {
+    when(delegateCache.get(ACCOUNT_ID, delegateId, false))
+        .thenReturn(Delegate.builder()
+                        .uuid(delegateId)
+                        .accountId(ACCOUNT_ID)
+                        .numberOfExecutingTasks(numberOfExecutingTasks)
+                        .resourceThresholdReached(resourceThresholdReached)
+                        .loadReportedAt(now)
+                        .build());
+  }
+
+  private DelegateTask task(String taskId) {
+    return DelegateTask.builder().uuid(taskId).accountId(ACCOUNT_ID).createdAt(now).build();
+  }
+}
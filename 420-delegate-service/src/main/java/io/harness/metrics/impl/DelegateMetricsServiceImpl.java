@@ -22,6 +22,7 @@ import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -38,6 +39,9 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
   public static final String DELEGATE_TASK_REBROADCAST = "delegate_task_rebroadcast";
   public static final String DELEGATE_TASK_VALIDATION = "delegate_task_validation";
   public static final String DELEGATE_TASK_NO_FIRST_WHITELISTED = "delegate_task_no_first_whitelisted";
+  public static final String DELEGATE_TASK_DISPATCH_RETRY = "delegate_task_dispatch_retry";
+  public static final String DELEGATE_TASK_DISPATCH_LATENCY = "delegate_task_dispatch_latency";
+  public static final String DELEGATE_TASK_DISPATCH_QUEUE_DEPTH = "delegate_task_dispatch_queue_depth";
 
   public static final String DELEGATE_REGISTRATION_FAILED = "delegate_registration_failed";
   public static final String DELEGATE_RESTARTED = "delegate_restarted";
@@ -83,6 +87,18 @@ public class DelegateMetricsServiceImpl implements DelegateMetricsService {
     }
   }
 
+  @Override
+  public void recordDelegateTaskDuration(DelegateTask task, String metricName, Duration duration) {
+    try (DelegateTaskMetricContext ignore = new DelegateTaskMetricContext(task.getAccountId())) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
+
+  @Override
+  public void recordDelegateTaskValue(String metricName, double value) {
+    metricService.recordMetric(metricName, value);
+  }
+
   @Override
   public void recordDelegateTaskResponseMetrics(
       DelegateTask delegateTask, DelegateTaskResponse response, String metricName) {
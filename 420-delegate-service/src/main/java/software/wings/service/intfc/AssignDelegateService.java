@@ -50,4 +50,10 @@ public interface AssignDelegateService {
   boolean canAssignTask(String delegateId, DelegateTask task);
 
   List<Delegate> fetchActiveDelegates(String accountId);
+
+  void onDelegateUpdated(Delegate delegate);
+
+  void onDelegateDeleted(String accountId, String delegateId);
+
+  void onDelegateProfileUpdated(String accountId, String delegateProfileId);
 }
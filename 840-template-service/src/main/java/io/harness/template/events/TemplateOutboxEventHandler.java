@@ -36,6 +36,7 @@ import io.harness.security.PrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.ServicePrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
@@ -52,13 +53,16 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
   private final ObjectMapper objectMapper;
   private final AuditClientService auditClientService;
   private final Producer eventProducer;
+  private final ResolvedTemplateCache resolvedTemplateCache;
 
   @Inject
-  public TemplateOutboxEventHandler(
-      AuditClientService auditClientService, @Named(EventsFrameworkConstants.ENTITY_CRUD) Producer eventProducer) {
+  public TemplateOutboxEventHandler(AuditClientService auditClientService,
+      @Named(EventsFrameworkConstants.ENTITY_CRUD) Producer eventProducer,
+      ResolvedTemplateCache resolvedTemplateCache) {
     this.objectMapper = HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
     this.auditClientService = auditClientService;
     this.eventProducer = eventProducer;
+    this.resolvedTemplateCache = resolvedTemplateCache;
   }
 
   private boolean handleTemplateCreateEvent(OutboxEvent outboxEvent) throws IOException {
@@ -83,6 +87,7 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
   private boolean handleTemplateUpdateEvent(OutboxEvent outboxEvent) throws IOException {
     TemplateUpdateEvent templateUpdateEvent =
         objectMapper.readValue(outboxEvent.getEventData(), TemplateUpdateEvent.class);
+    invalidateResolvedTemplates(templateUpdateEvent.getOldTemplateEntity());
 
     boolean publishedToRedis = false;
     if (templateUpdateEvent.getTemplateUpdateEventType() == TemplateUpdateEventType.TEMPLATE_CHANGE_SCOPE_EVENT) {
@@ -128,6 +133,7 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
   private boolean handleTemplateDeleteEvent(OutboxEvent outboxEvent) throws IOException {
     TemplateDeleteEvent templateDeleteEvent =
         objectMapper.readValue(outboxEvent.getEventData(), TemplateDeleteEvent.class);
+    invalidateResolvedTemplates(templateDeleteEvent.getTemplateEntity());
     boolean publishedToRedis = publishEvent(outboxEvent, EventsFrameworkMetadataConstants.DELETE_ACTION);
     TemplateEventData templateEventData = new TemplateEventData(templateDeleteEvent.getComments(), null);
     AuditEntry auditEntry = AuditEntry.builder()
@@ -143,6 +149,11 @@ public class TemplateOutboxEventHandler implements OutboxEventHandler {
     return publishedToRedis && publishAudit(auditEntry, outboxEvent);
   }
 
+  private void invalidateResolvedTemplates(TemplateEntity templateEntity) {
+    resolvedTemplateCache.invalidate(templateEntity.getAccountIdentifier(), templateEntity.getOrgIdentifier(),
+        templateEntity.getProjectIdentifier(), templateEntity.getIdentifier());
+  }
+
   private boolean publishAudit(AuditEntry auditEntry, OutboxEvent outboxEvent) {
     GlobalContext globalContext = outboxEvent.getGlobalContext();
     Principal principal = null;
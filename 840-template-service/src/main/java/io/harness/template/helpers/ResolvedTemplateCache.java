@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.ngexception.NGTemplateException;
+import io.harness.gitsync.beans.StoreType;
+import io.harness.template.entity.TemplateEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Singleton;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Value;
+
+/**
+ * Template specs and template inputs derived from the yaml of template versions, shared across requests. Entries are
+ * keyed by the entity id and its mongo version, so a changed template is never served from the cache even on the
+ * replicas that did not see its update event. Remote templates are not cached as their yaml depends on the branch.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+public class ResolvedTemplateCache {
+  private static final int CACHE_SIZE = 5000;
+
+  private final Cache<Key, Optional<JsonNode>> templateSpecs = newCache();
+  private final Cache<Key, Optional<String>> templateInputs = newCache();
+
+  /**
+   * Returns a copy of the cached template.spec of the template, the caller is free to modify it.
+   */
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity, Supplier<JsonNode> templateSpecSupplier) {
+    Optional<JsonNode> templateSpec =
+        get(templateSpecs, templateEntity, () -> Optional.ofNullable(templateSpecSupplier.get()));
+    return templateSpec.map(JsonNode::deepCopy).orElse(null);
+  }
+
+  public String getTemplateInputs(TemplateEntity templateEntity, Supplier<String> templateInputsSupplier) {
+    return get(templateInputs, templateEntity, () -> Optional.ofNullable(templateInputsSupplier.get())).orElse(null);
+  }
+
+  public void invalidate(String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+    templateSpecs.asMap().keySet().removeIf(
+        key -> key.matches(accountId, orgIdentifier, projectIdentifier, identifier));
+    templateInputs.asMap().keySet().removeIf(
+        key -> key.matches(accountId, orgIdentifier, projectIdentifier, identifier));
+  }
+
+  public CacheStats stats() {
+    return templateSpecs.stats().plus(templateInputs.stats());
+  }
+
+  @VisibleForTesting
+  long size() {
+    return templateSpecs.size() + templateInputs.size();
+  }
+
+  private <T> T get(Cache<Key, T> cache, TemplateEntity templateEntity, Supplier<T> supplier) {
+    if (templateEntity.getStoreType() == StoreType.REMOTE || templateEntity.getUuid() == null
+        || templateEntity.getVersion() == null) {
+      return supplier.get();
+    }
+    try {
+      return cache.get(Key.of(templateEntity), supplier::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new NGTemplateException("Could not resolve template yaml", e.getCause());
+    }
+  }
+
+  private static <V> Cache<Key, V> newCache() {
+    return CacheBuilder.newBuilder()
+        .maximumSize(CACHE_SIZE)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .recordStats()
+        .build();
+  }
+
+  @Value
+  private static class Key {
+    String accountId;
+    String orgIdentifier;
+    String projectIdentifier;
+    String identifier;
+    String versionLabel;
+    String uuid;
+    Long version;
+
+    static Key of(TemplateEntity templateEntity) {
+      return new Key(templateEntity.getAccountIdentifier(), templateEntity.getOrgIdentifier(),
+          templateEntity.getProjectIdentifier(), templateEntity.getIdentifier(), templateEntity.getVersionLabel(),
+          templateEntity.getUuid(), templateEntity.getVersion());
+    }
+
+    boolean matches(String accountId, String orgIdentifier, String projectIdentifier, String identifier) {
+      return Objects.equals(this.accountId, accountId) && Objects.equals(this.orgIdentifier, orgIdentifier)
+          && Objects.equals(this.projectIdentifier, projectIdentifier) && Objects.equals(this.identifier, identifier);
+    }
+  }
+}
@@ -17,7 +17,6 @@ import io.harness.pms.merger.helpers.YamlRefreshHelper;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlNode;
 import io.harness.pms.yaml.YamlUtils;
-import io.harness.template.beans.yaml.NGTemplateConfig;
 import io.harness.template.entity.TemplateEntity;
 import io.harness.utils.YamlPipelineUtils;
 
@@ -131,17 +130,9 @@ public class TemplateInputsRefreshHelper {
     // Template YAML corresponding to the TemplateRef and Version Label
     TemplateEntity templateEntity = templateMergeServiceHelper.getLinkedTemplateEntity(
         accountId, orgId, projectId, TemplateNodeValue, templateCacheMap);
-    String templateYaml = templateEntity.getYaml();
 
     // Generate the Template Spec from the Template YAML
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
+    JsonNode templateSpec = templateMergeServiceHelper.getTemplateSpec(templateEntity);
 
     // refreshed json node
     JsonNode refreshedJsonNode = YamlRefreshHelper.refreshNodeFromSourceNode(templateInputs, templateSpec);
@@ -23,10 +23,8 @@ import io.harness.template.beans.refresh.ErrorNodeSummary;
 import io.harness.template.beans.refresh.NodeInfo;
 import io.harness.template.beans.refresh.TemplateInfo;
 import io.harness.template.beans.refresh.ValidateTemplateInputsResponseDTO;
-import io.harness.template.beans.yaml.NGTemplateConfig;
 import io.harness.template.entity.TemplateEntity;
 import io.harness.template.mappers.NGTemplateDtoMapper;
-import io.harness.utils.YamlPipelineUtils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Inject;
@@ -194,14 +192,7 @@ public class TemplateInputsValidator {
     }
 
     // Generate the Template Spec from the Template YAML
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
+    JsonNode templateSpec = templateMergeServiceHelper.getTemplateSpec(templateEntity);
 
     // if no child node of template is invalid, then verify template inputs against the template.
     JsonNode templateInputs = templateNodeValue.get(TEMPLATE_INPUTS);
@@ -71,6 +71,7 @@ import lombok.extern.slf4j.Slf4j;
 public class TemplateMergeServiceHelper {
   private static final int MAX_DEPTH = 10;
   private NGTemplateServiceHelper templateServiceHelper;
+  private ResolvedTemplateCache resolvedTemplateCache;
 
   // Gets the Template Entity linked to a YAML
   public TemplateEntity getLinkedTemplateEntity(
@@ -143,6 +144,25 @@ public class TemplateMergeServiceHelper {
     return EntityReferenceHelper.createFQN(fqnList);
   }
 
+  // Gets the template.spec in template yaml, read once per template version
+  public JsonNode getTemplateSpec(TemplateEntity templateEntity) {
+    return resolvedTemplateCache.getTemplateSpec(templateEntity, () -> {
+      try {
+        NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateEntity.getYaml(), NGTemplateConfig.class);
+        return templateConfig.getTemplateInfoConfig().getSpec();
+      } catch (IOException e) {
+        log.error("Could not read template yaml", e);
+        throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
+      }
+    });
+  }
+
+  // Gets the template inputs of a template, created once per template version
+  public String getTemplateInputs(TemplateEntity templateEntity) {
+    return resolvedTemplateCache.getTemplateInputs(
+        templateEntity, () -> createTemplateInputsFromTemplate(templateEntity.getYaml()));
+  }
+
   /**
    * This method gets the template inputs from template.spec in template yaml.
    * For eg: Template Yaml:
@@ -338,16 +358,7 @@ public class TemplateMergeServiceHelper {
     JsonNode templateInputs = template.get(TEMPLATE_INPUTS);
 
     TemplateEntity templateEntity = getLinkedTemplateEntity(accountId, orgId, projectId, template, templateCacheMap);
-    String templateYaml = templateEntity.getYaml();
-
-    JsonNode templateSpec;
-    try {
-      NGTemplateConfig templateConfig = YamlPipelineUtils.read(templateYaml, NGTemplateConfig.class);
-      templateSpec = templateConfig.getTemplateInfoConfig().getSpec();
-    } catch (IOException e) {
-      log.error("Could not read template yaml", e);
-      throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
-    }
+    JsonNode templateSpec = getTemplateSpec(templateEntity);
 
     return mergeTemplateInputsToTemplateSpecInTemplateYaml(templateInputs, templateSpec);
   }
@@ -506,8 +517,7 @@ public class TemplateMergeServiceHelper {
       return linkedTemplate;
     }
 
-    String templateYaml = templateEntity.getYaml();
-    String templateSpecInputSetFormatYaml = createTemplateInputsFromTemplate(templateYaml);
+    String templateSpecInputSetFormatYaml = getTemplateInputs(templateEntity);
 
     try {
       Map<String, JsonNode> dummyLinkedTemplateInputsMap = new LinkedHashMap<>();
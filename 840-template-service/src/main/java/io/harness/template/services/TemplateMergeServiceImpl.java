@@ -30,6 +30,7 @@ import io.harness.pms.yaml.YamlUtils;
 import io.harness.template.beans.refresh.ValidateTemplateInputsResponseDTO;
 import io.harness.template.entity.TemplateEntity;
 import io.harness.template.helpers.MergeTemplateInputsInObject;
+import io.harness.template.helpers.ResolvedTemplateCache;
 import io.harness.template.helpers.TemplateInputsValidator;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 import io.harness.utils.YamlPipelineUtils;
@@ -53,6 +54,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
   @Inject private NGTemplateServiceHelper templateServiceHelper;
   @Inject private TemplateInputsValidator templateInputsValidator;
   @Inject private TemplateMergeServiceHelper templateMergeServiceHelper;
+  @Inject private ResolvedTemplateCache resolvedTemplateCache;
 
   @Override
   public String getTemplateInputs(String accountId, String orgIdentifier, String projectIdentifier,
@@ -62,7 +64,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     if (!optionalTemplateEntity.isPresent()) {
       throw new NGTemplateException("Template to fetch template inputs does not exist.");
     }
-    return templateMergeServiceHelper.createTemplateInputsFromTemplate(optionalTemplateEntity.get().getYaml());
+    return templateMergeServiceHelper.getTemplateInputs(optionalTemplateEntity.get());
   }
 
   @Override
@@ -79,6 +81,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
    */
   public TemplateMergeResponseDTO applyTemplatesToYaml(
       String accountId, String orgId, String projectId, String yaml, boolean getMergedYamlWithTemplateField) {
+    long start = System.currentTimeMillis();
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
 
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
@@ -87,8 +90,10 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
     if (errorResponse != null) {
       throw new NGTemplateResolveException("Exception in resolving template refs in given yaml.", USER, errorResponse);
     }
-    return getTemplateMergeResponseDTO(
+    TemplateMergeResponseDTO templateMergeResponseDTO = getTemplateMergeResponseDTO(
         accountId, orgId, projectId, yaml, getMergedYamlWithTemplateField, yamlNode, templateCacheMap);
+    logMergeStats(templateCacheMap, start);
+    return templateMergeResponseDTO;
   }
 
   @Override
@@ -97,6 +102,7 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
    */
   public TemplateMergeResponseDTO applyTemplatesToYamlV2(
       String accountId, String orgId, String projectId, String yaml, boolean getMergedYamlWithTemplateField) {
+    long start = System.currentTimeMillis();
     YamlNode yamlNode = validateAndGetYamlNode(yaml);
 
     Map<String, TemplateEntity> templateCacheMap = new HashMap<>();
@@ -107,8 +113,10 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
       throw new NGTemplateResolveExceptionV2(
           "Exception in resolving template refs in given yaml.", USER, validateTemplateInputsResponse);
     }
-    return getTemplateMergeResponseDTO(
+    TemplateMergeResponseDTO templateMergeResponseDTO = getTemplateMergeResponseDTO(
         accountId, orgId, projectId, yaml, getMergedYamlWithTemplateField, yamlNode, templateCacheMap);
+    logMergeStats(templateCacheMap, start);
+    return templateMergeResponseDTO;
   }
 
   private TemplateMergeResponseDTO getTemplateMergeResponseDTO(String accountId, String orgId, String projectId,
@@ -136,6 +144,11 @@ public class TemplateMergeServiceImpl implements TemplateMergeService {
         .build();
   }
 
+  private void logMergeStats(Map<String, TemplateEntity> templateCacheMap, long start) {
+    log.info("[TEMPLATE_MERGE] Applied {} templates to yaml in {}ms, resolved template cache hit rate {}",
+        templateCacheMap.size(), System.currentTimeMillis() - start, resolvedTemplateCache.stats().hitRate());
+  }
+
   private YamlNode validateAndGetYamlNode(String yaml) {
     if (isEmpty(yaml)) {
       throw new NGTemplateException("Yaml to applyTemplates cannot be empty.");
@@ -18,6 +18,7 @@ import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.commons.lang3.RandomStringUtils.randomNumeric;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -43,6 +44,7 @@ import io.harness.security.SourcePrincipalContextData;
 import io.harness.security.dto.Principal;
 import io.harness.security.dto.UserPrincipal;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,6 +62,7 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
   private ObjectMapper objectMapper;
   private AuditClientService auditClientService;
   private Producer eventProducer;
+  private ResolvedTemplateCache resolvedTemplateCache;
   private TemplateOutboxEventHandler templateOutboxEventHandler;
   String newYaml;
   String oldYaml;
@@ -69,7 +72,9 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     objectMapper = HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
     auditClientService = mock(AuditClientService.class);
     eventProducer = mock(Producer.class);
-    templateOutboxEventHandler = spy(new TemplateOutboxEventHandler(auditClientService, eventProducer));
+    resolvedTemplateCache = mock(ResolvedTemplateCache.class);
+    templateOutboxEventHandler =
+        spy(new TemplateOutboxEventHandler(auditClientService, eventProducer, resolvedTemplateCache));
     newYaml = Resources.toString(this.getClass().getClassLoader().getResource("template.yaml"), Charsets.UTF_8);
     oldYaml = Resources.toString(this.getClass().getClassLoader().getResource("template_updated.yaml"), Charsets.UTF_8);
   }
@@ -191,6 +196,7 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     assertEquals(Action.UPDATE, auditEntry.getAction());
     assertEquals(newYaml, auditEntry.getNewYaml());
     assertEquals(oldYaml, auditEntry.getOldYaml());
+    verify(resolvedTemplateCache, times(1)).invalidate(any(), any(), any(), eq(identifier));
   }
 
   @Test
@@ -247,6 +253,7 @@ public class TemplateOutboxEventHandlerTest extends CategoryTest {
     assertEquals(Action.DELETE, auditEntry.getAction());
     assertNull(auditEntry.getNewYaml());
     assertEquals(oldYaml, auditEntry.getOldYaml());
+    verify(resolvedTemplateCache, times(1)).invalidate(any(), any(), any(), eq(identifier));
   }
 
   private void assertAuditEntry(String accountId, String orgIdentifier, String projectIdentifier, String identifier,
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.ngexception.NGTemplateException;
+import io.harness.gitsync.beans.StoreType;
+import io.harness.rule.Owner;
+import io.harness.template.entity.TemplateEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.CDC)
+public class ResolvedTemplateCacheTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String ORG_ID = "orgId";
+  private static final String PROJECT_ID = "projectId";
+
+  private final ResolvedTemplateCache resolvedTemplateCache = new ResolvedTemplateCache();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetTemplateSpecLoadsOncePerVersion() {
+    TemplateEntity templateEntity = templateEntity("template1", 0L);
+
+    JsonNode templateSpec = resolvedTemplateCache.getTemplateSpec(templateEntity, templateSpecSupplier());
+    ((ObjectNode) templateSpec).put("timeout", "1m");
+    JsonNode cachedTemplateSpec = resolvedTemplateCache.getTemplateSpec(templateEntity, templateSpecSupplier());
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cachedTemplateSpec.get("timeout").asText()).isEqualTo("<+input>");
+    assertThat(resolvedTemplateCache.stats().hitCount()).isEqualTo(1);
+
+    resolvedTemplateCache.getTemplateSpec(templateEntity.withVersion(1L), templateSpecSupplier());
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetTemplateInputsCachesEmptyInputs() {
+    TemplateEntity templateEntity = templateEntity("template1", 0L);
+    Supplier<String> templateInputsSupplier = () -> {
+      loads.incrementAndGet();
+      return null;
+    };
+
+    assertThat(resolvedTemplateCache.getTemplateInputs(templateEntity, templateInputsSupplier)).isNull();
+    assertThat(resolvedTemplateCache.getTemplateInputs(templateEntity, templateInputsSupplier)).isNull();
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRemoteAndUnsavedTemplatesAreNotCached() {
+    TemplateEntity remoteTemplateEntity = templateEntity("template1", 0L).withStoreType(StoreType.REMOTE);
+    TemplateEntity unsavedTemplateEntity = templateEntity("template2", null);
+
+    for (int i = 0; i < 2; i++) {
+      resolvedTemplateCache.getTemplateSpec(remoteTemplateEntity, templateSpecSupplier());
+      resolvedTemplateCache.getTemplateSpec(unsavedTemplateEntity, templateSpecSupplier());
+    }
+
+    assertThat(loads.get()).isEqualTo(4);
+    assertThat(resolvedTemplateCache.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testInvalidate() {
+    TemplateEntity templateEntity = templateEntity("template1", 0L);
+    TemplateEntity otherTemplateEntity = templateEntity("template2", 0L);
+    resolvedTemplateCache.getTemplateSpec(templateEntity, templateSpecSupplier());
+    resolvedTemplateCache.getTemplateInputs(templateEntity, () -> "timeout: <+input>\n");
+    resolvedTemplateCache.getTemplateSpec(otherTemplateEntity, templateSpecSupplier());
+
+    resolvedTemplateCache.invalidate(ACCOUNT_ID, ORG_ID, PROJECT_ID, "template1");
+
+    assertThat(resolvedTemplateCache.size()).isEqualTo(1);
+    resolvedTemplateCache.getTemplateSpec(templateEntity, templateSpecSupplier());
+    assertThat(loads.get()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testLoadFailureIsRethrownAndNotCached() {
+    TemplateEntity templateEntity = templateEntity("template1", 0L);
+    Supplier<JsonNode> failingSupplier = () -> {
+      throw new NGTemplateException("Could not read template yaml");
+    };
+
+    assertThatThrownBy(() -> resolvedTemplateCache.getTemplateSpec(templateEntity, failingSupplier))
+        .isInstanceOf(NGTemplateException.class);
+    assertThat(resolvedTemplateCache.size()).isEqualTo(0);
+  }
+
+  private Supplier<JsonNode> templateSpecSupplier() {
+    return () -> {
+      loads.incrementAndGet();
+      return JsonNodeFactory.instance.objectNode().put("type", "ShellScript").put("timeout", "<+input>");
+    };
+  }
+
+  private TemplateEntity templateEntity(String identifier, Long version) {
+    return TemplateEntity.builder()
+        .uuid(identifier + "Uuid")
+        .accountId(ACCOUNT_ID)
+        .orgIdentifier(ORG_ID)
+        .projectIdentifier(PROJECT_ID)
+        .identifier(identifier)
+        .versionLabel("1")
+        .version(version)
+        .build();
+  }
+}
@@ -54,10 +54,12 @@ public class TemplateInputsValidatorTest extends TemplateServiceTestBase {
   @InjectMocks TemplateInputsValidator templateInputsValidator;
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
   @Mock NGTemplateServiceHelper templateServiceHelper;
+  private final ResolvedTemplateCache resolvedTemplateCache = new ResolvedTemplateCache();
 
   @Before
   public void setup() {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", resolvedTemplateCache);
     on(templateInputsValidator).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
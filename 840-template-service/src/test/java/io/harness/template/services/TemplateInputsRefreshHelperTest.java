@@ -20,6 +20,7 @@ import io.harness.pms.yaml.YamlNode;
 import io.harness.pms.yaml.YamlUtils;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 import io.harness.template.helpers.TemplateInputsRefreshHelper;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 
@@ -39,6 +40,7 @@ public class TemplateInputsRefreshHelperTest extends TemplateServiceTestBase {
 
   @InjectMocks TemplateInputsRefreshHelper templateInputsRefreshHelper;
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
+  private final ResolvedTemplateCache resolvedTemplateCache = new ResolvedTemplateCache();
 
   private static final String ACCOUNT_ID = "accountId";
 
@@ -54,6 +56,7 @@ public class TemplateInputsRefreshHelperTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", resolvedTemplateCache);
     on(templateInputsRefreshHelper).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.services;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.joor.Reflect.on;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
+import io.harness.template.helpers.TemplateMergeServiceHelper;
+
+import com.google.common.io.Resources;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Latency and allocation of applying the templates to a pipeline of 50 step template refs, with the template specs
+ * and inputs derived per request against reading them from the shared resolved template cache.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Slf4j
+public class TemplateMergeServiceImplStressTest extends CategoryTest {
+  private static final int WARMUP = 20;
+  private static final int ITERATIONS = 200;
+  private static final int TEMPLATE_REFS = 50;
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String ORG_ID = "orgId";
+  private static final String PROJECT_ID = "projectId";
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareResolvedTemplateCache() throws IOException {
+    String templateYaml = Resources.toString(
+        Resources.getResource(getClass().getClassLoader(), "template-step.yaml"), StandardCharsets.UTF_8);
+    String pipelineYaml = pipelineYaml();
+
+    // Entities without a version are never cached, as for the remote templates
+    run("per request", templateMergeService(templateYaml, null), pipelineYaml);
+    run("shared cache", templateMergeService(templateYaml, 0L), pipelineYaml);
+  }
+
+  private void run(String name, TemplateMergeServiceImpl templateMergeService, String pipelineYaml) {
+    for (int i = 0; i < WARMUP; i++) {
+      templateMergeService.applyTemplatesToYaml(ACCOUNT_ID, ORG_ID, PROJECT_ID, pipelineYaml, false);
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      templateMergeService.applyTemplatesToYaml(ACCOUNT_ID, ORG_ID, PROJECT_ID, pipelineYaml, false);
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} us per merge, {} bytes allocated per merge", name, elapsedNanos / 1000 / ITERATIONS,
+        allocated / ITERATIONS);
+  }
+
+  private TemplateMergeServiceImpl templateMergeService(String templateYaml, Long version) {
+    NGTemplateServiceHelper templateServiceHelper = mock(NGTemplateServiceHelper.class);
+    when(templateServiceHelper.getOrThrowExceptionIfInvalid(
+             eq(ACCOUNT_ID), eq(ORG_ID), eq(PROJECT_ID), anyString(), eq("1"), eq(false)))
+        .thenAnswer(invocation -> {
+          String identifier = invocation.getArgument(3);
+          return Optional.of(TemplateEntity.builder()
+                                 .uuid(identifier + "Uuid")
+                                 .accountId(ACCOUNT_ID)
+                                 .orgIdentifier(ORG_ID)
+                                 .projectIdentifier(PROJECT_ID)
+                                 .identifier(identifier)
+                                 .versionLabel("1")
+                                 .yaml(templateYaml)
+                                 .version(version)
+                                 .build());
+        });
+
+    ResolvedTemplateCache resolvedTemplateCache = new ResolvedTemplateCache();
+    TemplateMergeServiceHelper templateMergeServiceHelper =
+        new TemplateMergeServiceHelper(templateServiceHelper, resolvedTemplateCache);
+    TemplateMergeServiceImpl templateMergeService = new TemplateMergeServiceImpl();
+    on(templateMergeService).set("templateMergeServiceHelper", templateMergeServiceHelper);
+    on(templateMergeService).set("resolvedTemplateCache", resolvedTemplateCache);
+    return templateMergeService;
+  }
+
+  private static String pipelineYaml() {
+    StringBuilder pipelineYaml = new StringBuilder(
+        "pipeline:\n  name: pipeline\n  identifier: pipeline\n  stages:\n    - stage:\n        identifier: stage\n"
+        + "        name: stage\n        type: Custom\n        spec:\n          execution:\n            steps:\n");
+    for (int i = 0; i < TEMPLATE_REFS; i++) {
+      pipelineYaml.append("              - step:\n")
+          .append("                  name: step")
+          .append(i)
+          .append("\n                  identifier: step")
+          .append(i)
+          .append("\n                  template:\n                    templateRef: template")
+          .append(i)
+          .append("\n                    versionLabel: \"1\"\n")
+          .append("                    templateInputs:\n")
+          .append("                      type: ShellScript\n")
+          .append("                      spec:\n")
+          .append("                        source:\n")
+          .append("                          type: Inline\n")
+          .append("                          spec:\n")
+          .append("                            script: echo step")
+          .append(i)
+          .append("\n                      timeout: 10m\n");
+    }
+    return pipelineYaml.toString();
+  }
+}
@@ -30,6 +30,7 @@ import io.harness.ng.core.template.TemplateReferenceSummary;
 import io.harness.ng.core.template.exception.NGTemplateResolveException;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.ResolvedTemplateCache;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 
 import com.google.common.io.Resources;
@@ -52,6 +53,7 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
 
   @Mock private NGTemplateServiceHelper templateServiceHelper;
   @InjectMocks TemplateMergeServiceHelper templateMergeServiceHelper;
+  private final ResolvedTemplateCache resolvedTemplateCache = new ResolvedTemplateCache();
 
   private static final String ACCOUNT_ID = "accountId";
   private static final String ORG_ID = "orgId";
@@ -69,6 +71,8 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("resolvedTemplateCache", resolvedTemplateCache);
+    on(templateMergeService).set("resolvedTemplateCache", resolvedTemplateCache);
     on(templateMergeService).set("templateMergeServiceHelper", templateMergeServiceHelper);
   }
 
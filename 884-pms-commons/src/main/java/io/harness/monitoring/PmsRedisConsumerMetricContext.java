@@ -0,0 +1,19 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.monitoring;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.AutoMetricContext;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PmsRedisConsumerMetricContext extends AutoMetricContext {
+  public PmsRedisConsumerMetricContext(String consumer) {
+    put("consumer", consumer);
+  }
+}
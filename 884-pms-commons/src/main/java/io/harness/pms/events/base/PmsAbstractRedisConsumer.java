@@ -19,11 +19,20 @@ import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.monitoring.PmsRedisConsumerMetricContext;
 import io.harness.queue.QueueController;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.cache.Cache;
@@ -33,12 +42,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListener> implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
-  private static final String CACHE_KEY = "%s_%s";
+  private static final String READ_TO_ACK_LATENCY_METRIC = "pms_redis_consumer_read_to_ack_latency";
   private final Consumer redisConsumer;
   private final T messageListener;
   private final QueueController queueController;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
   private Cache<String, Integer> eventsCache;
+  private final String cacheKeyPrefix = this.getClass().getSimpleName() + "_";
+  @Inject(optional = true) private MetricService metricService;
 
   public PmsAbstractRedisConsumer(
       Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache, QueueController queueController) {
@@ -82,25 +93,47 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     }
   }
 
+  /**
+   * Handles a read batch with a constant number of round trips: the already processed messages of the batch are looked
+   * up with one cache operation before they are handled, the handled ones are marked as processed with another one
+   * after all the handlers ran, and they are acknowledged together at the end. A message is only marked once it was
+   * handled, so a message left unhandled by a crash is handled again when it is redelivered.
+   */
   @VisibleForTesting
   void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    List<Message> messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    if (messages.isEmpty()) {
+      return;
+    }
+    long readTs = System.currentTimeMillis();
+    Map<String, Integer> processedCounts = getProcessedCounts(messages);
+    List<String> processedMessageIds = new ArrayList<>();
+    Map<String, Integer> updatedCounts = new HashMap<>();
     for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
+      String key = cacheKeyPrefix + message.getId();
+      Integer count = processedCounts.get(key);
+      if (count != null) {
+        log.warn(String.format("Duplicate redis notification received to consumer [%s] with messageId [%s]",
+            this.getClass().getSimpleName(), message.getId()));
       }
+      if (handleMessage(message, count != null)) {
+        processedMessageIds.add(message.getId());
+        if (messageListener.isProcessable(message)) {
+          updatedCounts.put(key, count == null ? 1 : count + 1);
+        }
+      }
+    }
+    markProcessed(updatedCounts);
+    if (!processedMessageIds.isEmpty()) {
+      redisConsumer.acknowledge(processedMessageIds);
+      recordReadToAckLatency(readTs);
     }
   }
 
-  private boolean handleMessage(Message message) {
+  private boolean handleMessage(Message message, boolean alreadyProcessed) {
     try (AutoLogContext autoLogContext = new AutoLogContext(
              message.getMessage().getMetadataMap(), AutoLogContext.OverrideBehavior.OVERRIDE_NESTS)) {
-      return processMessage(message);
+      return processMessage(message, alreadyProcessed);
     } catch (Exception ex) {
       // This is not evicted from events framework so that it can be processed
       // by other consumer if the error is a runtime error
@@ -109,11 +142,10 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     }
   }
 
-  private boolean processMessage(Message message) {
+  private boolean processMessage(Message message, boolean alreadyProcessed) {
     AtomicBoolean success = new AtomicBoolean(true);
-    if (messageListener.isProcessable(message) && !isAlreadyProcessed(message)) {
+    if (messageListener.isProcessable(message) && !alreadyProcessed) {
       log.debug("Read message with message id {} from redis", message.getId());
-      insertMessageInCache(message);
       if (!messageListener.handleMessage(message)) {
         success.set(false);
       }
@@ -121,30 +153,48 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     return success.get();
   }
 
-  private void insertMessageInCache(Message message) {
+  /**
+   * @return the number of times the processable messages of the batch were received before, by cache key, for the
+   *     messages that were already processed
+   */
+  private Map<String, Integer> getProcessedCounts(List<Message> messages) {
+    Set<String> keys = new HashSet<>();
+    for (Message message : messages) {
+      if (messageListener.isProcessable(message)) {
+        keys.add(cacheKeyPrefix + message.getId());
+      }
+    }
+    if (keys.isEmpty()) {
+      return Collections.emptyMap();
+    }
     try {
-      eventsCache.put(String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId()), 1);
+      Map<String, Integer> processedCounts = eventsCache.getAll(keys);
+      return processedCounts == null ? Collections.emptyMap() : processedCounts;
     } catch (Exception ex) {
-      log.error("Exception occurred while storing message id in cache", ex);
+      log.error("Exception occurred while checking for duplicate notification", ex);
+      return Collections.emptyMap();
     }
   }
 
-  private boolean isAlreadyProcessed(Message message) {
+  private void markProcessed(Map<String, Integer> processedCounts) {
+    if (processedCounts.isEmpty()) {
+      return;
+    }
     try {
-      String key = String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId());
-      boolean isProcessed = eventsCache.containsKey(key);
-      if (isProcessed) {
-        log.warn(String.format("Duplicate redis notification received to consumer [%s] with messageId [%s]",
-            this.getClass().getSimpleName(), message.getId()));
-        Integer count = eventsCache.get(key);
-        if (count != null) {
-          eventsCache.put(String.format(CACHE_KEY, this.getClass().getSimpleName(), message.getId()), count + 1);
-        }
-      }
-      return isProcessed;
+      eventsCache.putAll(processedCounts);
     } catch (Exception ex) {
-      log.error("Exception occurred while checking for duplicate notification", ex);
-      return false;
+      log.error("Exception occurred while storing message ids in cache", ex);
+    }
+  }
+
+  private void recordReadToAckLatency(long readTs) {
+    if (metricService == null) {
+      return;
+    }
+    try (PmsRedisConsumerMetricContext ignore = new PmsRedisConsumerMetricContext(this.getClass().getSimpleName())) {
+      metricService.recordDuration(READ_TO_ACK_LATENCY_METRIC, Duration.ofMillis(System.currentTimeMillis() - readTs));
+    } catch (Exception ex) {
+      log.warn("Exception occurred while recording the read to ack latency", ex);
     }
   }
 
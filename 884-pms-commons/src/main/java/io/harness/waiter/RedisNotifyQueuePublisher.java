@@ -13,6 +13,9 @@ import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
 import io.harness.waiter.notify.NotifyEventProto;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher {
   private Producer producer;
@@ -26,6 +29,13 @@ public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher
     producer.send(Message.newBuilder().setData(toProto(payload).toByteString()).build());
   }
 
+  @Override
+  public void sendAll(List<NotifyEvent> payloads) {
+    producer.sendBatch(payloads.stream()
+                           .map(payload -> Message.newBuilder().setData(toProto(payload).toByteString()).build())
+                           .collect(Collectors.toList()));
+  }
+
   public NotifyEventProto toProto(NotifyEvent event) {
     return NotifyEventProto.newBuilder().setWaitInstanceId(event.getWaitInstanceId()).build();
   }
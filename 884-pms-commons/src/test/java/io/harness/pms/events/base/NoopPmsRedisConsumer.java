@@ -12,9 +12,16 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.cache.NoOpCache;
 import io.harness.eventsframework.api.Consumer;
 
+import javax.cache.Cache;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public class NoopPmsRedisConsumer extends PmsAbstractRedisConsumer<NoopPmsMessageListener> {
   public NoopPmsRedisConsumer(Consumer redisConsumer, NoopPmsMessageListener messageListener) {
     super(redisConsumer, messageListener, new NoOpCache<>(), new NoopQueueController());
   }
+
+  public NoopPmsRedisConsumer(
+      Consumer redisConsumer, NoopPmsMessageListener messageListener, Cache<String, Integer> eventsCache) {
+    super(redisConsumer, messageListener, eventsCache, new NoopQueueController());
+  }
 }
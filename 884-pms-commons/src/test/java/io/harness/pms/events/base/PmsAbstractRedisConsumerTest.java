@@ -8,10 +8,16 @@
 package io.harness.pms.events.base;
 
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.MARKO;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.jooq.tools.reflect.Reflect.on;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,15 +27,27 @@ import io.harness.PmsCommonsTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
 import io.harness.monitoring.EventMonitoringService;
+import io.harness.pms.events.PmsEventFrameworkConstants;
+import io.harness.pms.contracts.interrupts.InterruptEvent;
+import io.harness.pms.contracts.interrupts.InterruptType;
 import io.harness.pms.gitsync.PmsGitSyncBranchContextGuard;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.rule.Owner;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.cache.Cache;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -57,4 +75,70 @@ public class PmsAbstractRedisConsumerTest extends PmsCommonsTestBase {
     redisConsumer.pollAndProcessMessages();
     verify(messageListener, times(1)).handleMessage(any());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldDeduplicateAndAcknowledgeBatch() {
+    NoopPmsMessageListener messageListener =
+        spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, MoreExecutors.newDirectExecutorService()));
+    Consumer consumer = mock(Consumer.class);
+    Cache<String, Integer> eventsCache = mock(Cache.class);
+    when(consumer.read(any())).thenReturn(Arrays.asList(message("1", "RANDOM_SERVICE"), message("2", "RANDOM_SERVICE"),
+        message("3", "OTHER_SERVICE")));
+    when(eventsCache.getAll(any())).thenReturn(ImmutableMap.of("NoopPmsRedisConsumer_2", 1));
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(consumer, messageListener, eventsCache);
+
+    redisConsumer.pollAndProcessMessages();
+
+    // The duplicate is acknowledged without handling it again, the message of another service is just acknowledged
+    verify(messageListener, times(1)).handleMessage(any());
+    ArgumentCaptor<Map> cacheCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(eventsCache, times(1)).getAll(any());
+    verify(eventsCache, times(1)).putAll(cacheCaptor.capture());
+    assertThat(cacheCaptor.getValue())
+        .isEqualTo(ImmutableMap.of("NoopPmsRedisConsumer_1", 1, "NoopPmsRedisConsumer_2", 2));
+    ArgumentCaptor<List> ackCaptor = ArgumentCaptor.forClass(List.class);
+    verify(consumer, times(1)).acknowledge(ackCaptor.capture());
+    assertThat(ackCaptor.getValue()).containsExactly("1", "2", "3");
+    verify(consumer, never()).acknowledge(anyString());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldOnlyMarkHandledMessagesAsProcessed() {
+    NoopPmsMessageListener messageListener =
+        spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, MoreExecutors.newDirectExecutorService()));
+    Message failing = message("1", "RANDOM_SERVICE");
+    doReturn(false).when(messageListener).handleMessage(failing);
+    Consumer consumer = mock(Consumer.class);
+    Cache<String, Integer> eventsCache = mock(Cache.class);
+    when(consumer.read(any())).thenReturn(Arrays.asList(failing, message("2", "RANDOM_SERVICE")));
+    when(eventsCache.getAll(any())).thenReturn(Collections.emptyMap());
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(consumer, messageListener, eventsCache);
+
+    redisConsumer.pollAndProcessMessages();
+
+    // The failed message is neither marked nor acknowledged, its redelivery is handled again
+    verify(messageListener, times(2)).handleMessage(any());
+    verify(eventsCache).putAll(ImmutableMap.of("NoopPmsRedisConsumer_2", 1));
+    verify(consumer).acknowledge(Collections.singletonList("2"));
+  }
+
+  private Message message(String id, String serviceName) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putMetadata(PmsEventFrameworkConstants.SERVICE_NAME, serviceName)
+                        .setData(InterruptEvent.newBuilder()
+                                     .setAmbiance(NoopRedisConsumer.buildAmbiance())
+                                     .setType(InterruptType.ABORT)
+                                     .build()
+                                     .toByteString())
+                        .build())
+        .build();
+  }
 }
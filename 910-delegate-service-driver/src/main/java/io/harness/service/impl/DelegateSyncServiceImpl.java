@@ -11,7 +11,6 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
 import static java.lang.System.currentTimeMillis;
-import static java.util.stream.Collectors.toList;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -21,6 +20,9 @@ import io.harness.delegate.beans.ErrorNotifyResponseData;
 import io.harness.delegate.beans.executioncapability.ExecutionCapability;
 import io.harness.exception.InvalidArgumentsException;
 import io.harness.exception.WingsException;
+import io.harness.metrics.beans.DelegateSyncTaskMetricContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.persistence.HIterator;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.KryoSerializer;
 import io.harness.service.intfc.DelegateSyncService;
@@ -28,50 +30,160 @@ import io.harness.tasks.BinaryResponseData;
 import io.harness.tasks.ResponseData;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.tools.StringUtils;
 
+/**
+ * Sync task responses are delivered to the waiters in two ways:
+ *  - pushed by {@link DelegateSyncTaskResponseTracker} as soon as the response is inserted, when the change stream is
+ *    available
+ *  - polled in batches for all the waiting tasks, every 200 ms when the change stream is not alive and by
+ *    {@link #run()} as a safety net otherwise
+ * The waits are completed on the change stream and scheduler threads, the callbacks of the waiters run on a separate
+ * executor so that a slow waiter can not hold back the delivery of the other responses.
+ */
 @Singleton
 @Slf4j
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateSyncServiceImpl implements DelegateSyncService {
+  public static final String SYNC_TASK_WAIT_TIME = "delegate_sync_task_wait_time";
+  public static final String SYNC_TASK_COMPLETED = "delegate_sync_task_completed";
+  static final String PUSH = "push";
+  static final String POLL = "poll";
+  static final String TIMEOUT = "timeout";
+
+  private static final Duration FALLBACK_POLL_INTERVAL = Duration.ofMillis(200);
+
   @Inject private HPersistence persistence;
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("disableDeserialization") private boolean disableDeserialization;
+  @Inject(optional = true) private MetricService metricService;
+
+  @VisibleForTesting
+  public final ConcurrentMap<String, CompletableFuture<DelegateSyncTaskResponse>> syncTaskWaitMap =
+      new ConcurrentHashMap<>();
 
-  @VisibleForTesting public final ConcurrentMap<String, AtomicLong> syncTaskWaitMap = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+      1, new ThreadFactoryBuilder().setNameFormat("delegate-sync-task-waiter-%d").setDaemon(true).build());
+  private final ExecutorService callbackExecutor = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder().setNameFormat("delegate-sync-task-callback-%d").setDaemon(true).build());
+  private final AtomicBoolean fallbackPollingScheduled = new AtomicBoolean();
+  private volatile boolean pushNotificationsAlive;
+
+  public DelegateSyncServiceImpl() {
+    // Expiries are cancelled as soon as the response arrives, do not keep them queued until their timeout
+    scheduler.setRemoveOnCancelPolicy(true);
+  }
 
   @Override
-  @SuppressWarnings({"PMD", "SynchronizationOnLocalVariableOrMethodParameter"})
   public void run() {
+    pollResponses();
+  }
+
+  @Override
+  public <T extends ResponseData> T waitForTask(
+      String taskId, String description, Duration timeout, List<ExecutionCapability> executionCapabilities) {
+    try {
+      return this.<T>waitForTaskAsync(taskId, description, timeout, executionCapabilities).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidArgumentsException(Pair.of("args", "Error while waiting for completion"), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof WingsException) {
+        throw(WingsException) e.getCause();
+      }
+      throw new InvalidArgumentsException(Pair.of("args", "Error while waiting for completion"), e.getCause());
+    }
+  }
+
+  @Override
+  public <T extends ResponseData> CompletableFuture<T> waitForTaskAsync(
+      String taskId, String description, Duration timeout, List<ExecutionCapability> executionCapabilities) {
+    log.info("Start wait sync task {}", taskId);
+    if (fallbackPollingScheduled.compareAndSet(false, true)) {
+      scheduler.scheduleWithFixedDelay(() -> {
+        if (!pushNotificationsAlive) {
+          pollResponses();
+        }
+      }, FALLBACK_POLL_INTERVAL.toMillis(), FALLBACK_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    long startTime = currentTimeMillis();
+    CompletableFuture<DelegateSyncTaskResponse> future =
+        syncTaskWaitMap.computeIfAbsent(taskId, k -> new CompletableFuture<>());
+    ScheduledFuture<?> expiry = scheduler.schedule(() -> expire(taskId), timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+    return future
+        .whenCompleteAsync((taskResponse, throwable) -> {
+          expiry.cancel(false);
+          syncTaskWaitMap.remove(taskId);
+          persistence.delete(DelegateSyncTaskResponse.class, taskId);
+          recordWaitTime(Duration.ofMillis(currentTimeMillis() - startTime));
+        }, callbackExecutor)
+        .thenApplyAsync(taskResponse -> {
+          if (taskResponse == null) {
+            throw new InvalidArgumentsException(expiredErrorMessage(executionCapabilities));
+          }
+          return toResponseData(taskResponse);
+        }, callbackExecutor);
+  }
+
+  /**
+   * Completes the wait for a task whose response was just inserted.
+   */
+  public void onResponse(String taskId, byte[] responseData) {
+    CompletableFuture<DelegateSyncTaskResponse> future = syncTaskWaitMap.get(taskId);
+    if (future == null) {
+      return;
+    }
+    log.debug("Response pushed for sync task {}", taskId);
+    DelegateSyncTaskResponse taskResponse = responseData != null
+        ? DelegateSyncTaskResponse.builder().uuid(taskId).responseData(responseData).build()
+        : persistence.get(DelegateSyncTaskResponse.class, taskId);
+    complete(future, taskResponse, PUSH);
+  }
+
+  public void setPushNotificationsAlive(boolean pushNotificationsAlive) {
+    this.pushNotificationsAlive = pushNotificationsAlive;
+  }
+
+  @VisibleForTesting
+  int getScheduledTaskCount() {
+    return scheduler.getQueue().size();
+  }
+
+  @VisibleForTesting
+  void pollResponses() {
     try {
       if (isNotEmpty(syncTaskWaitMap)) {
-        List<String> completedSyncTasks = persistence.createQuery(DelegateSyncTaskResponse.class, excludeAuthority)
-                                              .field(DelegateSyncTaskResponseKeys.uuid)
-                                              .in(syncTaskWaitMap.keySet())
-                                              .asKeyList()
-                                              .stream()
-                                              .map(key -> key.getId().toString())
-                                              .collect(toList());
-        for (String taskId : completedSyncTasks) {
-          log.debug("Found response for sync task {}", taskId);
-          AtomicLong endAt = syncTaskWaitMap.get(taskId);
-          if (endAt != null) {
-            synchronized (endAt) {
-              log.debug("Notifying threads for task {}", taskId);
-              endAt.set(0L);
-              endAt.notifyAll();
+        try (HIterator<DelegateSyncTaskResponse> responses =
+                 new HIterator<>(persistence.createQuery(DelegateSyncTaskResponse.class, excludeAuthority)
+                                     .field(DelegateSyncTaskResponseKeys.uuid)
+                                     .in(syncTaskWaitMap.keySet())
+                                     .fetch())) {
+          for (DelegateSyncTaskResponse taskResponse : responses) {
+            log.debug("Found response for sync task {}", taskResponse.getUuid());
+            CompletableFuture<DelegateSyncTaskResponse> future = syncTaskWaitMap.get(taskResponse.getUuid());
+            if (future != null) {
+              complete(future, taskResponse, POLL);
             }
           }
         }
@@ -81,48 +193,61 @@ public class DelegateSyncServiceImpl implements DelegateSyncService {
     }
   }
 
-  @Override
-  public <T extends ResponseData> T waitForTask(
-      String taskId, String description, Duration timeout, List<ExecutionCapability> executionCapabilities) {
-    DelegateSyncTaskResponse taskResponse = null;
+  private void expire(String taskId) {
+    CompletableFuture<DelegateSyncTaskResponse> future = syncTaskWaitMap.get(taskId);
+    if (future == null || future.isDone()) {
+      return;
+    }
+    // The response could have just arrived, give it the last chance
     try {
-      log.info("Start wait sync task {}", taskId);
-      AtomicLong endAt =
-          syncTaskWaitMap.computeIfAbsent(taskId, k -> new AtomicLong(currentTimeMillis() + timeout.toMillis()));
-      synchronized (endAt) {
-        do {
-          endAt.wait(Math.min(Duration.ofMillis(200).toMillis(), timeout.toMillis()));
-          taskResponse = persistence.get(DelegateSyncTaskResponse.class, taskId);
-        } while (taskResponse == null && endAt.get() != 0 && currentTimeMillis() < endAt.get());
+      DelegateSyncTaskResponse taskResponse = persistence.get(DelegateSyncTaskResponse.class, taskId);
+      if (taskResponse != null) {
+        complete(future, taskResponse, POLL);
+        return;
       }
-    } catch (Exception e) {
-      throw new InvalidArgumentsException(Pair.of("args", "Error while waiting for completion"), e);
-    } finally {
-      syncTaskWaitMap.remove(taskId);
-      persistence.delete(DelegateSyncTaskResponse.class, taskId);
+    } catch (Exception exception) {
+      log.warn("Failed to fetch the response of expiring sync task {}", taskId, exception);
     }
+    complete(future, null, TIMEOUT);
+  }
 
-    if (taskResponse == null) {
-      List<String> capabilityErrorMsgsList = new ArrayList<>();
-      if (isNotEmpty(executionCapabilities)) {
-        for (ExecutionCapability executionCapability : executionCapabilities) {
-          if (isNotEmpty(executionCapability.getCapabilityToString())) {
-            capabilityErrorMsgsList.add(executionCapability.getCapabilityToString());
-          }
-        }
+  private void complete(
+      CompletableFuture<DelegateSyncTaskResponse> future, DelegateSyncTaskResponse taskResponse, String completedBy) {
+    if (future.complete(taskResponse) && metricService != null) {
+      try (DelegateSyncTaskMetricContext ignore = new DelegateSyncTaskMetricContext(completedBy)) {
+        metricService.incCounter(SYNC_TASK_COMPLETED);
       }
-      String errorMsg =
-          "Task has expired. It wasn't picked up by any delegate or delegate did not have enough time to finish the execution";
-      if (CollectionUtils.isNotEmpty(capabilityErrorMsgsList)) {
-        errorMsg = errorMsg
-            + String.format(" or None of the delegate had following capabilities [%s]",
-                StringUtils.join(capabilityErrorMsgsList, ","));
-      } else {
-        errorMsg = errorMsg + ".";
+    }
+  }
+
+  private void recordWaitTime(Duration waitTime) {
+    if (metricService != null) {
+      metricService.recordDuration(SYNC_TASK_WAIT_TIME, waitTime);
+    }
+  }
+
+  private String expiredErrorMessage(List<ExecutionCapability> executionCapabilities) {
+    List<String> capabilityErrorMsgsList = new ArrayList<>();
+    if (isNotEmpty(executionCapabilities)) {
+      for (ExecutionCapability executionCapability : executionCapabilities) {
+        if (isNotEmpty(executionCapability.getCapabilityToString())) {
+          capabilityErrorMsgsList.add(executionCapability.getCapabilityToString());
+        }
       }
-      throw new InvalidArgumentsException(errorMsg);
     }
+    String errorMsg =
+        "Task has expired. It wasn't picked up by any delegate or delegate did not have enough time to finish the execution";
+    if (CollectionUtils.isNotEmpty(capabilityErrorMsgsList)) {
+      errorMsg = errorMsg
+          + String.format(" or None of the delegate had following capabilities [%s]",
+              StringUtils.join(capabilityErrorMsgsList, ","));
+    } else {
+      errorMsg = errorMsg + ".";
+    }
+    return errorMsg;
+  }
 
+  private <T extends ResponseData> T toResponseData(DelegateSyncTaskResponse taskResponse) {
     if (disableDeserialization) {
       return (T) BinaryResponseData.builder().data(taskResponse.getResponseData()).build();
     }
@@ -136,6 +261,6 @@ public class DelegateSyncServiceImpl implements DelegateSyncService {
       }
     }
 
-    return (T) kryoSerializer.asInflatedObject(taskResponse.getResponseData());
+    return (T) response;
   }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.DelegateSyncTaskResponse;
+import io.harness.delegate.beans.DelegateSyncTaskResponse.DelegateSyncTaskResponseKeys;
+import io.harness.persistence.HPersistence;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.DBObject;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.mongodb.morphia.AdvancedDatastore;
+
+/**
+ * Watches the sync task responses collection of this service with a change stream and pushes every new response to
+ * {@link DelegateSyncServiceImpl}, so the waiters do not have to poll. Change streams require a replica set, when the
+ * stream can not be opened the sync service keeps polling and the stream is retried later.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(HarnessTeam.DEL)
+public class DelegateSyncTaskResponseTracker {
+  private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+  @Inject private HPersistence persistence;
+  @Inject private DelegateSyncServiceImpl delegateSyncService;
+
+  private ExecutorService executorService;
+
+  public synchronized void start() {
+    if (executorService != null) {
+      return;
+    }
+    executorService = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("delegate-sync-task-response-tracker-%d").setDaemon(true).build());
+    executorService.submit(this::track);
+  }
+
+  public synchronized void stop() {
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService = null;
+    }
+    delegateSyncService.setPushNotificationsAlive(false);
+  }
+
+  private void track() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        trackChanges();
+      } catch (MongoInterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.warn("Failed to open the sync task response change stream", e);
+      } finally {
+        delegateSyncService.setPushNotificationsAlive(false);
+      }
+
+      try {
+        Thread.sleep(RETRY_INTERVAL.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void trackChanges() {
+    try (MongoCursor<ChangeStreamDocument<DBObject>> cursor =
+             responseCollection()
+                 .watch(Collections.singletonList(
+                     Aggregates.match(Filters.in("operationType", "insert", "replace", "update"))))
+                 .fullDocument(FullDocument.UPDATE_LOOKUP)
+                 .maxAwaitTime(1, TimeUnit.MINUTES)
+                 .iterator()) {
+      // Waiters only stop polling once the stream is open, the responses inserted before that are polled one last time
+      delegateSyncService.setPushNotificationsAlive(true);
+      delegateSyncService.pollResponses();
+      cursor.forEachRemaining(this::onChange);
+    }
+  }
+
+  private void onChange(ChangeStreamDocument<DBObject> changeStreamDocument) {
+    DBObject fullDocument = changeStreamDocument.getFullDocument();
+    if (fullDocument == null) {
+      return;
+    }
+    String taskId = String.valueOf(fullDocument.get("_id"));
+    Object responseData = fullDocument.get(DelegateSyncTaskResponseKeys.responseData);
+    delegateSyncService.onResponse(taskId, responseData instanceof byte[] ? (byte[]) responseData : null);
+  }
+
+  private MongoCollection<DBObject> responseCollection() {
+    // The collection name is overridden per service, so resolve it the same way the persistence layer does
+    AdvancedDatastore datastore = persistence.getDatastore(DelegateSyncTaskResponse.class);
+    String collectionName = persistence.getCollection(DelegateSyncTaskResponse.class).getName();
+    return datastore.getMongo()
+        .getDatabase(datastore.getDB().getName())
+        .getCollection(collectionName)
+        .withDocumentClass(DBObject.class);
+  }
+}
@@ -14,9 +14,13 @@ import io.harness.tasks.ResponseData;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @OwnedBy(HarnessTeam.DEL)
 public interface DelegateSyncService extends Runnable {
   <T extends ResponseData> T waitForTask(
       String taskId, String description, Duration timeout, List<ExecutionCapability> executionCapabilities);
+
+  <T extends ResponseData> CompletableFuture<T> waitForTaskAsync(
+      String taskId, String description, Duration timeout, List<ExecutionCapability> executionCapabilities);
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.DelegateServiceDriverTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateSyncTaskResponse;
+import io.harness.exception.InvalidArgumentsException;
+import io.harness.persistence.HPersistence;
+import io.harness.rule.Owner;
+import io.harness.tasks.BinaryResponseData;
+import io.harness.tasks.ResponseData;
+
+import com.google.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateSyncServiceImplTest extends DelegateServiceDriverTestBase {
+  private static final byte[] RESPONSE = new byte[] {1, 2, 3};
+
+  @Inject private DelegateSyncServiceImpl delegateSyncService;
+  @Inject private HPersistence persistence;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCompleteOnPushedResponse() throws Exception {
+    String taskId = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+    CompletableFuture<ResponseData> future =
+        delegateSyncService.waitForTaskAsync(taskId, "test", Duration.ofMinutes(1), null);
+    assertThat(future).isNotDone();
+
+    persistence.save(DelegateSyncTaskResponse.builder().uuid(taskId).responseData(RESPONSE).build());
+    delegateSyncService.onResponse(taskId, RESPONSE);
+
+    ResponseData responseData = future.get(10, TimeUnit.SECONDS);
+    assertThat(((BinaryResponseData) responseData).getData()).isEqualTo(RESPONSE);
+    assertThat(delegateSyncService.syncTaskWaitMap).doesNotContainKey(taskId);
+    assertThat(persistence.get(DelegateSyncTaskResponse.class, taskId)).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCompleteAllWaitersWithOnePoll() throws Exception {
+    String taskId1 = generateUuid();
+    String taskId2 = generateUuid();
+    String taskId3 = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+    CompletableFuture<ResponseData> future1 =
+        delegateSyncService.waitForTaskAsync(taskId1, "test", Duration.ofMinutes(1), null);
+    CompletableFuture<ResponseData> future2 =
+        delegateSyncService.waitForTaskAsync(taskId2, "test", Duration.ofMinutes(1), null);
+    CompletableFuture<ResponseData> future3 =
+        delegateSyncService.waitForTaskAsync(taskId3, "test", Duration.ofMinutes(1), null);
+
+    persistence.save(DelegateSyncTaskResponse.builder().uuid(taskId1).responseData(RESPONSE).build());
+    persistence.save(DelegateSyncTaskResponse.builder().uuid(taskId2).responseData(RESPONSE).build());
+    delegateSyncService.pollResponses();
+
+    assertThat(future1.get(10, TimeUnit.SECONDS)).isInstanceOf(BinaryResponseData.class);
+    assertThat(future2.get(10, TimeUnit.SECONDS)).isInstanceOf(BinaryResponseData.class);
+    assertThat(future3).isNotDone();
+    assertThat(delegateSyncService.syncTaskWaitMap).containsOnlyKeys(taskId3);
+
+    delegateSyncService.onResponse(taskId3, RESPONSE);
+    assertThat(future3.get(10, TimeUnit.SECONDS)).isInstanceOf(BinaryResponseData.class);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldIgnorePushForUnknownTask() {
+    delegateSyncService.onResponse(generateUuid(), RESPONSE);
+    assertThat(delegateSyncService.syncTaskWaitMap).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldExpireTaskWithoutResponse() {
+    String taskId = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+
+    assertThatThrownBy(() -> delegateSyncService.waitForTask(taskId, "test", Duration.ofMillis(100), null))
+        .isInstanceOf(InvalidArgumentsException.class);
+    assertThat(delegateSyncService.syncTaskWaitMap).doesNotContainKey(taskId);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldExpireAsyncWaitWithoutResponse() {
+    String taskId = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+    CompletableFuture<ResponseData> future =
+        delegateSyncService.waitForTaskAsync(taskId, "test", Duration.ofMillis(100), null);
+
+    assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(InvalidArgumentsException.class);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotHoldBackResponsesBehindSlowWaiter() throws Exception {
+    String taskId1 = generateUuid();
+    String taskId2 = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+    CountDownLatch slowWaiterReleased = new CountDownLatch(1);
+    CompletableFuture<Void> slowWaiter =
+        delegateSyncService.waitForTaskAsync(taskId1, "test", Duration.ofMinutes(1), null).thenRun(() -> {
+          try {
+            slowWaiterReleased.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    CompletableFuture<ResponseData> future2 =
+        delegateSyncService.waitForTaskAsync(taskId2, "test", Duration.ofMinutes(1), null);
+
+    delegateSyncService.onResponse(taskId1, RESPONSE);
+    delegateSyncService.onResponse(taskId2, RESPONSE);
+
+    assertThat(future2.get(10, TimeUnit.SECONDS)).isInstanceOf(BinaryResponseData.class);
+    assertThat(slowWaiter).isNotDone();
+    slowWaiterReleased.countDown();
+    slowWaiter.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCancelExpiryOnResponse() throws Exception {
+    String taskId = generateUuid();
+    delegateSyncService.setPushNotificationsAlive(true);
+    CompletableFuture<ResponseData> future =
+        delegateSyncService.waitForTaskAsync(taskId, "test", Duration.ofMinutes(1), null);
+    int scheduledTaskCount = delegateSyncService.getScheduledTaskCount();
+
+    delegateSyncService.onResponse(taskId, RESPONSE);
+    future.get(10, TimeUnit.SECONDS);
+
+    assertThat(delegateSyncService.getScheduledTaskCount()).isEqualTo(scheduledTaskCount - 1);
+  }
+}
@@ -51,6 +51,7 @@ public class DelegateParams {
   boolean ceEnabled;
   boolean heartbeatAsObject;
   boolean immutable;
+  boolean resourceThresholdReached;
 
   List<String> supportedTaskTypes;
 
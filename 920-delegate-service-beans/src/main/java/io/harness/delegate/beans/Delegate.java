@@ -98,6 +98,11 @@ public class Delegate implements PersistentEntity, UuidAware, CreatedAtAware, Ac
 
   @Transient private List<String> currentlyExecutingDelegateTasks;
 
+  // Load reported by the last heartbeat, read by every manager dispatching tasks to the delegate
+  private int numberOfExecutingTasks;
+  private boolean resourceThresholdReached;
+  private long loadReportedAt;
+
   @Transient private boolean useCdn;
 
   @Transient private String useJreVersion;
@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.data.algorithm.AhoCorasickMasker;
 
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -24,10 +25,12 @@ import org.apache.commons.lang3.StringUtils;
 public class ActivityBasedLogSanitizer extends LogSanitizer {
   private final String activityId;
   private final Set<String> secretLines;
+  private final AhoCorasickMasker secretMasker;
 
   public ActivityBasedLogSanitizer(String activityId, Set<String> secrets) {
     this.activityId = activityId;
     secretLines = calculateSecretLines(secrets);
+    secretMasker = compileSecretMasker(secretLines);
   }
 
   /**
@@ -42,7 +45,7 @@ public class ActivityBasedLogSanitizer extends LogSanitizer {
       if (isEmpty(secretLines)) {
         return message;
       }
-      return sanitizeLogInternal(message, secretLines);
+      return sanitizeLogInternal(message, secretMasker);
     }
     return message;
   }
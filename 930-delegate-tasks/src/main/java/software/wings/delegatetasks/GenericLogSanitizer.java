@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.data.algorithm.AhoCorasickMasker;
 
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +23,11 @@ import lombok.extern.slf4j.Slf4j;
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class GenericLogSanitizer extends LogSanitizer {
   private final Set<String> secretLines;
+  private final AhoCorasickMasker secretMasker;
 
   public GenericLogSanitizer(Set<String> secrets) {
     secretLines = calculateSecretLines(secrets);
+    secretMasker = compileSecretMasker(secretLines);
   }
 
   /**
@@ -38,6 +41,6 @@ public class GenericLogSanitizer extends LogSanitizer {
     if (isEmpty(secretLines)) {
       return message;
     }
-    return sanitizeLogInternal(message, secretLines);
+    return sanitizeLogInternal(message, secretMasker);
   }
 }
@@ -9,15 +9,13 @@ package software.wings.delegatetasks;
 
 import static io.harness.expression.SecretString.SECRET_MASK;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
-
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
+import io.harness.data.algorithm.AhoCorasickMasker;
 import io.harness.data.structure.EmptyPredicate;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -47,13 +45,11 @@ public abstract class LogSanitizer {
 
   public abstract String sanitizeLog(String activityId, String message);
 
-  protected String sanitizeLogInternal(String message, Set<String> secrets) {
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    return replaceEach(message, secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+  public static AhoCorasickMasker compileSecretMasker(Set<String> secretLines) {
+    return AhoCorasickMasker.compile(secretLines, SECRET_MASK);
+  }
+
+  protected String sanitizeLogInternal(String message, AhoCorasickMasker secretMasker) {
+    return secretMasker.mask(message);
   }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.delegate.beans.DelegateMetaInfo;
+import io.harness.delegate.task.http.HttpStepResponse;
+import io.harness.delegate.task.http.HttpTaskParametersNg;
+import io.harness.http.HttpHeaderConfig;
+import io.harness.logging.CommandExecutionStatus;
+import io.harness.rule.Owner;
+
+import com.google.common.io.ByteStreams;
+import com.sun.management.ThreadMXBean;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Throughput and allocation of the task parameters and responses round trips, with the per call streams the
+ * serializer used to allocate and with its pooled buffers.
+ */
+@Slf4j
+public class KryoSerializerStressTest extends CategoryTest {
+  private static final int WARMUP = 2_000;
+  private static final int ITERATIONS = 20_000;
+
+  private final KryoSerializer kryoSerializer =
+      new KryoSerializer(DelegateTasksBeansRegistrars.kryoRegistrars, true, false);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareStreamsAndPooledBuffers() {
+    for (Object payload : payloads()) {
+      String name = payload.getClass().getSimpleName();
+      run(name + " deflate, streams", payload, this::streamDeflatedBytes, this::streamInflatedObject);
+      run(name + " deflate, pooled", payload, kryoSerializer::asDeflatedBytes, kryoSerializer::asInflatedObject);
+    }
+  }
+
+  private void run(String name, Object payload, Function<Object, byte[]> serialize,
+      Function<byte[], Object> deserialize) {
+    for (int i = 0; i < WARMUP; i++) {
+      deserialize.apply(serialize.apply(payload));
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      deserialize.apply(serialize.apply(payload));
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} ops/sec, {} bytes allocated per op", name, ITERATIONS * 1_000_000_000L / elapsedNanos,
+        allocated / ITERATIONS);
+  }
+
+  private byte[] streamDeflatedBytes(Object obj) {
+    try {
+      ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+      DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
+      kryoSerializer.writeToStream(obj, outputStream);
+      outputStream.finish();
+      return byteStream.toByteArray();
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+  }
+
+  private Object streamInflatedObject(byte[] bytes) {
+    try (InflaterInputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+      return kryoSerializer.asObject(ByteStreams.toByteArray(inputStream));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static List<Object> payloads() {
+    List<HttpHeaderConfig> headers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      headers.add(HttpHeaderConfig.builder().key("header-" + i).value("value-" + i).build());
+    }
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < 64 * 1024; i++) {
+      body.append((char) ('a' + i % 26));
+    }
+
+    List<Object> payloads = new ArrayList<>();
+    payloads.add(HttpTaskParametersNg.builder()
+                     .method("POST")
+                     .url("https://app.harness.io/api/resource")
+                     .requestHeader(headers)
+                     .body("{\"key\": \"value\"}")
+                     .socketTimeoutMillis(30000)
+                     .build());
+    payloads.add(HttpStepResponse.builder()
+                     .delegateMetaInfo(DelegateMetaInfo.builder().id("delegateId").hostName("delegate-0").build())
+                     .commandExecutionStatus(CommandExecutionStatus.SUCCESS)
+                     .httpResponseBody(body.toString())
+                     .httpResponseCode(200)
+                     .httpMethod("GET")
+                     .httpUrl("https://app.harness.io/api/resource")
+                     .build());
+    return payloads;
+  }
+}
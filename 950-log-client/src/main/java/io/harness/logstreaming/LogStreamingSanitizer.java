@@ -10,30 +10,25 @@ package io.harness.logstreaming;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.expression.SecretString.SECRET_MASK;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
+import io.harness.data.algorithm.AhoCorasickMasker;
 
-import java.util.ArrayList;
 import java.util.Set;
 import lombok.Builder;
 
-@Builder
 public class LogStreamingSanitizer {
-  private final Set<String> secrets;
+  // Compiled once per task so that every log line is masked in a single pass
+  private final AhoCorasickMasker secretMasker;
+
+  @Builder
+  public LogStreamingSanitizer(Set<String> secrets) {
+    this.secretMasker = isEmpty(secrets) ? null : AhoCorasickMasker.compile(secrets, SECRET_MASK);
+  }
 
   public void sanitizeLogMessage(LogLine logLine) {
-    if (isEmpty(secrets)) {
+    if (secretMasker == null) {
       return;
     }
 
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    String sanitizedLogMessage =
-        replaceEach(logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
-
-    logLine.setMessage(sanitizedLogMessage);
+    logLine.setMessage(secretMasker.mask(logLine.getMessage()));
   }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.waiter.NotifyEventListenerHelper.LOCAL;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.logging.AutoLogContext;
+import io.harness.tasks.ResponseData;
+import io.harness.threading.ThreadPool;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wait instances registered on this instance, kept in memory when {@link WaiterConfiguration#isLocalCompletion()} is
+ * enabled. When all the correlation ids of such a wait instance are done on this instance too, the callback is run
+ * right away with the responses in memory, instead of going through the notify queue and reading the responses back.
+ *
+ * The wait instance and the responses are persisted as usual. The wait instance is claimed for processing the same way
+ * the notify event listener does it, so whichever path gets to it first runs the callback. Anything done on another
+ * instance, or before the registration, leaves the wait instance to the notify queue. Waiters are forgotten after
+ * {@link #EXPIRY}, the notify queue takes care of them as well.
+ */
+@Singleton
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class LocalCompletionRegistry {
+  static final Duration EXPIRY = Duration.ofHours(1);
+  private static final long MAX_CORRELATION_IDS = 200_000;
+
+  @Inject private WaiterConfiguration waiterConfiguration;
+  @Inject private WaitInstanceService waitInstanceService;
+  @Inject private NotifyEventListenerHelper notifyEventListenerHelper;
+  @Inject private WaitNotifyEngine waitNotifyEngine;
+
+  private final Cache<String, List<LocalWaiter>> waitersByCorrelationId =
+      Caffeine.newBuilder().maximumSize(MAX_CORRELATION_IDS).expireAfterWrite(EXPIRY).build();
+  // Wait instances completed here, the notify queue should not be bothered with them
+  private final Cache<String, Boolean> completedWaitInstanceIds =
+      Caffeine.newBuilder().maximumSize(MAX_CORRELATION_IDS).expireAfterWrite(EXPIRY).build();
+  private final ExecutorService executorService = ThreadPool.create(1, 20, 10, TimeUnit.SECONDS,
+      new ThreadFactoryBuilder().setNameFormat("local-wait-completion-%d").setDaemon(true).build());
+
+  public boolean isEnabled() {
+    return waiterConfiguration.isLocalCompletion();
+  }
+
+  /**
+   * Registers a wait instance that was just saved. Wait instances with a progress callback are left to the notify
+   * queue, the progress updates are delivered in order with the responses only there.
+   */
+  void register(WaitInstance waitInstance) {
+    if (!isEnabled() || waitInstance.getCallback() == null || waitInstance.getProgressCallback() != null) {
+      return;
+    }
+    LocalWaiter waiter = new LocalWaiter(
+        waitInstance.getUuid(), waitInstance.getPublisher(), waitInstance.getWaitingOnCorrelationIds());
+    for (String correlationId : waitInstance.getWaitingOnCorrelationIds()) {
+      waitersByCorrelationId.get(correlationId, key -> new CopyOnWriteArrayList<>()).add(waiter);
+    }
+  }
+
+  void unregister(WaitInstance waitInstance) {
+    for (String correlationId : waitInstance.getCorrelationIds()) {
+      List<LocalWaiter> waiters = waitersByCorrelationId.getIfPresent(correlationId);
+      if (waiters != null) {
+        waiters.removeIf(waiter -> waiter.waitInstanceId.equals(waitInstance.getUuid()));
+      }
+    }
+  }
+
+  /**
+   * Records the response of a correlation id that was just persisted and marks the local wait instances that are not
+   * waiting on anything else anymore as completed here. Their callbacks are to be run with {@link #runCompletions}
+   * only once the correlation id is pulled from the persisted wait instances, a crash must not leave a persisted wait
+   * instance waiting on a correlation id that is done.
+   *
+   * @return the completions of the local wait instances
+   */
+  List<Runnable> done(String correlationId, ResponseData response, boolean error) {
+    if (!isEnabled()) {
+      return Collections.emptyList();
+    }
+    List<LocalWaiter> waiters = waitersByCorrelationId.getIfPresent(correlationId);
+    if (waiters == null) {
+      return Collections.emptyList();
+    }
+    waitersByCorrelationId.invalidate(correlationId);
+    List<Runnable> completions = new ArrayList<>();
+    for (LocalWaiter waiter : waiters) {
+      if (waiter.done(correlationId, response, error)) {
+        completedWaitInstanceIds.put(waiter.waitInstanceId, Boolean.TRUE);
+        completions.add(() -> complete(waiter));
+      }
+    }
+    return completions;
+  }
+
+  void runCompletions(List<Runnable> completions) {
+    completions.forEach(executorService::submit);
+  }
+
+  boolean isCompletedLocally(String waitInstanceId) {
+    return completedWaitInstanceIds.getIfPresent(waitInstanceId) != null;
+  }
+
+  private void complete(LocalWaiter waiter) {
+    try (AutoLogContext ignore = new WaitInstanceLogContext(waiter.waitInstanceId, OVERRIDE_ERROR)) {
+      final long now = System.currentTimeMillis();
+      WaitInstance waitInstance;
+      try {
+        waitInstance = waitInstanceService.fetchForProcessingWaitInstance(waiter.waitInstanceId, now);
+      } catch (Exception exception) {
+        log.warn("Failed to claim the WaitInstance, leaving it to the notify queue", exception);
+        completedWaitInstanceIds.invalidate(waiter.waitInstanceId);
+        waitNotifyEngine.sendNotification(
+            WaitInstance.builder().uuid(waiter.waitInstanceId).publisher(waiter.publisher).build());
+        return;
+      }
+      if (waitInstance == null) {
+        log.info("WaitInstance was already handled by the notify queue");
+        return;
+      }
+
+      notifyEventListenerHelper.process(waitInstance, waiter.responses(), waiter.isError(), LOCAL);
+      waitInstanceService.checkProcessingTime(now);
+    } catch (Exception exception) {
+      log.error("Failed to complete the WaitInstance locally", exception);
+    }
+  }
+
+  private static class LocalWaiter {
+    private final String waitInstanceId;
+    private final String publisher;
+    private final Set<String> waitingOnCorrelationIds;
+    private final Map<String, ResponseData> responses = new HashMap<>();
+    private boolean error;
+
+    LocalWaiter(String waitInstanceId, String publisher, List<String> waitingOnCorrelationIds) {
+      this.waitInstanceId = waitInstanceId;
+      this.publisher = publisher;
+      this.waitingOnCorrelationIds = new HashSet<>(waitingOnCorrelationIds);
+    }
+
+    /**
+     * @return true if this was the last correlation id the waiter was waiting on
+     */
+    synchronized boolean done(String correlationId, ResponseData response, boolean error) {
+      if (!waitingOnCorrelationIds.remove(correlationId)) {
+        return false;
+      }
+      responses.put(correlationId, response);
+      this.error |= error;
+      return waitingOnCorrelationIds.isEmpty();
+    }
+
+    synchronized Map<String, ResponseData> responses() {
+      return new HashMap<>(responses);
+    }
+
+    synchronized boolean isError() {
+      return error;
+    }
+  }
+}
@@ -13,6 +13,8 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.UnsupportedOperationException;
 import io.harness.logging.AutoLogContext;
+import io.harness.metrics.beans.WaitEngineMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ResponseData;
 import io.harness.waiter.persistence.PersistenceWrapper;
@@ -20,6 +22,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -29,9 +32,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @OwnedBy(HarnessTeam.PIPELINE)
 public class NotifyEventListenerHelper {
+  public static final String WAIT_ENGINE_CALLBACK_LATENCY = "wait_engine_callback_latency";
+  static final String QUEUE = "queue";
+  static final String LOCAL = "local";
+
   @Inject private Injector injector;
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private WaitInstanceService waitInstanceService;
+  @Inject(optional = true) private MetricService metricService;
 
   public void onMessage(String waitInstanceId) {
     try (AutoLogContext ignore = new WaitInstanceLogContext(waitInstanceId, OVERRIDE_ERROR)) {
@@ -44,16 +52,33 @@ public class NotifyEventListenerHelper {
       }
 
       ProcessedMessageResponse response = persistenceWrapper.processMessage(waitInstance);
+      process(waitInstance, response.getResponseDataMap(), response.isError(), QUEUE);
 
-      NotifyCallback callback = waitInstance.getCallback();
-      if (callback != null) {
-        injector.injectMembers(callback);
-        processCallback(callback, response.getResponseDataMap(), response.isError());
-      }
+      waitInstanceService.checkProcessingTime(now);
+    }
+  }
 
-      persistenceWrapper.deleteWaitInstance(waitInstance);
+  /**
+   * Runs the callback of a wait instance claimed for processing and deletes it.
+   */
+  void process(WaitInstance waitInstance, Map<String, ResponseData> responseMap, boolean isError, String completedBy) {
+    NotifyCallback callback = waitInstance.getCallback();
+    if (callback != null) {
+      injector.injectMembers(callback);
+      recordCallbackLatency(waitInstance, completedBy);
+      processCallback(callback, responseMap, isError);
+    }
 
-      waitInstanceService.checkProcessingTime(now);
+    persistenceWrapper.deleteWaitInstance(waitInstance);
+  }
+
+  private void recordCallbackLatency(WaitInstance waitInstance, String completedBy) {
+    if (metricService == null || waitInstance.getCreatedAt() == 0) {
+      return;
+    }
+    try (WaitEngineMetricContext ignore = new WaitEngineMetricContext(completedBy)) {
+      metricService.recordDuration(
+          WAIT_ENGINE_CALLBACK_LATENCY, Duration.ofMillis(System.currentTimeMillis() - waitInstance.getCreatedAt()));
     }
   }
 
@@ -54,6 +54,7 @@ public class WaitInstance implements WaitEngineEntity {
 
   NotifyCallback callback;
   long callbackProcessingAt;
+  long createdAt;
 
   ProgressCallback progressCallback;
 
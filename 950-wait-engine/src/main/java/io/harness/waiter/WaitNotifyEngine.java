@@ -35,12 +35,15 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * WaitNotifyEngine allows tasks to register in waitQueue and get notified via callback.
@@ -55,6 +58,7 @@ public class WaitNotifyEngine {
   @Inject private PersistenceWrapper persistenceWrapper;
   @Inject private KryoSerializer kryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private LocalCompletionRegistry localCompletionRegistry;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -96,17 +100,23 @@ public class WaitNotifyEngine {
                                                         .callback(callback)
                                                         .progressCallback(progressCallback)
                                                         .publisher(publisherName)
-                                                        .timeout(timeout);
+                                                        .timeout(timeout)
+                                                        .createdAt(currentTimeMillis());
 
     waitInstanceBuilder.correlationIds(list).waitingOnCorrelationIds(list);
 
-    final String waitInstanceId = persistenceWrapper.saveWithTimeout(waitInstanceBuilder.build(), timeout);
+    final WaitInstance newWaitInstance = waitInstanceBuilder.build();
+    final String waitInstanceId = persistenceWrapper.saveWithTimeout(newWaitInstance, timeout);
+    localCompletionRegistry.register(newWaitInstance);
 
     WaitInstance waitInstance;
     if ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstanceForExistingResponse(waitInstanceId, list))
         != null) {
+      // The responses that were already there are known only to the notify queue
+      localCompletionRegistry.unregister(newWaitInstance);
       if (isEmpty(waitInstance.getWaitingOnCorrelationIds())
-          && waitInstance.getCallbackProcessingAt() < System.currentTimeMillis()) {
+          && waitInstance.getCallbackProcessingAt() < System.currentTimeMillis()
+          && !localCompletionRegistry.isCompletedLocally(waitInstanceId)) {
         sendNotification(waitInstance);
       }
     }
@@ -158,7 +168,14 @@ public class WaitNotifyEngine {
       if (log.isDebugEnabled()) {
         log.debug("Process NotifyResponse mongo queryTime {}", queryEndTime - doneWithStartTime);
       }
-      handleNotifyResponse(correlationId);
+      List<Runnable> localCompletions =
+          localCompletionRegistry.done(correlationId, response, error || response instanceof ErrorResponseData);
+      try {
+        // The local wait instances are completed in memory, the notify queue needs only the rest of them
+        handleNotifyResponse(correlationId);
+      } finally {
+        localCompletionRegistry.runCompletions(localCompletions);
+      }
       return correlationId;
     } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
       log.warn("Unexpected rate of DuplicateKeyException per correlation", exception);
@@ -168,6 +185,62 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Completes many correlation ids at once, typically the children of a fan-in. The responses are inserted with one
+   * bulk write, the correlation ids are pulled from all the wait instances with one update and the notifications of
+   * the wait instances that are done are published in one batch per publisher.
+   *
+   * As with {@link #waitForAllOn}, a wait instance completed concurrently by another call can get notified twice, the
+   * second notification finds it already handled.
+   *
+   * @return the correlation ids, or an empty list if the responses could not be processed
+   */
+  public List<String> doneWithAll(Map<String, ? extends ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+    Preconditions.checkArgument(
+        responses.keySet().stream().allMatch(StringUtils::isNotBlank), "correlationId is null or empty");
+
+    if (log.isDebugEnabled()) {
+      log.debug("done with notify request received for the correlationIds : {}", responses.keySet());
+    }
+
+    try {
+      final Stopwatch stopwatch = Stopwatch.createStarted();
+      final long createdAt = currentTimeMillis();
+      List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+      responses.forEach((correlationId, response)
+                            -> notifyResponses.add(NotifyResponse.builder()
+                                                       .uuid(correlationId)
+                                                       .createdAt(createdAt)
+                                                       .responseData(kryoSerializer.asDeflatedBytes(response))
+                                                       .error(response instanceof ErrorResponseData)
+                                                       .build()));
+      persistenceWrapper.saveNotifyResponses(notifyResponses);
+      List<Runnable> localCompletions = new ArrayList<>();
+      responses.forEach((correlationId, response)
+                            -> localCompletions.addAll(localCompletionRegistry.done(
+                                correlationId, response, response instanceof ErrorResponseData)));
+
+      List<String> correlationIds = new ArrayList<>(responses.keySet());
+      try {
+        sendNotifications(persistenceWrapper.modifyAndFetchWaitInstances(correlationIds));
+      } finally {
+        localCompletionRegistry.runCompletions(localCompletions);
+      }
+
+      if (log.isDebugEnabled()) {
+        log.debug("Process {} NotifyResponses mongo queryTime {}", correlationIds.size(),
+            stopwatch.elapsed(TimeUnit.MILLISECONDS));
+      }
+      return correlationIds;
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", responses.size(), exception);
+    }
+    return Collections.emptyList();
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (AutoLogRemoveContext ignore = new AutoLogRemoveContext(WaitInstanceLogContext.ID)) {
       String publisher = waitInstance.getPublisher();
@@ -185,10 +258,36 @@ public class WaitNotifyEngine {
     }
   }
 
+  private void sendNotifications(List<WaitInstance> waitInstances) {
+    if (isEmpty(waitInstances)) {
+      return;
+    }
+    try (AutoLogRemoveContext ignore = new AutoLogRemoveContext(WaitInstanceLogContext.ID)) {
+      Map<String, List<NotifyEvent>> eventsByPublisher = new HashMap<>();
+      for (WaitInstance waitInstance : waitInstances) {
+        if (localCompletionRegistry.isCompletedLocally(waitInstance.getUuid())) {
+          continue;
+        }
+        eventsByPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new ArrayList<>())
+            .add(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+      }
+
+      eventsByPublisher.forEach((publisher, events) -> {
+        final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(publisher);
+        if (notifyQueuePublisher == null) {
+          log.error("Unknown publisher {}", publisher);
+          return;
+        }
+        notifyQueuePublisher.sendAll(events);
+      });
+    }
+  }
+
   public void handleNotifyResponse(String uuid) {
     WaitInstance waitInstance;
     while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(uuid)) != null) {
-      if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+      if (isEmpty(waitInstance.getWaitingOnCorrelationIds())
+          && !localCompletionRegistry.isCompletedLocally(waitInstance.getUuid())) {
         sendNotification(waitInstance);
       }
     }
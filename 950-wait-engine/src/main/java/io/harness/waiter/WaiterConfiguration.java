@@ -20,4 +20,6 @@ import lombok.Value;
 public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+  // Run the callbacks of the wait instances completed on the instance that registered them without the notify queue
+  boolean localCompletion;
 }
@@ -197,6 +197,31 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    hPersistence.saveIgnoringDuplicateKeys(notifyResponses);
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                          .in(waitingOnCorrelationIds);
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+    hPersistence.update(query, operations);
+
+    return hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+        .field(WaitInstanceKeys.correlationIds)
+        .in(waitingOnCorrelationIds)
+        .field(WaitInstanceKeys.waitingOnCorrelationIds)
+        .sizeEq(0)
+        .project(WaitInstanceKeys.uuid, true)
+        .project(WaitInstanceKeys.publisher, true)
+        .asList();
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,17 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Saves the responses with a single bulk insert, responses that already exist are left as they are.
+   */
+  void saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes the correlation ids from all the wait instances waiting on them with a single update and returns the wait
+   * instances that are not waiting on anything anymore. Only the uuid and the publisher of them are fetched.
+   */
+  List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.eraro.mongo.MongoError.DUPLICATE_KEY;
 import static io.harness.springdata.TransactionUtils.DEFAULT_TRANSACTION_RETRY_POLICY;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
@@ -50,6 +51,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -183,6 +186,33 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(wiQuery, wiUpdate, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return;
+    }
+    try {
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException exception) {
+      if (exception.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY.getErrorCode())) {
+        throw exception;
+      }
+      log.warn("{} of the {} responses already exist", exception.getErrors().size(), notifyResponses.size());
+    }
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    mongoTemplate.updateMulti(query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds)),
+        new Update().pullAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0])),
+        WaitInstance.class);
+
+    Query query = query(where(WaitInstanceKeys.correlationIds).in(waitingOnCorrelationIds))
+                      .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).size(0));
+    query.fields().include(WaitInstanceKeys.uuid).include(WaitInstanceKeys.publisher);
+    return mongoTemplate.find(query, WaitInstance.class);
+  }
+
   @Override
   public void deleteNotifyResponses(List<String> responseIds) {
     if (isEmpty(responseIds)) {
@@ -20,4 +20,8 @@ public interface WaiterRuleMixin {
     return annotations.stream().anyMatch(SpringWaiter.class ::isInstance) ? PersistenceLayer.SPRING
                                                                           : PersistenceLayer.MORPHIA;
   };
+
+  default boolean obtainLocalCompletion(List<Annotation> annotations) {
+    return annotations.stream().anyMatch(LocalCompletionWaiter.class ::isInstance);
+  }
 }
@@ -134,7 +134,10 @@ public class WaitEngineRule implements MethodRule, InjectorRuleMixin, MongoRuleM
     modules.add(new AbstractWaiterModule() {
       @Override
       public WaiterConfiguration waiterConfiguration() {
-        return WaiterConfiguration.builder().persistenceLayer(obtainPersistenceLayer(annotations)).build();
+        return WaiterConfiguration.builder()
+            .persistenceLayer(obtainPersistenceLayer(annotations))
+            .localCompletion(obtainLocalCompletion(annotations))
+            .build();
       }
     });
 
@@ -9,6 +9,7 @@ package io.harness.waiter;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 
 import io.harness.WaitEngineTestBase;
@@ -16,6 +17,7 @@ import io.harness.category.element.StressTests;
 import io.harness.maintenance.MaintenanceGuard;
 import io.harness.persistence.HPersistence;
 import io.harness.rule.Owner;
+import io.harness.tasks.ResponseData;
 import io.harness.testlib.RealMongo;
 import io.harness.threading.Concurrent;
 import io.harness.threading.Morpheus;
@@ -25,7 +27,10 @@ import java.io.IOException;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -34,6 +39,7 @@ import org.junit.experimental.categories.Category;
 @Slf4j
 public class StressTest extends WaitEngineTestBase {
   private static final SecureRandom random = new SecureRandom();
+  private static final int FAN_IN = 500;
 
   @Inject private HPersistence persistence;
   @Inject private WaitNotifyEngine waitNotifyEngine;
@@ -99,4 +105,35 @@ public class StressTest extends WaitEngineTestBase {
       }
     }
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @RealMongo
+  @Ignore("Ignore this stress test to make it easy to run only unit tests")
+  public void fanIn() {
+    persistence.ensureIndexForTesting(WaitInstance.class);
+    persistence.ensureIndexForTesting(NotifyResponse.class);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      for (int round = 0; round < 5; round++) {
+        long oneByOne = fanIn(responses -> responses.forEach(waitNotifyEngine::doneWith));
+        long all = fanIn(waitNotifyEngine::doneWithAll);
+        log.info("{} children: doneWith one by one {} ms, doneWithAll {} ms", FAN_IN, oneByOne, all);
+      }
+    }
+  }
+
+  private long fanIn(Consumer<Map<String, ResponseData>> done) {
+    Map<String, ResponseData> responses = new HashMap<>();
+    for (int i = 0; i < FAN_IN; i++) {
+      String correlationId = generateUuid();
+      responses.put(correlationId, StringNotifyResponseData.builder().data("response-" + correlationId).build());
+    }
+    waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, null, responses.keySet().toArray(new String[0]));
+
+    long start = System.currentTimeMillis();
+    done.accept(responses);
+    return System.currentTimeMillis() - start;
+  }
 }
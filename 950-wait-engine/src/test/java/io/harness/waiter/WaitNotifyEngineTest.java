@@ -10,6 +10,7 @@ package io.harness.waiter;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.rule.OwnerRule.SANJA;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
@@ -232,6 +233,108 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWaitForCorrelationIdsDoneWithAll() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      String waitInstanceId1 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      String waitInstanceId2 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid2, uuid3);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2))).containsExactlyInAnyOrder(uuid1, uuid2);
+
+      NotifyResponse notifyResponse = persistence.get(NotifyResponse.class, uuid2);
+      assertThat(kryoSerializer.asInflatedObject(notifyResponse.getResponseData())).isEqualTo(data2);
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId2).getWaitingOnCorrelationIds())
+          .containsExactly(uuid3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 1);
+      assertThat(responseMap).hasSize(2).containsAllEntriesOf(of(uuid1, data1, uuid2, data2));
+      Poller.pollFor(
+          Duration.ofSeconds(10), ofMillis(100), () -> persistence.get(WaitInstance.class, waitInstanceId1) == null);
+
+      ResponseData data3 = StringNotifyResponseData.builder().data("response-" + uuid3).build();
+      waitNotifyEngine.doneWithAll(of(uuid3, data3));
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 2);
+      assertThat(responseMap).hasSize(3).containsAllEntriesOf(of(uuid3, data3));
+    }
+  }
+
+  @Test
+  @LocalCompletionWaiter
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCompleteLocalWaitInstanceInMemory() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      String waitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      waitNotifyEngine.doneWith(uuid1, data1);
+      waitNotifyEngine.doneWith(uuid2, data2);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 1);
+      assertThat(responseMap).hasSize(2).isEqualTo(of(uuid1, data1, uuid2, data2));
+      Poller.pollFor(
+          Duration.ofSeconds(10), ofMillis(100), () -> persistence.get(WaitInstance.class, waitInstanceId) == null);
+      assertThat(persistence.get(NotifyResponse.class, uuid2)).isNotNull();
+      // The listener is under maintenance, the callback did not go through the notify queue
+      assertThat(notifyConsumer.count(Filter.ALL)).isEqualTo(0);
+    }
+  }
+
+  @Test
+  @LocalCompletionWaiter
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPullCorrelationIdBeforeCompletingLocally() {
+    String uuid = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      String waitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+      waitNotifyEngine.doneWith(uuid, StringNotifyResponseData.builder().data("response-" + uuid).build());
+
+      // Either the callback already deleted it, or it is persisted as not waiting on anything anymore
+      WaitInstance waitInstance = persistence.get(WaitInstance.class, waitInstanceId);
+      assertThat(waitInstance == null || waitInstance.getWaitingOnCorrelationIds().isEmpty()).isTrue();
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> callCount.get() == 1);
+      assertThat(notifyConsumer.count(Filter.ALL)).isEqualTo(0);
+    }
+  }
+
+  @Test
+  @LocalCompletionWaiter
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldLeaveWaitInstanceWithEarlierResponseToQueue() {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      waitNotifyEngine.doneWith(uuid1, data1);
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      waitNotifyEngine.doneWith(uuid2, data2);
+      assertThat(notifyConsumer.count(Filter.ALL)).isEqualTo(1);
+
+      notifyEventListener.execute();
+      assertThat(responseMap).hasSize(2).isEqualTo(of(uuid1, data1, uuid2, data2));
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
   @Test
   @SpringWaiter
   @Owner(developers = PRASHANT, intermittent = true)
@@ -8,6 +8,7 @@
 package io.harness.waiter.persistence;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
@@ -219,4 +220,60 @@ public class SpringPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(keyList).hasSize(1);
     assertThat(keyList).containsExactly(response1.getUuid());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testModifyAndFetchWaitInstances() {
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    String correlationId3 = generateUuid();
+    final WaitInstance waitInstance1 = WaitInstance.builder()
+                                           .uuid(generateUuid())
+                                           .callback(new TestNotifyCallback())
+                                           .publisher(TEST_PUBLISHER)
+                                           .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                           .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+                                           .build();
+    final WaitInstance waitInstance2 = WaitInstance.builder()
+                                           .uuid(generateUuid())
+                                           .callback(new TestNotifyCallback())
+                                           .publisher(TEST_PUBLISHER)
+                                           .correlationIds(Arrays.asList(correlationId2, correlationId3))
+                                           .waitingOnCorrelationIds(Arrays.asList(correlationId2, correlationId3))
+                                           .build();
+    mongoTemplate.save(waitInstance1);
+    mongoTemplate.save(waitInstance2);
+
+    List<WaitInstance> doneWaitInstances =
+        persistenceWrapper.modifyAndFetchWaitInstances(Arrays.asList(correlationId1, correlationId2));
+    assertThat(doneWaitInstances).hasSize(1);
+    assertThat(doneWaitInstances.get(0).getUuid()).isEqualTo(waitInstance1.getUuid());
+    assertThat(doneWaitInstances.get(0).getPublisher()).isEqualTo(TEST_PUBLISHER);
+
+    WaitInstance waitingInstance =
+        mongoTemplate.findOne(query(where(WaitInstanceKeys.uuid).is(waitInstance2.getUuid())), WaitInstance.class);
+    assertThat(waitingInstance.getWaitingOnCorrelationIds()).containsExactly(correlationId3);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @RealMongo
+  public void testSaveNotifyResponsesIgnoringExisting() {
+    NotifyResponse existing =
+        NotifyResponse.builder().uuid(generateUuid()).responseData(new byte[] {1}).error(false).build();
+    mongoTemplate.save(existing);
+
+    NotifyResponse response =
+        NotifyResponse.builder().uuid(generateUuid()).responseData(new byte[] {2}).error(false).build();
+    persistenceWrapper.saveNotifyResponses(Arrays.asList(
+        NotifyResponse.builder().uuid(existing.getUuid()).responseData(new byte[] {3}).error(true).build(), response));
+
+    assertThat(mongoTemplate.findById(existing.getUuid(), NotifyResponse.class).getResponseData())
+        .isEqualTo(new byte[] {1});
+    assertThat(mongoTemplate.findById(response.getUuid(), NotifyResponse.class).getResponseData())
+        .isEqualTo(new byte[] {2});
+  }
 }
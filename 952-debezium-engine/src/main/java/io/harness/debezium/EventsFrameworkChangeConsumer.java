@@ -8,25 +8,40 @@
 package io.harness.debezium;
 
 import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.impl.redis.RedisProducer;
 import io.harness.eventsframework.producer.Message;
 
+import com.google.common.collect.Lists;
 import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.connect.source.SourceRecord;
 
+/**
+ * Publishes the change events of a collection to the events framework streams of their destinations.
+ *
+ * The events of a destination are published in order, in pipelined writes of at most producingCountPerBatch events.
+ * Before each write the producer waits, up to sleepInterval seconds, while the slowest consumer group of the stream
+ * has so many events left to read that the write could get unread events trimmed off the stream.
+ */
 @Slf4j
 public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsumer {
   private static final String OP_FIELD = "__op";
   private static final String DEFAULT_STRING = "default";
+  // Share of the stream size the unread events may take before the producer waits for the consumers
+  private static final double UNREAD_HIGH_WATERMARK = 0.8;
+  private static final long MIN_BACKOFF_MILLIS = 100;
+  private static final long MAX_BACKOFF_MILLIS = 5000;
 
   private final String collectionName;
   private final DebeziumProducerFactory producerFactory;
-  private int cnt;
   private long sleepInterval;
   private long producingCountPerBatch;
   private int redisStreamSize;
@@ -44,9 +59,8 @@ public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsu
   public void handleBatch(List<ChangeEvent<String, String>> records,
       DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter) throws InterruptedException {
     log.info("Handling a batch of {} records for collection {}", records.size(), collectionName);
-    // Add the batch records to the stream(s)
+    Map<String, List<Message>> messagesByDestination = new LinkedHashMap<>();
     for (ChangeEvent<String, String> record : records) {
-      cnt++;
       Optional<OpType> opType = getOperationType(((EmbeddedEngineChangeEvent<String, String>) record).sourceRecord());
 
       DebeziumChangeEvent debeziumChangeEvent = DebeziumChangeEvent.newBuilder()
@@ -56,21 +70,58 @@ public class EventsFrameworkChangeConsumer implements MongoCollectionChangeConsu
                                                     .setTimestamp(System.currentTimeMillis())
                                                     .build();
 
-      Producer producer = producerFactory.get(record.destination(), redisStreamSize);
-      producer.send(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
+      messagesByDestination.computeIfAbsent(record.destination(), destination -> new ArrayList<>())
+          .add(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
+    }
+
+    // Add the batch records to the stream(s)
+    int maxBatchSize = (int) Math.max(1, producingCountPerBatch);
+    for (Map.Entry<String, List<Message>> entry : messagesByDestination.entrySet()) {
+      Producer producer = producerFactory.get(entry.getKey(), redisStreamSize);
+      for (List<Message> messages : Lists.partition(entry.getValue(), maxBatchSize)) {
+        waitForConsumers(entry.getKey(), producer, messages.size());
+        producer.sendBatch(messages);
+      }
+    }
+
+    for (ChangeEvent<String, String> record : records) {
       try {
         recordCommitter.markProcessed(record);
       } catch (InterruptedException e) {
         log.error("Exception Occurred while marking record as committed", e);
       }
-      if (cnt >= producingCountPerBatch) {
-        TimeUnit.SECONDS.sleep(sleepInterval);
-        cnt = 0;
-      }
     }
     recordCommitter.markBatchFinished();
   }
 
+  private void waitForConsumers(String destination, Producer producer, int count) throws InterruptedException {
+    if (!(producer instanceof RedisProducer)) {
+      return;
+    }
+    long maxWaitMillis = TimeUnit.SECONDS.toMillis(sleepInterval);
+    long waitedMillis = 0;
+    long backoffMillis = MIN_BACKOFF_MILLIS;
+    while (isFallingBehind((RedisProducer) producer, count)) {
+      if (waitedMillis >= maxWaitMillis) {
+        log.warn("Consumers of {} are falling behind, producing after waiting for {} ms", destination, waitedMillis);
+        return;
+      }
+      TimeUnit.MILLISECONDS.sleep(backoffMillis);
+      waitedMillis += backoffMillis;
+      backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+    }
+  }
+
+  private boolean isFallingBehind(RedisProducer producer, int count) {
+    try {
+      long unreadLength = producer.getUnreadLength();
+      return unreadLength > 0 && unreadLength + count > redisStreamSize * UNREAD_HIGH_WATERMARK;
+    } catch (Exception e) {
+      log.warn("Could not check the unread events of {}", producer.getTopicName(), e);
+      return false;
+    }
+  }
+
   private Optional<OpType> getOperationType(SourceRecord sourceRecord) {
     return Optional.ofNullable(sourceRecord.headers().lastWithName(OP_FIELD))
         .flatMap(x -> OpType.fromString((String) x.value()));
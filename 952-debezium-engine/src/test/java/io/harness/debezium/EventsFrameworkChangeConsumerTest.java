@@ -7,19 +7,37 @@
 
 package io.harness.debezium;
 
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.SHALINI;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.impl.redis.RedisProducer;
+import io.harness.eventsframework.producer.Message;
 import io.harness.rule.Owner;
 
+import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
+import io.debezium.engine.DebeziumEngine;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 
@@ -86,4 +104,53 @@ public class EventsFrameworkChangeConsumerTest extends CategoryTest {
   public void testGetCollection() {
     assertEquals(collection, eventsFrameworkChangeConsumer.getCollection());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testHandleBatchSendsBatchesPerDestination() throws InterruptedException {
+    DebeziumProducerFactory producerFactory = mock(DebeziumProducerFactory.class);
+    RedisProducer producer1 = mock(RedisProducer.class);
+    RedisProducer producer2 = mock(RedisProducer.class);
+    when(producerFactory.get("destination1", 1000)).thenReturn(producer1);
+    when(producerFactory.get("destination2", 1000)).thenReturn(producer2);
+    DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter =
+        mock(DebeziumEngine.RecordCommitter.class);
+    List<ChangeEvent<String, String>> records = Arrays.asList(changeEvent("destination1", "1"),
+        changeEvent("destination2", "2"), changeEvent("destination1", "3"), changeEvent("destination1", "4"));
+
+    new EventsFrameworkChangeConsumer(60, collection, producerFactory, 2, 1000).handleBatch(records, recordCommitter);
+
+    ArgumentCaptor<List> messagesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(producer1, times(2)).sendBatch(messagesCaptor.capture());
+    assertThat(messagesCaptor.getAllValues().get(0)).hasSize(2);
+    assertThat(messagesCaptor.getAllValues().get(1)).hasSize(1);
+    verify(producer2, times(1)).sendBatch(anyListOf(Message.class));
+    verify(recordCommitter, times(4)).markProcessed(any());
+    verify(recordCommitter, times(1)).markBatchFinished();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testHandleBatchWaitsForConsumers() throws InterruptedException {
+    DebeziumProducerFactory producerFactory = mock(DebeziumProducerFactory.class);
+    RedisProducer producer = mock(RedisProducer.class);
+    when(producerFactory.get("destination1", 1000)).thenReturn(producer);
+    when(producer.getUnreadLength()).thenReturn(900L, 850L, 100L);
+
+    new EventsFrameworkChangeConsumer(60, collection, producerFactory, 1000, 1000)
+        .handleBatch(Arrays.asList(changeEvent("destination1", "1")), mock(DebeziumEngine.RecordCommitter.class));
+
+    verify(producer, times(3)).getUnreadLength();
+    verify(producer, times(1)).sendBatch(anyListOf(Message.class));
+  }
+
+  private ChangeEvent<String, String> changeEvent(String destination, String key) {
+    SourceRecord sourceRecord = new SourceRecord(
+        null, null, destination, null, null, null, null, null, null, new ConnectHeaders().addString("__op", "c"));
+    return new EmbeddedEngineChangeEvent<>(key, value, sourceRecord);
+  }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.impl.scm;
+
+import static io.harness.annotations.dev.HarnessTeam.DX;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.impl.ScmResponseStatusUtils;
+import io.harness.product.ci.scm.proto.FileBatchContentResponse;
+import io.harness.product.ci.scm.proto.FileContent;
+import io.harness.product.ci.scm.proto.Provider;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content of the files read at a commit. A commit can never change, so the files read at a commit are kept until they
+ * are evicted by size. Reads of a branch are never cached, its head can move at any time through writers this process
+ * does not see. Entries are scoped by the provider, including its credentials, so a file is only served to the callers
+ * which could read it from the provider.
+ */
+@Slf4j
+@Singleton
+@OwnedBy(DX)
+public class ScmFileContentCache {
+  // Characters of the file contents kept in the cache
+  private static final long MAX_CONTENT_WEIGHT = 64L * 1024 * 1024;
+  private static final int STATS_LOG_INTERVAL = 1000;
+  private static final Pattern COMMIT_ID_PATTERN = Pattern.compile("^([0-9a-f]{40}|[0-9a-f]{64})$");
+
+  private final Cache<FileKey, FileContent> fileContents =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CONTENT_WEIGHT)
+          .weigher((FileKey key, FileContent fileContent) -> fileContent.getContent().length())
+          .expireAfterAccess(1, TimeUnit.DAYS)
+          .recordStats()
+          .build();
+  private final AtomicLong lookups = new AtomicLong();
+
+  // Only full commit ids identify content which can never change, short ids and tags are not cached
+  public static boolean isCommitId(String ref) {
+    return ref != null && COMMIT_ID_PATTERN.matcher(ref).matches();
+  }
+
+  public FileContent getFileContent(Provider provider, String slug, String commitId, String filePath,
+      Supplier<FileContent> fileContentSupplier) {
+    if (!isCommitId(commitId)) {
+      return fileContentSupplier.get();
+    }
+    FileKey fileKey = new FileKey(getProviderKey(provider), slug, commitId, filePath);
+    FileContent fileContent = fileContents.getIfPresent(fileKey);
+    logStatsIfNeeded(1);
+    if (fileContent != null) {
+      return fileContent;
+    }
+    fileContent = fileContentSupplier.get();
+    if (isCacheable(fileContent)) {
+      fileContents.put(fileKey, fileContent);
+    }
+    return fileContent;
+  }
+
+  /**
+   * Returns the contents of the files at the commit, reading only the files missing in the cache. The files served
+   * from the cache follow the files read from the provider.
+   */
+  public FileBatchContentResponse getFileContents(Provider provider, String slug, String commitId,
+      List<String> filePaths, Function<List<String>, FileBatchContentResponse> fileContentsFunction) {
+    if (!isCommitId(commitId) || isEmpty(filePaths)) {
+      return fileContentsFunction.apply(filePaths);
+    }
+    String providerKey = getProviderKey(provider);
+    List<FileContent> cachedFileContents = new ArrayList<>();
+    List<String> missingFilePaths = new ArrayList<>();
+    for (String filePath : filePaths) {
+      FileContent fileContent = fileContents.getIfPresent(new FileKey(providerKey, slug, commitId, filePath));
+      if (fileContent == null) {
+        missingFilePaths.add(filePath);
+      } else {
+        cachedFileContents.add(fileContent);
+      }
+    }
+    logStatsIfNeeded(filePaths.size());
+    if (missingFilePaths.isEmpty()) {
+      return FileBatchContentResponse.newBuilder().addAllFileContents(cachedFileContents).build();
+    }
+
+    FileBatchContentResponse fileBatchContentResponse = fileContentsFunction.apply(missingFilePaths);
+    for (FileContent fileContent : fileBatchContentResponse.getFileContentsList()) {
+      if (isCacheable(fileContent)) {
+        fileContents.put(new FileKey(providerKey, slug, commitId, fileContent.getPath()), fileContent);
+      }
+    }
+    if (cachedFileContents.isEmpty()) {
+      return fileBatchContentResponse;
+    }
+    return fileBatchContentResponse.toBuilder().addAllFileContents(cachedFileContents).build();
+  }
+
+  public CacheStats stats() {
+    return fileContents.stats();
+  }
+
+  // File contents served from the cache instead of the provider
+  public long getProviderCallsSaved() {
+    return fileContents.stats().hitCount();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return fileContents.size();
+  }
+
+  private boolean isCacheable(FileContent fileContent) {
+    return ScmResponseStatusUtils.isSuccessResponse(fileContent.getStatus()) && isEmpty(fileContent.getError());
+  }
+
+  private String getProviderKey(Provider provider) {
+    return Hashing.sha256().hashBytes(provider.toByteArray()).toString();
+  }
+
+  private void logStatsIfNeeded(int files) {
+    long before = lookups.getAndAdd(files);
+    if (before / STATS_LOG_INTERVAL != (before + files) / STATS_LOG_INTERVAL) {
+      CacheStats stats = stats();
+      log.info("[SCM_FILE_CACHE] {} files cached, hit rate {}, provider calls saved {}", fileContents.size(),
+          stats.hitRate(), getProviderCallsSaved());
+    }
+  }
+
+  @Value
+  private static class FileKey {
+    String providerKey;
+    String slug;
+    String commitId;
+    String filePath;
+  }
+}
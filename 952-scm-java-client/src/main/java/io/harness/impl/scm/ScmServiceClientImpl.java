@@ -120,6 +120,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ScmServiceClientImpl implements ScmServiceClient {
   ScmGitProviderMapper scmGitProviderMapper;
   ScmGitProviderHelper scmGitProviderHelper;
+  ScmFileContentCache scmFileContentCache;
 
   @Override
   public CreateFileResponse createFile(
@@ -214,6 +215,13 @@ public class ScmServiceClientImpl implements ScmServiceClient {
     String slug = scmGitProviderHelper.getSlug(scmConnector);
     final GetFileRequest.Builder gitFileRequestBuilder =
         GetFileRequest.newBuilder().setPath(gitFilePathDetails.getFilePath()).setProvider(gitProvider).setSlug(slug);
+    // Only the reads pinned to a commit are cached, a branch can move at any time through any other writer
+    String ref = gitFilePathDetails.getRef();
+    if (isEmpty(gitFilePathDetails.getBranch()) && ScmFileContentCache.isCommitId(ref)) {
+      GetFileRequest getFileRequest = gitFileRequestBuilder.setRef(ref).build();
+      return scmFileContentCache.getFileContent(gitProvider, slug, ref, gitFilePathDetails.getFilePath(),
+          () -> ScmGrpcClientUtils.retryAndProcessException(scmBlockingStub::getFile, getFileRequest));
+    }
     if (isNotEmpty(gitFilePathDetails.getBranch())) {
       gitFileRequestBuilder.setBranch(gitFilePathDetails.getBranch());
     } else if (isNotEmpty(gitFilePathDetails.getRef())) {
@@ -224,8 +232,10 @@ public class ScmServiceClientImpl implements ScmServiceClient {
 
   private FileBatchContentResponse getContentOfFiles(
       List<String> filePaths, String slug, Provider gitProvider, String ref, SCMGrpc.SCMBlockingStub scmBlockingStub) {
-    GetBatchFileRequest batchFileRequest = createBatchFileRequest(filePaths, slug, ref, gitProvider);
-    return ScmGrpcClientUtils.retryAndProcessException(scmBlockingStub::getBatchFile, batchFileRequest);
+    return scmFileContentCache.getFileContents(gitProvider, slug, ref, filePaths, missingFilePaths -> {
+      GetBatchFileRequest batchFileRequest = createBatchFileRequest(missingFilePaths, slug, ref, gitProvider);
+      return ScmGrpcClientUtils.retryAndProcessException(scmBlockingStub::getBatchFile, batchFileRequest);
+    });
   }
 
   @Override
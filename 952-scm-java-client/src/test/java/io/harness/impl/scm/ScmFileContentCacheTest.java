@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.impl.scm;
+
+import static io.harness.annotations.dev.HarnessTeam.DX;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.product.ci.scm.proto.FileContent;
+import io.harness.product.ci.scm.proto.GithubProvider;
+import io.harness.product.ci.scm.proto.Provider;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(DX)
+public class ScmFileContentCacheTest extends CategoryTest {
+  private static final String SLUG = "harness/repo";
+  private static final String PATH = ".harness/pipeline.yaml";
+  private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+
+  private final ScmFileContentCache scmFileContentCache = new ScmFileContentCache();
+  private final AtomicInteger reads = new AtomicInteger();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testFilesAreScopedByProvider() {
+    scmFileContentCache.getFileContent(provider("token1"), SLUG, COMMIT_ID, PATH, fileContentSupplier(200));
+    scmFileContentCache.getFileContent(provider("token1"), SLUG, COMMIT_ID, PATH, fileContentSupplier(200));
+    scmFileContentCache.getFileContent(provider("token2"), SLUG, COMMIT_ID, PATH, fileContentSupplier(200));
+
+    assertThat(reads.get()).isEqualTo(2);
+    assertThat(scmFileContentCache.getProviderCallsSaved()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testFailedReadsAndRefsAreNotCached() {
+    for (int i = 0; i < 2; i++) {
+      scmFileContentCache.getFileContent(provider("token"), SLUG, COMMIT_ID, PATH, fileContentSupplier(404));
+      scmFileContentCache.getFileContent(provider("token"), SLUG, "v1.0", PATH, fileContentSupplier(200));
+      scmFileContentCache.getFileContent(provider("token"), SLUG, "0123456", PATH, fileContentSupplier(200));
+    }
+
+    assertThat(reads.get()).isEqualTo(6);
+    assertThat(scmFileContentCache.size()).isEqualTo(0);
+  }
+
+  private Supplier<FileContent> fileContentSupplier(int status) {
+    return () -> {
+      reads.incrementAndGet();
+      return FileContent.newBuilder().setStatus(status).setPath(PATH).setContent("pipeline:").build();
+    };
+  }
+
+  private Provider provider(String accessToken) {
+    return Provider.newBuilder().setGithub(GithubProvider.newBuilder().setAccessToken(accessToken).build()).build();
+  }
+}
@@ -15,6 +15,7 @@ import static io.harness.delegate.beans.connector.ConnectorType.BITBUCKET;
 import static io.harness.delegate.beans.connector.ConnectorType.GITHUB;
 import static io.harness.rule.OwnerRule.BHAVYA;
 import static io.harness.rule.OwnerRule.DEEPAK;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.MEET;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,8 +32,10 @@ import static org.mockito.Mockito.when;
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.FileContentBatchResponse;
 import io.harness.beans.PageRequestDTO;
 import io.harness.beans.gitsync.GitFileDetails;
+import io.harness.beans.gitsync.GitFilePathDetails;
 import io.harness.beans.gitsync.GitWebhookDetails;
 import io.harness.category.element.UnitTests;
 import io.harness.connector.ConnectorInfoDTO;
@@ -47,6 +51,10 @@ import io.harness.product.ci.scm.proto.CreateFileResponse;
 import io.harness.product.ci.scm.proto.CreatePRResponse;
 import io.harness.product.ci.scm.proto.CreateWebhookRequest;
 import io.harness.product.ci.scm.proto.CreateWebhookResponse;
+import io.harness.product.ci.scm.proto.FileBatchContentResponse;
+import io.harness.product.ci.scm.proto.FileContent;
+import io.harness.product.ci.scm.proto.GetBatchFileRequest;
+import io.harness.product.ci.scm.proto.GetFileRequest;
 import io.harness.product.ci.scm.proto.GetLatestCommitOnFileResponse;
 import io.harness.product.ci.scm.proto.GetLatestCommitResponse;
 import io.harness.product.ci.scm.proto.GetUserRepoResponse;
@@ -73,6 +81,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -84,6 +93,7 @@ public class ScmServiceClientImplTest extends CategoryTest {
   @Mock SCMGrpc.SCMBlockingStub scmBlockingStub;
   @Mock Provider gitProvider;
   @Mock ScmConnector scmConnector;
+  @Spy ScmFileContentCache scmFileContentCache = new ScmFileContentCache();
   Commit commit;
   GetLatestCommitResponse getLatestCommitResponse;
   CreateBranchResponse createBranchResponse;
@@ -99,6 +109,7 @@ public class ScmServiceClientImplTest extends CategoryTest {
   String userEmail = "userEmail";
   String userName = "userName";
   String target = "target";
+  String headCommitId = "0123456789abcdef0123456789abcdef01234567";
 
   String repoUrl = "https://github.com/harness/platform";
 
@@ -337,6 +348,78 @@ public class ScmServiceClientImplTest extends CategoryTest {
     assertThat(createPRResponse.getStatus()).isEqualTo(200);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetFileContentAtCommitReadsFileOnce() {
+    when(scmGitProviderHelper.getSlug(any())).thenReturn(slug);
+    when(scmGitProviderMapper.mapToSCMGitProvider(any())).thenReturn(getGitProviderDefault());
+    when(scmBlockingStub.getFile(any())).thenReturn(getFileContent(filepath));
+    GitFilePathDetails gitFilePathDetails = GitFilePathDetails.builder().filePath(filepath).ref(headCommitId).build();
+
+    scmServiceClient.getFileContent(scmConnector, gitFilePathDetails, scmBlockingStub);
+    FileContent content = scmServiceClient.getFileContent(scmConnector, gitFilePathDetails, scmBlockingStub);
+
+    assertThat(content.getContent()).isEqualTo(fileContent);
+    ArgumentCaptor<GetFileRequest> getFileRequestArgumentCaptor = ArgumentCaptor.forClass(GetFileRequest.class);
+    verify(scmBlockingStub, times(1)).getFile(getFileRequestArgumentCaptor.capture());
+    assertThat(getFileRequestArgumentCaptor.getValue().getRef()).isEqualTo(headCommitId);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetFileContentOfBranchIsNotCached() {
+    when(scmGitProviderHelper.getSlug(any())).thenReturn(slug);
+    when(scmGitProviderMapper.mapToSCMGitProvider(any())).thenReturn(getGitProviderDefault());
+    when(scmBlockingStub.getFile(any())).thenReturn(getFileContent(filepath));
+    GitFilePathDetails gitFilePathDetails = GitFilePathDetails.builder().filePath(filepath).branch(branch).build();
+
+    scmServiceClient.getFileContent(scmConnector, gitFilePathDetails, scmBlockingStub);
+    scmServiceClient.getFileContent(scmConnector, gitFilePathDetails, scmBlockingStub);
+
+    verify(scmBlockingStub, never()).getLatestCommit(any());
+    ArgumentCaptor<GetFileRequest> getFileRequestArgumentCaptor = ArgumentCaptor.forClass(GetFileRequest.class);
+    verify(scmBlockingStub, times(2)).getFile(getFileRequestArgumentCaptor.capture());
+    assertThat(getFileRequestArgumentCaptor.getValue().getBranch()).isEqualTo(branch);
+    assertThat(scmFileContentCache.getProviderCallsSaved()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testListFilesByCommitIdReadsMissingFilesOnly() {
+    when(scmGitProviderHelper.getSlug(any())).thenReturn(slug);
+    when(scmGitProviderMapper.mapToSCMGitProvider(any())).thenReturn(getGitProviderDefault());
+    when(scmBlockingStub.getBatchFile(any())).thenAnswer(invocation -> {
+      GetBatchFileRequest batchFileRequest = invocation.getArgument(0);
+      FileBatchContentResponse.Builder fileBatchContentResponse = FileBatchContentResponse.newBuilder();
+      batchFileRequest.getFindRequestList().forEach(
+          getFileRequest -> fileBatchContentResponse.addFileContents(getFileContent(getFileRequest.getPath())));
+      return fileBatchContentResponse.build();
+    });
+
+    scmServiceClient.listFilesByCommitId(
+        scmConnector, Arrays.asList("a.yaml", "b.yaml"), headCommitId, scmBlockingStub);
+    FileContentBatchResponse fileContentBatchResponse = scmServiceClient.listFilesByCommitId(
+        scmConnector, Arrays.asList("a.yaml", "b.yaml", "c.yaml"), headCommitId, scmBlockingStub);
+
+    assertThat(fileContentBatchResponse.getFileBatchContentResponse().getFileContentsList())
+        .extracting(FileContent::getPath)
+        .containsExactlyInAnyOrder("a.yaml", "b.yaml", "c.yaml");
+    ArgumentCaptor<GetBatchFileRequest> batchFileRequestArgumentCaptor =
+        ArgumentCaptor.forClass(GetBatchFileRequest.class);
+    verify(scmBlockingStub, times(2)).getBatchFile(batchFileRequestArgumentCaptor.capture());
+    assertThat(batchFileRequestArgumentCaptor.getAllValues().get(1).getFindRequestList())
+        .extracting(GetFileRequest::getPath)
+        .containsExactly("c.yaml");
+    assertThat(scmFileContentCache.getProviderCallsSaved()).isEqualTo(2);
+  }
+
+  private FileContent getFileContent(String path) {
+    return FileContent.newBuilder().setStatus(200).setPath(path).setContent(fileContent).build();
+  }
+
   private GitFileDetails getGitFileDetailsDefault() {
     return GitFileDetails.builder()
         .filePath(filepath)
@@ -19,5 +19,13 @@ import java.util.List;
 public interface Consumer {
   List<Message> read(Duration maxWaitTime);
   void acknowledge(String messageId);
+
+  /**
+   * Acknowledges all the messages at once, where the implementation allows it.
+   */
+  default void acknowledge(List<String> messageIds) {
+    messageIds.forEach(this::acknowledge);
+  }
+
   void shutdown();
 }
@@ -9,7 +9,20 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends the messages in order, in as few round trips as the implementation allows.
+   *
+   * @return the ids of the messages, in the same order
+   */
+  default List<String> sendBatch(List<Message> messages) {
+    return messages.stream().map(this::send).collect(Collectors.toList());
+  }
+
   void shutdown();
 }
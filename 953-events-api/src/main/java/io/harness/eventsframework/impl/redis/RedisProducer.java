@@ -13,6 +13,7 @@ import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTE
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.AbstractProducer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTOMapper;
 import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
 import io.harness.eventsframework.producer.Message;
@@ -23,15 +24,24 @@ import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.vavr.control.Try;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamGroup;
+import org.redisson.api.StreamInfo;
 import org.redisson.api.StreamMessageId;
 
 @OwnedBy(PL)
@@ -39,6 +49,8 @@ import org.redisson.api.StreamMessageId;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  private static final String REDIS_PRODUCER_BATCH_LATENCY_METRIC = "redis_producer_batch_latency";
+  private static final String REDIS_STREAM_UNREAD_LENGTH_METRIC = "redis_stream_unread_length";
   private RStream<String, String> stream;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
@@ -93,10 +105,97 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
-  private String sendInternal(Message message) {
+  /**
+   * Adds all the messages to the stream in a single pipelined round trip. The whole batch is retried on failure, so
+   * some of the messages may be added twice, the same as with a retried {@link #send(Message)}.
+   */
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Supplier<List<String>> sendBatchSupplier = () -> sendBatchInternal(messages);
+
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, sendBatchSupplier);
+
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  /**
+   * Estimates the number of messages the slowest consumer group has not read yet. These are the messages lost first
+   * when the stream is trimmed to the max topic size. Redis only keeps the last delivered id of a group, so the
+   * messages after it are counted assuming they were added to the stream at an even pace.
+   */
+  public long getUnreadLength() {
+    List<StreamGroup> groups = stream.listGroups();
+    long unreadLength = 0;
+    if (!groups.isEmpty()) {
+      StreamMessageId lastDeliveredId = groups.get(0).getLastDeliveredId();
+      for (StreamGroup group : groups) {
+        if (compare(group.getLastDeliveredId(), lastDeliveredId) < 0) {
+          lastDeliveredId = group.getLastDeliveredId();
+        }
+      }
+      unreadLength = estimateUnreadLength(stream.getInfo(), lastDeliveredId);
+    }
+    addStreamMonitoring(REDIS_STREAM_UNREAD_LENGTH_METRIC, unreadLength);
+    return unreadLength;
+  }
+
+  static long estimateUnreadLength(StreamInfo<String, String> streamInfo, StreamMessageId lastDeliveredId) {
+    if (streamInfo.getLength() == 0 || streamInfo.getFirstEntry() == null || streamInfo.getLastEntry() == null) {
+      return 0;
+    }
+    StreamMessageId firstId = streamInfo.getFirstEntry().getId();
+    StreamMessageId lastId = streamInfo.getLastEntry().getId();
+    if (compare(lastDeliveredId, lastId) >= 0) {
+      return 0;
+    }
+    long span = lastId.getId0() - firstId.getId0();
+    if (compare(lastDeliveredId, firstId) < 0 || span <= 0) {
+      return streamInfo.getLength();
+    }
+    return Math.max(1, streamInfo.getLength() * (lastId.getId0() - lastDeliveredId.getId0()) / span);
+  }
+
+  private static int compare(StreamMessageId id, StreamMessageId other) {
+    int result = Long.compare(id.getId0(), other.getId0());
+    return result != 0 ? result : Long.compare(id.getId1(), other.getId1());
+  }
+
+  private List<String> sendBatchInternal(List<Message> messages) {
+    long startTime = System.currentTimeMillis();
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+    RStreamAsync<String, String> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+    for (Message message : messages) {
+      batchStream.addAllAsync(toRedisData(message), maxTopicSize, false);
+    }
+    List<?> responses = batch.execute().getResponses();
+
+    List<String> messageIds = new ArrayList<>(responses.size());
+    for (Object messageId : responses) {
+      messageIds.add(messageId.toString());
+    }
+    messages.forEach(this::addMonitoring);
+    addStreamMonitoring(REDIS_PRODUCER_BATCH_LATENCY_METRIC, Duration.ofMillis(System.currentTimeMillis() - startTime));
+    log.info("Events framework batch of {} messages inserted in the topic: {}", messages.size(), this.getTopicName());
+    return messageIds;
+  }
+
+  private Map<String, String> toRedisData(Message message) {
     Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
     redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
     populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
+  private String sendInternal(Message message) {
+    Map<String, String> redisData = toRedisData(message);
 
     StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
     addMonitoring(message);
@@ -155,4 +254,22 @@ public class RedisProducer extends AbstractProducer {
       log.warn("Error while sending metrics for redis producer events :", ex);
     }
   }
+
+  private void addStreamMonitoring(String metricName, Duration duration) {
+    try {
+      redisEventMetricPublisher.recordDurationWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), metricName, duration);
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis producer batches :", ex);
+    }
+  }
+
+  private void addStreamMonitoring(String metricName, double value) {
+    try {
+      redisEventMetricPublisher.recordMetricWithEventContext(
+          RedisEventMetricDTO.builder().streamName(getTopicName()).build(), metricName, value);
+    } catch (Exception ex) {
+      log.warn("Error while sending metrics for redis streams :", ex);
+    }
+  }
 }
@@ -65,6 +65,13 @@ public class YamlUtils {
     return mapper.readValue(yaml, valueTypeRef);
   }
 
+  /**
+   * Converts an already parsed node, without writing it out and parsing it again like {@link #read(String, Class)}.
+   */
+  public <T> T treeToValue(JsonNode node, Class<T> cls) throws IOException {
+    return mapper.treeToValue(node, cls);
+  }
+
   public String write(Object object) {
     try {
       return mapper.writeValueAsString(object);
@@ -22,6 +22,7 @@ import io.harness.persistence.PersistentEntity;
 import com.google.common.collect.ImmutableList;
 import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import lombok.Builder;
@@ -60,9 +61,18 @@ public class OutboxEvent implements PersistentEntity {
   @CreatedDate Long createdAt;
   @Setter @Builder.Default Boolean blocked = Boolean.FALSE;
   @Setter Instant nextUnblockAttemptAt;
+  // Events of the same resource share the hash, the poll job partitions the events by it to keep them in order
+  Integer partitionHash;
 
   GlobalContext globalContext;
 
+  public static int partitionHash(ResourceScope resourceScope, Resource resource) {
+    if (resource == null) {
+      return Objects.hashCode(resourceScope) & Integer.MAX_VALUE;
+    }
+    return Objects.hash(resourceScope, resource.getType(), resource.getIdentifier()) & Integer.MAX_VALUE;
+  }
+
   public static List<MongoIndex> mongoIndexes() {
     return ImmutableList.<MongoIndex>builder()
         .add(CompoundMongoIndex.builder()
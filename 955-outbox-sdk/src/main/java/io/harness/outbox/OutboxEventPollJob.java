@@ -18,7 +18,9 @@ import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.monitor.OutboxEventHandlingMetrics;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
@@ -26,30 +28,62 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Handles the outbox events in the order they were saved.
+ *
+ * Without partitioning, a single instance holding the lock of the service handles the events one by one and a failed
+ * event is retried with exponential backoff before it is blocked. With a partition count configured, the events are
+ * spread over partitions by the hash of their resource and each partition is polled under its own lock by any of the
+ * polling threads of any instance, so the events of a resource are still handled in order. A failed event is blocked
+ * right away for a short while instead of being retried inline, and the later events of its resource wait for it while
+ * the other resources of the partition go on.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
+  private static final Duration FIRST_UNBLOCK_RETRY_INTERVAL = Duration.ofSeconds(30);
+
   private final OutboxService outboxService;
   private final OutboxEventHandler outboxEventHandler;
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
-  private final OutboxEventFilter outboxEventFilter;
+  private final OutboxEventHandlingMetrics outboxEventHandlingMetrics;
   private final Retry retry;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
   private final String outboxLockId;
+  private final int partitionCount;
+  private final ExecutorService partitionExecutorService;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
-      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration) {
+      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration,
+      OutboxEventHandlingMetrics outboxEventHandlingMetrics) {
     this.outboxService = outboxService;
     this.outboxEventHandler = outboxEventHandler;
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
+    this.outboxEventHandlingMetrics = outboxEventHandlingMetrics;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
+    this.partitionCount = Math.max(1, outboxPollConfiguration.getPartitionCount());
+    this.partitionExecutorService = partitionCount > 1 && outboxPollConfiguration.getPollingThreadCount() > 1
+        ? Executors.newFixedThreadPool(outboxPollConfiguration.getPollingThreadCount(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-poll-partition-" + outboxPollConfiguration.getLockId() + "-%d")
+                .setDaemon(true)
+                .build())
+        : null;
     RetryConfig retryConfig = RetryConfig.custom()
                                   .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
@@ -60,50 +94,117 @@ public class OutboxEventPollJob implements Runnable {
   @Override
   public void run() {
     try {
-      pollAndHandleOutboxEvents();
+      if (partitionCount == 1) {
+        pollAndHandleOutboxEvents(0);
+      } else {
+        pollAndHandlePartitions();
+      }
     } catch (Exception exception) {
       log.error("Unexpected error occurred during the execution of OutboxPollJob", exception);
     }
   }
 
-  private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+  private void pollAndHandlePartitions() throws InterruptedException {
+    List<Integer> partitions = IntStream.range(0, partitionCount).boxed().collect(Collectors.toList());
+    // Every instance starts with different partitions, so they do not keep competing for the same locks
+    Collections.shuffle(partitions);
+    if (partitionExecutorService == null) {
+      for (int i = 0; i < partitions.size() && !Thread.currentThread().isInterrupted(); i++) {
+        pollAndHandleOutboxEvents(partitions.get(i));
+      }
+      return;
+    }
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int partition : partitions) {
+      tasks.add(() -> {
+        pollAndHandleOutboxEvents(partition);
+        return null;
+      });
+    }
+    partitionExecutorService.invokeAll(tasks);
+  }
+
+  private void pollAndHandleOutboxEvents(int partition) {
+    String lockId = partitionCount == 1 ? outboxLockId : outboxLockId + "_" + partition;
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockId, Duration.ofMinutes(2))) {
       if (lock == null) {
-        log.warn("Could not acquire lock for outbox poll job");
+        if (partitionCount == 1) {
+          log.warn("Could not acquire lock for outbox poll job");
+        }
         return;
       }
       List<OutboxEvent> outboxEvents;
       try {
-        outboxEvents = outboxService.list(outboxEventFilter);
+        outboxEvents = outboxService.list(OutboxEventFilter.builder()
+                                              .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+                                              .partitionCount(partitionCount)
+                                              .partition(partition)
+                                              .build());
       } catch (InstantiationError error) {
         log.error("InstantiationError occurred while fetching entries from the outbox", error);
         return;
       }
 
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
-        try {
+      List<String> handledOutboxEventIds = new ArrayList<>();
+      Set<Integer> blockedPartitionHashes = new HashSet<>();
+      try {
+        for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+          OutboxEvent outbox = outboxEvents.get(i);
+          if (partitionCount > 1 && blockedPartitionHashes.contains(partitionHash(outbox))) {
+            continue;
+          }
+          long startTime = System.currentTimeMillis();
+          boolean success = handle(outbox);
+          log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+              System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+          outboxEventHandlingMetrics.recordHandled(outbox, success);
           if (success) {
-            outboxService.delete(outbox.getId());
+            handledOutboxEventIds.add(outbox.getId());
           } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
+            block(outbox);
+            blockedPartitionHashes.add(partitionHash(outbox));
           }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
         }
+      } finally {
+        delete(handledOutboxEventIds);
       }
     }
   }
 
+  private static int partitionHash(OutboxEvent outbox) {
+    if (outbox.getPartitionHash() != null) {
+      return outbox.getPartitionHash();
+    }
+    // The events saved before the partitioning have no hash
+    return OutboxEvent.partitionHash(outbox.getResourceScope(), outbox.getResource());
+  }
+
+  private void block(OutboxEvent outbox) {
+    try {
+      boolean firstFailure = !Boolean.TRUE.equals(outbox.getBlocked());
+      outbox.setBlocked(true);
+      outbox.setNextUnblockAttemptAt(partitionCount > 1 && firstFailure
+              ? Instant.now().plus(FIRST_UNBLOCK_RETRY_INTERVAL)
+              : Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
+      outboxService.update(outbox);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                    outbox.getId(), outbox.getEventType()),
+          exception);
+    }
+  }
+
+  private void delete(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return;
+    }
+    try {
+      outboxService.delete(outboxEventIds);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred in post handling of %d outbox events", outboxEventIds.size()), exception);
+    }
+  }
+
   private boolean handle(OutboxEvent outboxEvent) {
     boolean success = false;
     try {
@@ -113,7 +214,8 @@ public class OutboxEventPollJob implements Runnable {
                     outboxEvent.getEventType()),
           exception);
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
+    // A partition is not held up by the backoff, the event is retried by a later poll
+    if (!success && partitionCount == 1 && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
       log.error("Retrying this outbox event with exponential backoff now...");
       success = handleWithExponentialBackOff(outboxEvent);
     }
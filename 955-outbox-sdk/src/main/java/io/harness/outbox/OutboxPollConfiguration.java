@@ -27,4 +27,8 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  // Events are hashed by resource into this many partitions, each one polled under its own lock. 0 or 1 disables it.
+  int partitionCount;
+  // Threads of an instance polling the partitions concurrently
+  int pollingThreadCount;
 }
@@ -25,4 +25,6 @@ public interface OutboxService {
   List<OutboxEvent> list(OutboxEventFilter outboxEventFilter);
 
   boolean delete(String outboxEventId);
+
+  long delete(List<String> outboxEventIds);
 }
@@ -99,14 +99,37 @@ public class OutboxDaoImpl implements OutboxDao {
   }
 
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
+    Instant now = Instant.now();
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
-    Criteria blockedTrueCriteria = Criteria.where(OutboxEventKeys.blocked)
+    Criteria blockedTrueCriteria =
+        Criteria.where(OutboxEventKeys.blocked).is(Boolean.TRUE).and(OutboxEventKeys.nextUnblockAttemptAt).lt(now);
+    criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
+    if (outboxEventFilter.getPartitionCount() <= 1) {
+      return criteria;
+    }
+    // The events of a resource wait for its blocked event, so that they are still handled in order
+    List<Integer> blockedPartitionHashes = outboxRepository.findDistinctPartitionHashes(
+        new Criteria().andOperator(Criteria.where(OutboxEventKeys.blocked)
                                        .is(Boolean.TRUE)
                                        .and(OutboxEventKeys.nextUnblockAttemptAt)
-                                       .lt(Instant.now());
-    criteria.orOperator(blockedNotTrueCriteria, blockedTrueCriteria);
-    return criteria;
+                                       .gte(now),
+            getPartitionCriteria(outboxEventFilter)));
+    if (blockedPartitionHashes.isEmpty()) {
+      return new Criteria().andOperator(criteria, getPartitionCriteria(outboxEventFilter));
+    }
+    return new Criteria().andOperator(criteria, getPartitionCriteria(outboxEventFilter),
+        Criteria.where(OutboxEventKeys.partitionHash).nin(blockedPartitionHashes));
+  }
+
+  private Criteria getPartitionCriteria(OutboxEventFilter outboxEventFilter) {
+    Criteria partitionCriteria = Criteria.where(OutboxEventKeys.partitionHash)
+                                     .mod(outboxEventFilter.getPartitionCount(), outboxEventFilter.getPartition());
+    if (outboxEventFilter.getPartition() != 0) {
+      return partitionCriteria;
+    }
+    // The events saved before the partitioning all belong to the first partition
+    return new Criteria().orOperator(partitionCriteria, Criteria.where(OutboxEventKeys.partitionHash).is(null));
   }
 
   @Override
@@ -114,4 +137,9 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long delete(List<String> outboxEventIds) {
+    return outboxRepository.delete(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
 }
@@ -8,6 +8,8 @@
 package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.outbox.OutboxEvent.partitionHash;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_OUTBOX_EVENT_FILTER;
 
 import static io.serializer.HObjectMapper.NG_DEFAULT_OBJECT_MAPPER;
@@ -53,6 +55,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
+                                  .partitionHash(partitionHash(event.getResourceScope(), event.getResource()))
                                   .build();
     return outboxDao.save(outboxEvent);
   }
@@ -75,4 +78,12 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long delete(List<String> outboxEventIds) {
+    if (isEmpty(outboxEventIds)) {
+      return 0;
+    }
+    return outboxDao.delete(outboxEventIds);
+  }
 }
@@ -22,4 +22,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class OutboxEventFilter {
   int maximumEventsPolled;
+  // Only the events of the given partition out of partitionCount, when partitionCount is greater than 1
+  int partitionCount;
+  int partition;
 }
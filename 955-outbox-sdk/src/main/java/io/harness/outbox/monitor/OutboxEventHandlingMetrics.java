@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox.monitor;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENTS_FAILED_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENTS_HANDLED_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_EVENT_LAG_METRIC_NAME;
+import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.monitor.context.OutboxContext;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.time.Duration;
+
+/**
+ * Throughput and lag of the outbox event handling, recorded only when the metrics are exported.
+ */
+@OwnedBy(PL)
+@Singleton
+public class OutboxEventHandlingMetrics {
+  @Inject(optional = true) private MetricService metricService;
+  @Inject(optional = true) @Named(SERVICE_ID_FOR_OUTBOX) private String serviceId;
+
+  public void recordHandled(OutboxEvent outboxEvent, boolean success) {
+    if (metricService == null) {
+      return;
+    }
+    try (OutboxContext ignored = new OutboxContext(serviceId, outboxEvent.getEventType())) {
+      if (!success) {
+        metricService.incCounter(OUTBOX_EVENTS_FAILED_METRIC_NAME);
+        return;
+      }
+      metricService.incCounter(OUTBOX_EVENTS_HANDLED_METRIC_NAME);
+      if (outboxEvent.getCreatedAt() != null) {
+        metricService.recordDuration(
+            OUTBOX_EVENT_LAG_METRIC_NAME, Duration.ofMillis(System.currentTimeMillis() - outboxEvent.getCreatedAt()));
+      }
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.OutboxEvent.OutboxEventKeys;
 
 import com.google.inject.Inject;
 import java.util.List;
@@ -39,6 +40,17 @@ public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomReposit
     return mongoTemplate.count(new Query(criteria), OutboxEvent.class);
   }
 
+  @Override
+  public List<Integer> findDistinctPartitionHashes(Criteria criteria) {
+    return mongoTemplate.findDistinct(
+        new Query(criteria), OutboxEventKeys.partitionHash, OutboxEvent.class, Integer.class);
+  }
+
+  @Override
+  public long delete(Criteria criteria) {
+    return mongoTemplate.remove(new Query(criteria), OutboxEvent.class).getDeletedCount();
+  }
+
   @Override
   public <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn) {
     return mongoTemplate.aggregate(aggregation, OutboxEvent.class, classToFillResultIn);
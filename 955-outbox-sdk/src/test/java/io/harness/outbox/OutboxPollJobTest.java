@@ -9,15 +9,21 @@ package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
+import static io.harness.rule.OwnerRule.MARKO;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,8 +35,12 @@ import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.monitor.OutboxEventHandlingMetrics;
 import io.harness.rule.Owner;
 
+import java.time.Instant;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -41,6 +51,7 @@ public class OutboxPollJobTest extends CategoryTest {
   private OutboxService outboxService;
   private OutboxEventHandler outboxEventHandler;
   private PersistentLocker persistentLocker;
+  private OutboxEventHandlingMetrics outboxEventHandlingMetrics;
   private OutboxEventPollJob outboxEventPollJob;
 
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
@@ -50,8 +61,10 @@ public class OutboxPollJobTest extends CategoryTest {
     outboxService = mock(OutboxService.class);
     outboxEventHandler = mock(OutboxEventHandler.class);
     persistentLocker = mock(PersistentLocker.class);
+    outboxEventHandlingMetrics = mock(OutboxEventHandlingMetrics.class);
     outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
-        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build());
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build(),
+        outboxEventHandlingMetrics);
   }
 
   @Test
@@ -66,9 +79,10 @@ public class OutboxPollJobTest extends CategoryTest {
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(true);
-    when(outboxService.delete(id)).thenReturn(true);
+    when(outboxService.delete(singletonList(id))).thenReturn(1L);
     outboxEventPollJob.run();
-    verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(1)).delete(singletonList(id));
+    verify(outboxEventHandlingMetrics, times(1)).recordHandled(outboxEvent, true);
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
   }
@@ -87,7 +101,8 @@ public class OutboxPollJobTest extends CategoryTest {
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(false);
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
-    verify(outboxService, times(0)).delete(any());
+    verify(outboxService, times(0)).delete(anyString());
+    verify(outboxService, times(0)).delete(anyList());
     verify(outboxEventHandler, times(3)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
@@ -95,4 +110,58 @@ public class OutboxPollJobTest extends CategoryTest {
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
+        OutboxPollConfiguration.builder()
+            .maximumRetryAttemptsForAnEvent(2)
+            .lockId("LOCK_ID")
+            .partitionCount(2)
+            .pollingThreadCount(2)
+            .build(),
+        outboxEventHandlingMetrics);
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    OutboxEvent handledEvent = partitionedEvent("handled", 2);
+    OutboxEvent failedEvent = partitionedEvent("failed", 2);
+    OutboxEvent sameResourceEvent = partitionedEvent("sameResource", 2);
+    OutboxEvent nextEvent = partitionedEvent("next", 4);
+    when(outboxService.list(any())).thenReturn(asList(handledEvent, failedEvent, sameResourceEvent, nextEvent));
+    when(outboxEventHandler.handle(handledEvent)).thenReturn(true);
+    when(outboxEventHandler.handle(failedEvent)).thenReturn(false);
+    when(outboxEventHandler.handle(sameResourceEvent)).thenReturn(true);
+    when(outboxEventHandler.handle(nextEvent)).thenReturn(true);
+
+    outboxEventPollJob.run();
+
+    // Partition 1 is locked by another instance
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any());
+    verify(persistentLocker, never()).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any());
+    final ArgumentCaptor<OutboxEventFilter> filterArgumentCaptor = ArgumentCaptor.forClass(OutboxEventFilter.class);
+    verify(outboxService, times(1)).list(filterArgumentCaptor.capture());
+    assertEquals(2, filterArgumentCaptor.getValue().getPartitionCount());
+    assertEquals(0, filterArgumentCaptor.getValue().getPartition());
+
+    // The failed event is blocked without retrying inline and only holds up the later events of its resource
+    verify(outboxEventHandler, times(1)).handle(failedEvent);
+    verify(outboxEventHandler, never()).handle(sameResourceEvent);
+    final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+    verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
+    assertEquals("failed", outboxEventArgumentCaptor.getValue().getId());
+    assertTrue(outboxEventArgumentCaptor.getValue().getBlocked());
+    assertThat(outboxEventArgumentCaptor.getValue().getNextUnblockAttemptAt()).isAfter(Instant.now());
+
+    final ArgumentCaptor<List> deleteArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService, times(1)).delete(deleteArgumentCaptor.capture());
+    assertThat(deleteArgumentCaptor.getValue()).containsExactly("handled", "next");
+    verify(outboxService, never()).delete(anyString());
+    verify(outboxEventHandlingMetrics, times(1)).recordHandled(failedEvent, false);
+  }
+
+  private static OutboxEvent partitionedEvent(String id, int partitionHash) {
+    return OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).partitionHash(partitionHash).build();
+  }
 }
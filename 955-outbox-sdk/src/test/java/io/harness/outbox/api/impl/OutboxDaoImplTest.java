@@ -9,11 +9,14 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.KARAN;
+import static io.harness.rule.OwnerRule.MARKO;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -82,4 +85,55 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testListPartition() {
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+
+    outboxDao.list(OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(3).build());
+    outboxDao.list(OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(0).build());
+
+    verify(outboxEventRepository, times(2)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getAllValues().get(0).getCriteriaObject();
+    BasicDBList andList = (BasicDBList) criteriaObject.get("$and");
+    assertEquals(2, andList.size());
+    assertNotNull(((Document) andList.get(0)).get("$or"));
+    Document partitionHash = (Document) ((Document) andList.get(1)).get(OutboxEventKeys.partitionHash);
+    assertThat((Iterable<Object>) partitionHash.get("$mod")).containsExactly(4, 3);
+
+    // The events saved before the partitioning are handled by the first partition
+    criteriaObject = criteriaArgumentCaptor.getAllValues().get(1).getCriteriaObject();
+    andList = (BasicDBList) criteriaObject.get("$and");
+    BasicDBList partitionOrList = (BasicDBList) ((Document) andList.get(1)).get("$or");
+    assertEquals(2, partitionOrList.size());
+    assertTrue(((Document) partitionOrList.get(1)).containsKey(OutboxEventKeys.partitionHash));
+    assertEquals(null, ((Document) partitionOrList.get(1)).get(OutboxEventKeys.partitionHash));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testListPartitionSkipsResourcesWithBlockedEvents() {
+    final ArgumentCaptor<Criteria> blockedCriteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findDistinctPartitionHashes(any(Criteria.class))).thenReturn(asList(6, 10));
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+
+    outboxDao.list(OutboxEventFilter.builder().maximumEventsPolled(50).partitionCount(4).partition(2).build());
+
+    verify(outboxEventRepository, times(1)).findDistinctPartitionHashes(blockedCriteriaArgumentCaptor.capture());
+    BasicDBList blockedAndList = (BasicDBList) blockedCriteriaArgumentCaptor.getValue().getCriteriaObject().get("$and");
+    Document blocked = (Document) blockedAndList.get(0);
+    assertTrue(blocked.getBoolean(OutboxEventKeys.blocked));
+    assertNotNull(((Document) blocked.get(OutboxEventKeys.nextUnblockAttemptAt)).get("$gte"));
+
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    BasicDBList andList = (BasicDBList) criteriaArgumentCaptor.getValue().getCriteriaObject().get("$and");
+    assertEquals(3, andList.size());
+    Document partitionHash = (Document) ((Document) andList.get(2)).get(OutboxEventKeys.partitionHash);
+    assertThat((Iterable<Object>) partitionHash.get("$nin")).containsExactly(6, 10);
+  }
 }
@@ -414,7 +414,8 @@ public enum FeatureName {
   AZURE_ARM_BP_NG("Used to allow customers to access ARM/BP capabilities", HarnessTeam.CDP),
   CV_AWS_PROMETHEUS("Enable AWS Prometheus for CV State", HarnessTeam.CV),
   GIT_WEBHOOK_POLLING("Used to poll git webhook recent delivery events", HarnessTeam.CDP),
-  TRIGGERS_REFACTOR("Enable NG Triggers UI refactoring", HarnessTeam.CDP);
+  TRIGGERS_REFACTOR("Enable NG Triggers UI refactoring", HarnessTeam.CDP),
+  DELEGATE_TASK_TARGETED_DISPATCH("Dispatch delegate tasks to one least loaded delegate", HarnessTeam.DEL);
   @Deprecated
   FeatureName() {
     scope = Scope.PER_ACCOUNT;
@@ -8,6 +8,7 @@
 package io.harness.mongo.iterator.provider;
 
 import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
@@ -19,7 +20,10 @@ import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.NotImplementedException;
 import org.mongodb.morphia.query.FilterOperator;
 import org.springframework.data.domain.Sort;
@@ -91,6 +95,44 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
         query, update, FindAndModifyOptions.options().upsert(false).returnNew(false), clazz);
   }
 
+  /**
+   * Claims the instances in four round trips at most: one query for the candidates, one update claiming all of them,
+   * only when another iterator claimed some of them first one query for the ones this call claimed, and one update
+   * clearing the claim id.
+   */
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      Duration targetInterval, SpringFilterExpander filterExpander, int limit) {
+    long now = currentTimeMillis();
+    List<T> candidates = persistence.find(createQuery(now, fieldName, filterExpander).limit(limit), clazz);
+    if (candidates.isEmpty()) {
+      return candidates;
+    }
+
+    List<String> ids = candidates.stream().map(T::getUuid).collect(Collectors.toList());
+    String claimIdField = PersistenceProvider.claimIdField(fieldName);
+    String claimId = generateUuid();
+    Query claimQuery = new Query(new Criteria().andOperator(Criteria.where("_id").in(ids),
+        new Criteria().orOperator(Criteria.where(fieldName).lt(now), Criteria.where(fieldName).exists(false))));
+    Update update = new Update().set(fieldName, base + targetInterval.toMillis()).set(claimIdField, claimId);
+    long claimed = persistence.updateMulti(claimQuery, update, clazz).getModifiedCount();
+    if (claimed == 0) {
+      return Collections.emptyList();
+    }
+    // The claim id is not a field of the entities, so it is only kept until the claimed instances are known
+    Query claimedQuery = new Query(Criteria.where("_id").in(ids).and(claimIdField).is(claimId));
+    if (claimed == candidates.size()) {
+      persistence.updateMulti(claimedQuery, new Update().unset(claimIdField), clazz);
+      return candidates;
+    }
+
+    claimedQuery.fields().include("_id");
+    Set<String> claimedIds =
+        persistence.find(claimedQuery, clazz).stream().map(T::getUuid).collect(Collectors.toSet());
+    persistence.updateMulti(claimedQuery, new Update().unset(claimIdField), clazz);
+    return candidates.stream().filter(entity -> claimedIds.contains(entity.getUuid())).collect(Collectors.toList());
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander) {
     return persistence.findOne(createQuery(fieldName, filterExpander), clazz);
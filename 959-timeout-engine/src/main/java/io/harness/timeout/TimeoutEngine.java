@@ -15,11 +15,14 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.iterator.PersistenceIterator;
 import io.harness.iterator.PersistenceIteratorFactory;
+import io.harness.metrics.beans.TimeoutEngineMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.mongo.iterator.IteratorConfig;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
@@ -32,6 +35,7 @@ import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.TimeoutScheduler;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -43,26 +47,50 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
+/**
+ * Timeouts are persisted as {@link TimeoutInstance}s and fired in one of two ways:
+ *  - by the persistence iterator over their next iteration, the default
+ *  - by an in memory {@link TimeoutScheduler} of the pod that registered or last updated them, when the timing wheel
+ *    is enabled. The instances are then persisted only for crash recovery: the iterator only looks for the instances
+ *    left overdue by pods that went away and the pending instances are bulk loaded on startup. A pod claims an
+ *    instance before firing it, so an instance scheduled by several pods fires once.
+ */
 @OwnedBy(CDC)
 @Singleton
 @Slf4j
 public class TimeoutEngine implements Handler<TimeoutInstance> {
+  public static final String TIMEOUT_ENGINE_FIRING_LAG = "timeout_engine_firing_lag";
+  public static final String TIMEOUT_ENGINE_WHEEL_SIZE = "timeout_engine_wheel_size";
+  static final String WHEEL = "wheel";
+  static final String ITERATOR = "iterator";
+
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
+  // How long the iterator leaves an overdue instance to the pod that scheduled it, when the timing wheel is enabled
+  private static final Duration RECOVERY_GRACE_PERIOD = Duration.ofMinutes(1);
+  private static final Duration WHEEL_SIZE_REPORT_INTERVAL = Duration.ofSeconds(30);
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MongoTemplate mongoTemplate;
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
+  @Inject(optional = true) private MetricService metricService;
 
   private PersistenceIterator<TimeoutInstance> iterator;
+  private TimeoutScheduler scheduler;
+  private ScheduledExecutorService metricsReporter;
 
   private static final ExecutorService executor =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("timeout-engine-iterator").build());
@@ -88,15 +116,16 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
         timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
         timeoutInstance.getNextIteration() - System.currentTimeMillis()));
-    if (iterator != null) {
-      iterator.wakeup();
-    }
+    onNextIterationChanged(savedTimeoutInstance);
     return savedTimeoutInstance;
   }
 
   public void deleteTimeouts(List<String> timeoutInstanceIds) {
     if (EmptyPredicate.isNotEmpty(timeoutInstanceIds)) {
       timeoutInstanceRepository.deleteByUuidIn(timeoutInstanceIds);
+      if (scheduler != null) {
+        timeoutInstanceIds.forEach(scheduler::cancel);
+      }
     }
   }
 
@@ -113,23 +142,53 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
         timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        onNextIterationChanged(timeoutInstance);
       }
     }
   }
 
+  private void onNextIterationChanged(TimeoutInstance timeoutInstance) {
+    if (scheduler != null) {
+      schedule(timeoutInstance);
+    } else if (iterator != null) {
+      iterator.wakeup();
+    }
+  }
+
+  private void schedule(TimeoutInstance timeoutInstance) {
+    // paused trackers do not have an expiry time
+    if (timeoutInstance.getNextIteration() == Long.MAX_VALUE) {
+      scheduler.cancel(timeoutInstance.getUuid());
+    } else {
+      scheduler.schedule(timeoutInstance.getUuid(), timeoutInstance.getNextIteration());
+    }
+  }
+
   public void registerIterators(IteratorConfig iteratorConfig) {
+    registerIterators(iteratorConfig, false);
+  }
+
+  /**
+   * @param timingWheel fire the timeouts from the in memory scheduler, the iterator only recovers the timeouts of
+   *     the pods that went away
+   */
+  public void registerIterators(IteratorConfig iteratorConfig, boolean timingWheel) {
     ExecutorService executorService =
         ThreadPool.create(iteratorConfig.getThreadPoolCount(), iteratorConfig.getThreadPoolCount(), 30,
             TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutEngineHandler-%d").build());
+    SpringFilterExpander filterExpander = null;
+    if (timingWheel) {
+      startScheduler(executorService);
+      filterExpander = recoveryFilterExpander();
+    }
     iterator = persistenceIteratorFactory.createIterator(TimeoutEngine.class,
         MongoPersistenceIterator.<TimeoutInstance, SpringFilterExpander>builder()
             .mode(LOOP)
             .iteratorName("TimeoutEngine")
             .clazz(TimeoutInstance.class)
             .fieldName(TimeoutInstanceKeys.nextIteration)
+            .filterExpander(filterExpander)
+            .maximumDelayForCheck(timingWheel ? RECOVERY_GRACE_PERIOD : null)
             .targetInterval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
             .acceptableNoAlertDelay(ofSeconds(10))
             .acceptableExecutionTime(ofSeconds(10))
@@ -141,11 +200,101 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
     executor.submit(() -> iterator.process());
   }
 
+  /**
+   * Restricts the iterator to the instances left overdue for longer than the grace period by the pods that went away.
+   */
+  @VisibleForTesting
+  static SpringFilterExpander recoveryFilterExpander() {
+    return query
+        -> query.addCriteria(where(TimeoutInstanceKeys.nextIteration)
+                                 .lt(System.currentTimeMillis() - RECOVERY_GRACE_PERIOD.toMillis()));
+  }
+
+  @VisibleForTesting
+  void startScheduler(ExecutorService executorService) {
+    scheduler = new TimeoutScheduler("timeout-engine", this::onExpired, executorService);
+    if (metricService != null) {
+      metricsReporter = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("timeout-engine-metrics").setDaemon(true).build());
+      metricsReporter.scheduleWithFixedDelay(this::recordWheelSize, WHEEL_SIZE_REPORT_INTERVAL.toMillis(),
+          WHEEL_SIZE_REPORT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    loadPendingTimeouts();
+  }
+
+  public void stopScheduler() {
+    if (metricsReporter != null) {
+      metricsReporter.shutdownNow();
+      metricsReporter = null;
+    }
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+  }
+
+  /**
+   * Takes over the timeouts of the pods that went away, for example during a deployment: the overdue ones fire right
+   * away and the ones due within the horizon of the scheduler fire on time, instead of waiting for the iterator to find
+   * them after the grace period. The claim taken before firing keeps the pods which scheduled them too from firing
+   * them again.
+   */
+  private void loadPendingTimeouts() {
+    Query query = new Query(where(TimeoutInstanceKeys.nextIteration)
+                                .lt(System.currentTimeMillis() + TimeoutScheduler.HORIZON.toMillis()));
+    query.fields().include(TimeoutInstanceKeys.nextIteration);
+    int loaded = 0;
+    try (CloseableIterator<TimeoutInstance> timeoutInstances = mongoTemplate.stream(query, TimeoutInstance.class)) {
+      while (timeoutInstances.hasNext()) {
+        schedule(timeoutInstances.next());
+        loaded++;
+      }
+    } catch (Exception ex) {
+      log.error("Failed to load the pending timeout instances", ex);
+    }
+    log.info("Loaded {} pending timeout instances", loaded);
+  }
+
+  @VisibleForTesting
+  TimeoutScheduler getScheduler() {
+    return scheduler;
+  }
+
+  @VisibleForTesting
+  void onExpired(String timeoutInstanceId) {
+    try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(timeoutInstanceId, OVERRIDE_ERROR)) {
+      long now = System.currentTimeMillis();
+      // Keep the iterator away from the instance while the callback runs
+      Query query = new Query(
+          where(TimeoutInstanceKeys.uuid).is(timeoutInstanceId).and(TimeoutInstanceKeys.nextIteration).lte(now));
+      TimeoutInstance timeoutInstance = mongoTemplate.findAndModify(query,
+          new Update().set(TimeoutInstanceKeys.nextIteration, now + MAX_CALLBACK_PROCESSING_TIME.toMillis()),
+          FindAndModifyOptions.options().upsert(false).returnNew(false), TimeoutInstance.class);
+      if (timeoutInstance != null) {
+        handle(timeoutInstance, WHEEL);
+        return;
+      }
+
+      // Deleted, fired by another pod or rescheduled by a tracker event handled on another pod
+      timeoutInstanceRepository.findById(timeoutInstanceId).ifPresent(instance -> {
+        if (instance.getNextIteration() > now) {
+          schedule(instance);
+        }
+      });
+    } catch (Exception ex) {
+      log.error("Failed to fire the timeout instance", ex);
+    }
+  }
+
   @Override
   public void handle(TimeoutInstance timeoutInstance) {
+    handle(timeoutInstance, ITERATOR);
+  }
+
+  private void handle(TimeoutInstance timeoutInstance, String firedBy) {
     try (TimeoutInstanceLogContext ignore0 = new TimeoutInstanceLogContext(timeoutInstance.getUuid(), OVERRIDE_ERROR)) {
       final long now = System.currentTimeMillis();
       log.info("TimeoutInstance handle started");
+      recordFiringLag(firedBy, now - timeoutInstance.getNextIteration());
 
       TimeoutCallback callback = timeoutInstance.getCallback();
       injector.injectMembers(callback);
@@ -171,4 +320,18 @@ public class TimeoutEngine implements Handler<TimeoutInstance> {
       }
     }
   }
+
+  private void recordFiringLag(String firedBy, long lagMillis) {
+    if (metricService != null) {
+      try (TimeoutEngineMetricContext ignore = new TimeoutEngineMetricContext(firedBy)) {
+        metricService.recordDuration(TIMEOUT_ENGINE_FIRING_LAG, Duration.ofMillis(Math.max(lagMillis, 0)));
+      }
+    }
+  }
+
+  private void recordWheelSize() {
+    try (TimeoutEngineMetricContext ignore = new TimeoutEngineMetricContext(WHEEL)) {
+      metricService.recordMetric(TIMEOUT_ENGINE_WHEEL_SIZE, scheduler.size());
+    }
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the due times of timeouts in memory, in a {@link TimingWheel} with a millisecond tick, and hands the ids of
+ * the expired ones to the listener on the executor. Scheduling an id again replaces its previous due time.
+ *
+ * Timeouts due beyond the horizon are not kept in memory, whoever persisted them has to pick them up some other way.
+ */
+@OwnedBy(PIPELINE)
+@Slf4j
+public class TimeoutScheduler {
+  private static final long TICK_MILLIS = 1;
+  private static final int WHEEL_SIZE = 64;
+  public static final Duration HORIZON = Duration.ofDays(365);
+
+  public interface ExpiryListener {
+    void onExpired(String id);
+  }
+
+  private final Object lock = new Object();
+  private final DelayQueue<TimerBucket> queue = new DelayQueue<>();
+  private final Map<String, TimerEntry> entries = new HashMap<>();
+  private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis(), queue);
+  private final ExpiryListener listener;
+  private final ExecutorService listenerExecutor;
+  private final ExecutorService timerThread;
+
+  public TimeoutScheduler(String name, ExpiryListener listener, ExecutorService listenerExecutor) {
+    this.listener = listener;
+    this.listenerExecutor = listenerExecutor;
+    this.timerThread = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat(name + "-timer").setDaemon(true).build());
+    timerThread.submit(this::run);
+  }
+
+  public void schedule(String id, long dueTime) {
+    TimerEntry entry = new TimerEntry(id, dueTime);
+    boolean expired;
+    synchronized (lock) {
+      removeEntry(id);
+      if (dueTime > System.currentTimeMillis() + HORIZON.toMillis()) {
+        return;
+      }
+      expired = !wheel.add(entry);
+      if (!expired) {
+        entries.put(id, entry);
+      }
+    }
+    if (expired) {
+      expire(entry);
+    }
+  }
+
+  public void cancel(String id) {
+    synchronized (lock) {
+      removeEntry(id);
+    }
+  }
+
+  public int size() {
+    synchronized (lock) {
+      return entries.size();
+    }
+  }
+
+  public void stop() {
+    timerThread.shutdownNow();
+  }
+
+  private void removeEntry(String id) {
+    TimerEntry previous = entries.remove(id);
+    if (previous != null) {
+      previous.remove();
+    }
+  }
+
+  private void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        TimerBucket bucket = queue.take();
+        List<TimerEntry> expired = new ArrayList<>();
+        synchronized (lock) {
+          while (bucket != null) {
+            wheel.advanceClock(bucket.getExpiration());
+            // the entries of the coarser wheels land in the finer ones, the ones of the finest wheel expire
+            for (TimerEntry entry : bucket.flush()) {
+              if (!wheel.add(entry)) {
+                entries.remove(entry.getId());
+                expired.add(entry);
+              }
+            }
+            bucket = queue.poll();
+          }
+        }
+        expired.forEach(this::expire);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        log.error("Timeout scheduler failed to advance", e);
+      }
+    }
+  }
+
+  private void expire(TimerEntry entry) {
+    try {
+      listenerExecutor.submit(() -> listener.onExpired(entry.getId()));
+    } catch (RuntimeException e) {
+      log.error("Failed to submit the expiry of {}", entry.getId(), e);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The entries of one slot of a {@link TimingWheel}. The bucket is queued in the delay queue of the scheduler until its
+ * expiration, so the scheduler thread only wakes up for the slots that have entries.
+ *
+ * Not thread safe, {@link TimeoutScheduler} guards all the changes with its lock.
+ */
+@OwnedBy(PIPELINE)
+class TimerBucket implements Delayed {
+  private final Set<TimerEntry> entries = new LinkedHashSet<>();
+  private volatile long expiration = -1;
+
+  void add(TimerEntry entry) {
+    entries.add(entry);
+    entry.setBucket(this);
+  }
+
+  void remove(TimerEntry entry) {
+    if (entries.remove(entry)) {
+      entry.setBucket(null);
+    }
+  }
+
+  List<TimerEntry> flush() {
+    List<TimerEntry> flushed = new ArrayList<>(entries);
+    flushed.forEach(entry -> entry.setBucket(null));
+    entries.clear();
+    expiration = -1;
+    return flushed;
+  }
+
+  /**
+   * @return true when the expiration changed, that is when the bucket has to be queued again
+   */
+  boolean setExpiration(long expiration) {
+    if (this.expiration == expiration) {
+      return false;
+    }
+    this.expiration = expiration;
+    return true;
+  }
+
+  long getExpiration() {
+    return expiration;
+  }
+
+  @Override
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(Math.max(expiration - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public int compareTo(Delayed other) {
+    return Long.compare(expiration, ((TimerBucket) other).expiration);
+  }
+}
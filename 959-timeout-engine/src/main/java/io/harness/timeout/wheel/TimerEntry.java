@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@OwnedBy(PIPELINE)
+@RequiredArgsConstructor
+class TimerEntry {
+  @Getter private final String id;
+  @Getter private final long dueTime;
+  private TimerBucket bucket;
+
+  void setBucket(TimerBucket bucket) {
+    this.bucket = bucket;
+  }
+
+  void remove() {
+    if (bucket != null) {
+      bucket.remove(this);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.concurrent.DelayQueue;
+
+/**
+ * Hierarchical timing wheel. Each wheel has wheelSize slots of tickMillis, the entries due beyond the span of a wheel
+ * go to its overflow wheel, whose tick is the whole span of this one. When the clock reaches the slot of an overflow
+ * wheel, its entries are added again and land in the finer wheels, until they expire in the first one.
+ *
+ * Adding and removing an entry is O(1), the wheels only hold the entries and the scheduler thread sleeps until the
+ * next non empty slot expires.
+ */
+@OwnedBy(PIPELINE)
+class TimingWheel {
+  private final long tickMillis;
+  private final int wheelSize;
+  private final long interval;
+  private final TimerBucket[] buckets;
+  private final DelayQueue<TimerBucket> queue;
+
+  private long currentTime;
+  private TimingWheel overflowWheel;
+
+  TimingWheel(long tickMillis, int wheelSize, long startMillis, DelayQueue<TimerBucket> queue) {
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.interval = tickMillis * wheelSize;
+    this.queue = queue;
+    this.currentTime = startMillis - (startMillis % tickMillis);
+    this.buckets = new TimerBucket[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = new TimerBucket();
+    }
+  }
+
+  /**
+   * @return false when the entry is already due and should be expired right away
+   */
+  boolean add(TimerEntry entry) {
+    long dueTime = entry.getDueTime();
+    if (dueTime < currentTime + tickMillis) {
+      return false;
+    }
+
+    if (dueTime < currentTime + interval) {
+      long virtualId = dueTime / tickMillis;
+      TimerBucket bucket = buckets[(int) (virtualId % wheelSize)];
+      bucket.add(entry);
+      if (bucket.setExpiration(virtualId * tickMillis)) {
+        queue.offer(bucket);
+      }
+      return true;
+    }
+
+    if (overflowWheel == null) {
+      overflowWheel = new TimingWheel(interval, wheelSize, currentTime, queue);
+    }
+    return overflowWheel.add(entry);
+  }
+
+  void advanceClock(long timeMillis) {
+    if (timeMillis >= currentTime + tickMillis) {
+      currentTime = timeMillis - (timeMillis % tickMillis);
+      if (overflowWheel != null) {
+        overflowWheel.advanceClock(currentTime);
+      }
+    }
+  }
+}
@@ -7,26 +7,45 @@
 
 package io.harness.timeout;
 
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.rule.OwnerRule.PRASHANT;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.mongo.iterator.filter.SpringFilterExpander;
+import io.harness.mongo.iterator.provider.SpringPersistenceRequiredProvider;
+import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
+import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
   @Inject private TimeoutEngine timeoutEngine;
+  @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private Injector injector;
 
   @Test
   @Owner(developers = GARVIT)
@@ -48,6 +67,110 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     assertThat(callback.getTimeoutInstance()).isNotNull();
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testExpiredInstanceFiresOnceAcrossEngines() {
+    TimeoutEngine engine = newEngine();
+    TimeoutEngine otherEngine = newEngine();
+    otherEngine.startScheduler(MoreExecutors.newDirectExecutorService());
+    try {
+      String uuid = saveTimeoutInstance(System.currentTimeMillis() - 1000);
+      // The other engine finds the instance claimed while the callback runs and only keeps it scheduled
+      RecordingTimeoutCallback.onFiring = timeoutInstance -> otherEngine.onExpired(timeoutInstance.getUuid());
+
+      engine.startScheduler(MoreExecutors.newDirectExecutorService());
+
+      assertThat(RecordingTimeoutCallback.firings.get(uuid)).isEqualTo(1);
+      assertThat(timeoutInstanceRepository.findById(uuid)).isEmpty();
+      assertThat(otherEngine.getScheduler().size()).isEqualTo(1);
+
+      otherEngine.onExpired(uuid);
+      assertThat(RecordingTimeoutCallback.firings.get(uuid)).isEqualTo(1);
+    } finally {
+      RecordingTimeoutCallback.onFiring = null;
+      engine.stopScheduler();
+      otherEngine.stopScheduler();
+    }
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRecoveryOnlyPicksInstancesOrphanedBeyondGracePeriod() {
+    long now = System.currentTimeMillis();
+    String orphaned = saveTimeoutInstance(now - Duration.ofMinutes(5).toMillis());
+    String overdue = saveTimeoutInstance(now - Duration.ofSeconds(10).toMillis());
+    String pending = saveTimeoutInstance(now + Duration.ofMinutes(5).toMillis());
+    List<String> uuids = asList(orphaned, overdue, pending);
+    SpringFilterExpander filterExpander = query -> {
+      TimeoutEngine.recoveryFilterExpander().filter(query);
+      query.addCriteria(where(TimeoutInstanceKeys.uuid).in(uuids));
+    };
+
+    SpringPersistenceRequiredProvider<TimeoutInstance> persistenceProvider =
+        new SpringPersistenceRequiredProvider<>(mongoTemplate);
+    TimeoutInstance recovered = persistenceProvider.obtainNextInstance(now, now, TimeoutInstance.class,
+        TimeoutInstanceKeys.nextIteration, REGULAR, Duration.ofSeconds(10), filterExpander);
+    assertThat(recovered.getUuid()).isEqualTo(orphaned);
+    assertThat(persistenceProvider.obtainNextInstance(now, now, TimeoutInstance.class,
+                   TimeoutInstanceKeys.nextIteration, REGULAR, Duration.ofSeconds(10), filterExpander))
+        .isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPendingInstancesAreLoadedOnStartup() {
+    long now = System.currentTimeMillis();
+    String overdue = saveTimeoutInstance(now - Duration.ofMinutes(5).toMillis());
+    String pending = saveTimeoutInstance(now + Duration.ofMinutes(5).toMillis());
+
+    TimeoutEngine engine = newEngine();
+    engine.startScheduler(MoreExecutors.newDirectExecutorService());
+    try {
+      assertThat(RecordingTimeoutCallback.firings.get(overdue)).isEqualTo(1);
+      assertThat(timeoutInstanceRepository.findById(overdue)).isEmpty();
+      // The pending instances are scheduled to fire when they are due
+      assertThat(RecordingTimeoutCallback.firings.get(pending)).isNull();
+      assertThat(timeoutInstanceRepository.findById(pending)).isPresent();
+      assertThat(engine.getScheduler().size()).isEqualTo(1);
+    } finally {
+      engine.stopScheduler();
+    }
+  }
+
+  private TimeoutEngine newEngine() {
+    TimeoutEngine engine = new TimeoutEngine();
+    injector.injectMembers(engine);
+    return engine;
+  }
+
+  private String saveTimeoutInstance(long nextIteration) {
+    return timeoutInstanceRepository
+        .save(TimeoutInstance.builder()
+                  .uuid(generateUuid())
+                  .tracker(new AbsoluteTimeoutTracker(1000))
+                  .callback(new RecordingTimeoutCallback())
+                  .nextIteration(nextIteration)
+                  .build())
+        .getUuid();
+  }
+
+  public static class RecordingTimeoutCallback implements TimeoutCallback {
+    static final Map<String, Integer> firings = new ConcurrentHashMap<>();
+    static volatile Consumer<TimeoutInstance> onFiring;
+
+    @Override
+    public void onTimeout(TimeoutInstance timeoutInstance) {
+      firings.merge(timeoutInstance.getUuid(), 1, Integer::sum);
+      Consumer<TimeoutInstance> listener = onFiring;
+      if (listener != null) {
+        listener.accept(timeoutInstance);
+      }
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
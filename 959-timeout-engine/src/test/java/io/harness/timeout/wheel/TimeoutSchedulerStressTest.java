@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Registers a million timeouts the way running steps do: almost all of them are cancelled before they expire. No
+ * Mongo operation is needed to find the few that expire, the iterator would scan for them continuously instead.
+ */
+@Slf4j
+public class TimeoutSchedulerStressTest extends CategoryTest {
+  private static final int TIMEOUTS = 1_000_000;
+  private static final long SPAN_MILLIS = 20_000;
+  private static final int EXPIRING_EVERY = 100;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void scheduleMillionTimeouts() throws InterruptedException {
+    long[] dueTimes = new long[TIMEOUTS];
+    AtomicLong expired = new AtomicLong();
+    AtomicLong maxLag = new AtomicLong();
+    TimeoutScheduler scheduler = new TimeoutScheduler("stress", id -> {
+      maxLag.accumulateAndGet(System.currentTimeMillis() - dueTimes[Integer.parseInt(id)], Math::max);
+      expired.incrementAndGet();
+    }, MoreExecutors.newDirectExecutorService());
+
+    Random random = new Random();
+    long start = System.currentTimeMillis() + SPAN_MILLIS;
+    long scheduleStart = System.nanoTime();
+    for (int i = 0; i < TIMEOUTS; i++) {
+      dueTimes[i] = start + (long) (random.nextDouble() * SPAN_MILLIS);
+      scheduler.schedule(String.valueOf(i), dueTimes[i]);
+    }
+    long scheduleMillis = (System.nanoTime() - scheduleStart) / 1_000_000;
+    for (int i = 0; i < TIMEOUTS; i++) {
+      if (i % EXPIRING_EVERY != 0) {
+        scheduler.cancel(String.valueOf(i));
+      }
+    }
+    log.info("Scheduled {} timeouts in {} ms, {} left after the cancellations", TIMEOUTS, scheduleMillis,
+        scheduler.size());
+
+    Thread.sleep(Math.max(0, start + SPAN_MILLIS + 1000 - System.currentTimeMillis()));
+    scheduler.stop();
+
+    log.info("Expired {} timeouts, max firing lag {} ms", expired.get(), maxLag.get());
+    assertThat(expired.get()).isEqualTo(TIMEOUTS / EXPIRING_EVERY);
+  }
+}
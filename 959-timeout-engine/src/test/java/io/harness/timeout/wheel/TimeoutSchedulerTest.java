@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TimeoutSchedulerTest extends CategoryTest {
+  private final List<String> expired = new CopyOnWriteArrayList<>();
+  private final Map<String, Long> expiredAt = new ConcurrentHashMap<>();
+  private TimeoutScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler = new TimeoutScheduler("test", id -> {
+      expiredAt.put(id, System.currentTimeMillis());
+      expired.add(id);
+    }, MoreExecutors.newDirectExecutorService());
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.stop();
+  }
+
+  private void awaitExpired(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (expired.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldExpireInDueTimeOrder() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    scheduler.schedule("third", now + 300);
+    scheduler.schedule("first", now + 50);
+    // lands in an overflow wheel first
+    scheduler.schedule("fourth", now + 5000);
+    scheduler.schedule("second", now + 120);
+
+    awaitExpired(4);
+
+    assertThat(expired).containsExactly("first", "second", "third", "fourth");
+    assertThat(expiredAt.get("first")).isGreaterThanOrEqualTo(now + 50);
+    assertThat(expiredAt.get("fourth")).isGreaterThanOrEqualTo(now + 5000);
+    assertThat(scheduler.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldExpireOverdueRightAway() {
+    scheduler.schedule("overdue", System.currentTimeMillis() - 1000);
+
+    assertThat(expired).containsExactly("overdue");
+    assertThat(scheduler.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCancelAndReschedule() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    scheduler.schedule("cancelled", now + 50);
+    scheduler.schedule("rescheduled", now + 50);
+    scheduler.schedule("kept", now + 200);
+    scheduler.cancel("cancelled");
+    scheduler.schedule("rescheduled", now + 400);
+    assertThat(scheduler.size()).isEqualTo(2);
+
+    awaitExpired(2);
+
+    assertThat(expired).containsExactly("kept", "rescheduled");
+    assertThat(expiredAt.get("rescheduled")).isGreaterThanOrEqualTo(now + 400);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotKeepTimeoutsBeyondHorizon() {
+    scheduler.schedule("far", System.currentTimeMillis() + Duration.ofDays(1000).toMillis());
+
+    assertThat(scheduler.size()).isZero();
+  }
+}
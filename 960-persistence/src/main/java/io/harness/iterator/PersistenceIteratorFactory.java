@@ -19,6 +19,7 @@ import io.harness.metrics.HarnessMetricRegistry;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
 import io.harness.mongo.iterator.filter.FilterExpander;
+import io.harness.threading.VirtualThreads;
 
 import com.codahale.metrics.InstrumentedExecutorService;
 import com.codahale.metrics.MetricRegistry;
@@ -28,9 +29,13 @@ import com.google.inject.Injector;
 import com.google.inject.Singleton;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +45,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class PersistenceIteratorFactory {
   private static final SecureRandom random = new SecureRandom();
+  // Only hands the iterations over to the virtual threads, so one thread schedules all the iterators
+  private static final ScheduledExecutorService virtualThreadsScheduler = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("Iterator-virtual-threads-scheduler").setDaemon(true).build());
 
   @Inject Injector injector;
 
@@ -65,6 +73,7 @@ public final class PersistenceIteratorFactory {
     private String name;
     private int poolSize;
     private Duration interval;
+    private boolean virtualThreads;
   }
 
   private <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
@@ -75,6 +84,10 @@ public final class PersistenceIteratorFactory {
       return null;
     }
 
+    if (options.isVirtualThreads()) {
+      return createIteratorWithVirtualThreads(processMode, options, cls, builder);
+    }
+
     String iteratorName = "Iterator-" + options.getName();
     ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
         options.getPoolSize(), new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
@@ -100,6 +113,52 @@ public final class PersistenceIteratorFactory {
     return iterator;
   }
 
+  /**
+   * Runs the iterations and the entity handlers on virtual threads instead of a dedicated pool. The semaphore sized by
+   * the pool size keeps limiting the entities processed at once.
+   */
+  private <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
+  createIteratorWithVirtualThreads(PersistenceIterator.ProcessMode processMode, PumpExecutorOptions options,
+      Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
+    String iteratorName = "Iterator-" + options.getName();
+    ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(iteratorName);
+    log.info("Worker {} is enabled in this setup, running on virtual threads: {}", cls.getName(),
+        VirtualThreads.isAvailable());
+
+    MetricRegistry metricRegistry = harnessMetricRegistry.getThreadPoolMetricRegistry();
+    InstrumentedExecutorService instrumentedExecutorService =
+        new InstrumentedExecutorService(executor, metricRegistry, iteratorName);
+
+    MongoPersistenceIterator<T, F> iterator = builder.mode(processMode)
+                                                  .executorService(instrumentedExecutorService)
+                                                  .semaphore(new Semaphore(options.getPoolSize()))
+                                                  .iteratorName(options.getName())
+                                                  .build();
+    injector.injectMembers(iterator);
+
+    // Same as scheduling at fixed rate on a dedicated pool, an iteration is skipped while the previous one still runs
+    AtomicBoolean processing = new AtomicBoolean();
+    long millis = options.interval.toMillis();
+    virtualThreadsScheduler.scheduleAtFixedRate(() -> {
+      if (processing.compareAndSet(false, true)) {
+        executor.submit(() -> {
+          try {
+            iterator.process();
+          } finally {
+            processing.set(false);
+          }
+        });
+      }
+    }, random.nextInt((int) millis), millis, TimeUnit.MILLISECONDS);
+
+    if (iterator.getSchedulingType() == IRREGULAR || iterator.getSchedulingType() == IRREGULAR_SKIP_MISSED) {
+      virtualThreadsScheduler.schedule(
+          () -> executor.submit(iterator::recoverAfterPause), random.nextInt((int) millis), TimeUnit.MILLISECONDS);
+    }
+
+    return iterator;
+  }
+
   // TODO (prashant) : this method looks wrong for loop iterators, scheduled at fixed rate do not make sense
   // Investigate more when time permits
   public <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
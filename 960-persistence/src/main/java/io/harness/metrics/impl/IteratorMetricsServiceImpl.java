@@ -26,6 +26,7 @@ public class IteratorMetricsServiceImpl {
   public static final String ITERATOR_DELAY = "iterator_delay";
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
+  public static final String ITERATOR_CLAIM_BATCH_SIZE = "iterator_claim_batch_size";
 
   @Inject private MetricService metricService;
 
@@ -40,4 +41,10 @@ public class IteratorMetricsServiceImpl {
       metricService.recordDuration(metricName, duration);
     }
   }
+
+  public void recordIteratorMetricsWithValue(String iteratorName, double value, String metricName) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
 }
@@ -20,4 +20,8 @@ public class IteratorConfig {
   boolean enabled;
   int threadPoolCount;
   long targetIntervalInSeconds;
+  // Process the entities on virtual threads, threadPoolCount still limits how many are processed at once
+  boolean virtualThreads;
+  // Regular iterators claim up to this many due entities at once, 0 claims them one by one
+  int claimBatchSize;
 }
@@ -11,6 +11,7 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_CLAIM_BATCH_SIZE;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_ERROR;
 import static io.harness.metrics.impl.IteratorMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
@@ -45,6 +46,7 @@ import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 import java.util.concurrent.Semaphore;
 import lombok.Builder;
 import lombok.Getter;
@@ -83,6 +85,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private EntityProcessController<T> entityProcessController;
   @Getter private SchedulingType schedulingType;
   private String iteratorName;
+  // Regular iterators claim up to this many due entities in one go, instead of one findAndModify per entity
+  private int claimBatchSize;
 
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
@@ -135,13 +139,26 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         previous = base;
 
         T entity = null;
+        List<T> entities = null;
         try {
-          entity = persistenceProvider.obtainNextInstance(
-              base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+          if (isClaimingBatches()) {
+            // do not claim more than the free workers can start with
+            int limit = Math.min(claimBatchSize, semaphore.availablePermits() + 1);
+            entities = persistenceProvider.obtainNextInstances(
+                base, throttled, clazz, fieldName, targetInterval, filterExpander, limit);
+          } else {
+            entity = persistenceProvider.obtainNextInstance(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander);
+          }
         } finally {
           semaphore.release();
         }
 
+        if (isNotEmpty(entities)) {
+          processBatch(entities);
+          continue;
+        }
+
         if (entity != null) {
           // Make sure that if the object is updated we reset the scheduler for it
           if (schedulingType != REGULAR) {
@@ -199,6 +216,29 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private boolean isClaimingBatches() {
+    return claimBatchSize > 1 && schedulingType == REGULAR;
+  }
+
+  private void processBatch(List<T> entities) throws InterruptedException {
+    iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, entities.size(), ITERATOR_CLAIM_BATCH_SIZE);
+    List<T> toProcess = entityProcessController == null
+        ? entities
+        : entities.stream().filter(entityProcessController::shouldProcessEntity).collect(Collectors.toList());
+    if (toProcess.isEmpty()) {
+      return;
+    }
+
+    T last = toProcess.get(toProcess.size() - 1);
+    synchronized (last) {
+      for (T entity : toProcess) {
+        executorService.submit(() -> processEntity(entity));
+      }
+      // do not claim the next batch before the workers pick up this one
+      last.wait(10000);
+    }
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
@@ -7,6 +7,7 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
@@ -20,8 +21,13 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.BasicDBObject;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mongodb.morphia.mapping.Mapper;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -77,6 +83,65 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
   }
 
+  /**
+   * Claims the instances in four round trips at most: one query for the candidates, one update claiming all of them,
+   * only when another iterator claimed some of them first one query for the ones this call claimed, and one update
+   * clearing the claim id.
+   */
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      Duration targetInterval, MorphiaFilterExpander<T> filterExpander, int limit) {
+    long now = currentTimeMillis();
+    List<T> candidates = HPersistence.retry(
+        () -> createQuery(now, clazz, fieldName, filterExpander).asList(new FindOptions().limit(limit)));
+    if (candidates.isEmpty()) {
+      return candidates;
+    }
+
+    List<String> ids = candidates.stream().map(T::getUuid).collect(Collectors.toList());
+    String claimIdField = PersistenceProvider.claimIdField(fieldName);
+    String claimId = generateUuid();
+    // The claim id is not a field of the entities
+    UpdateOperations<T> updateOperations = persistence.createUpdateOperations(clazz)
+                                               .disableValidation()
+                                               .set(fieldName, base + targetInterval.toMillis())
+                                               .set(claimIdField, claimId);
+    int claimed = persistence
+                      .update(createQuery(now, clazz, fieldName, null).field(Mapper.ID_KEY).in(ids), updateOperations)
+                      .getUpdatedCount();
+    if (claimed == 0) {
+      return Collections.emptyList();
+    }
+    if (claimed == candidates.size()) {
+      clearClaimId(clazz, ids, claimIdField, claimId);
+      return candidates;
+    }
+
+    Set<String> claimedIds = claimedQuery(clazz, ids, claimIdField, claimId)
+                                 .project(Mapper.ID_KEY, true)
+                                 .asList()
+                                 .stream()
+                                 .map(T::getUuid)
+                                 .collect(Collectors.toSet());
+    clearClaimId(clazz, ids, claimIdField, claimId);
+    return candidates.stream().filter(entity -> claimedIds.contains(entity.getUuid())).collect(Collectors.toList());
+  }
+
+  // The claim id is not a field of the entities, so it is only kept until the claimed instances are known
+  private void clearClaimId(Class<T> clazz, List<String> ids, String claimIdField, String claimId) {
+    persistence.update(claimedQuery(clazz, ids, claimIdField, claimId),
+        persistence.createUpdateOperations(clazz).disableValidation().unset(claimIdField));
+  }
+
+  private Query<T> claimedQuery(Class<T> clazz, List<String> ids, String claimIdField, String claimId) {
+    return persistence.createQuery(clazz)
+        .disableValidation()
+        .field(Mapper.ID_KEY)
+        .in(ids)
+        .field(claimIdField)
+        .equal(claimId);
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
     Query<T> resultQuery = createQuery(clazz, fieldName, filterExpander).project(fieldName, true);
@@ -13,12 +13,32 @@ import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 
 public interface PersistenceProvider<T extends PersistentIterable, F extends FilterExpander> {
   void updateEntityField(T entity, List<Long> nextIterations, Class<T> clazz, String fieldName);
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander);
+
+  /**
+   * Claims up to limit due instances of a regularly scheduled iterator at once. The returned entities carry the next
+   * iteration they had before the claim. Providers without a batched claim claim a single instance.
+   *
+   * A batched claim writes a unique id in the {@link #claimIdField} of the field, to tell the instances it claimed
+   * from the ones claimed by other iterators at the same time, and clears it once the claimed instances are known.
+   */
+  default List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      Duration targetInterval, F filterExpander, int limit) {
+    T entity = obtainNextInstance(base, throttled, clazz, fieldName, SchedulingType.REGULAR, targetInterval,
+        filterExpander);
+    return entity == null ? Collections.emptyList() : Collections.singletonList(entity);
+  }
+
+  static String claimIdField(String fieldName) {
+    return fieldName + "ClaimId";
+  }
+
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
   void recoverAfterPause(Class<T> clazz, String fieldName);
 }
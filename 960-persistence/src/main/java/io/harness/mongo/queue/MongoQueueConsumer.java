@@ -8,6 +8,7 @@
 package io.harness.mongo.queue;
 
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.persistence.HPersistence.returnOldOptions;
 import static io.harness.persistence.HQuery.excludeAuthority;
@@ -15,40 +16,93 @@ import static io.harness.persistence.HQuery.excludeAuthority;
 import static java.lang.String.format;
 
 import io.harness.exception.UnexpectedException;
+import io.harness.metrics.beans.QueueConsumerMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.Queuable;
 import io.harness.queue.Queuable.QueuableKeys;
 import io.harness.queue.QueueConsumer;
 import io.harness.queue.TopicUtils;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import com.mongodb.DBObject;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.conversions.Bson;
 import org.mongodb.morphia.AdvancedDatastore;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
 
+/**
+ * Claims the queued messages with findAndModify. By default an empty queue is polled every poll interval.
+ *
+ * With the change stream mode the consumer watches the inserts and updates of its topics and blocks until one of
+ * them makes a message available, instead of polling. The time a delayed or abandoned message becomes available is
+ * not announced by the stream, so the queue is still queried when the earliest known earliestGet is due and at
+ * least every {@link #CHANGE_STREAM_FALLBACK_POLL}. When the stream can not be opened the consumer polls as before
+ * and retries the stream later.
+ */
 @Slf4j
 public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T> {
+  public static final String QUEUE_CONSUMER_QUERY = "queue_consumer_query";
+  public static final String QUEUE_CONSUMER_EMPTY_QUERY = "queue_consumer_empty_query";
+  public static final String QUEUE_MESSAGE_DEQUEUE_DELAY = "queue_message_dequeue_delay";
+  static final String POLL_MODE = "poll";
+  static final String CHANGE_STREAM_MODE = "change_stream";
+
+  private static final Duration CHANGE_STREAM_FALLBACK_POLL = Duration.ofSeconds(30);
+  private static final Duration CHANGE_STREAM_RETRY_INTERVAL = Duration.ofMinutes(1);
+
   private final Class<T> klass;
   @Setter private Duration heartbeat;
   List<String> topics;
+  private final boolean changeStreamEnabled;
 
   private Semaphore semaphore = new Semaphore(1);
   @Inject private HPersistence persistence;
+  @Inject(optional = true) private MetricService metricService;
+
+  private final Object changeLock = new Object();
+  // Guarded by changeLock
+  private boolean changed;
+  private long nextEarliestGet = Long.MAX_VALUE;
+  private long lastQueryTime;
+  private volatile boolean changeStreamAlive;
+  private ExecutorService changeStreamExecutor;
 
   public MongoQueueConsumer(Class<T> klass, Duration heartbeat, List<List<String>> topicExpression) {
+    this(klass, heartbeat, topicExpression, false);
+  }
+
+  public MongoQueueConsumer(
+      Class<T> klass, Duration heartbeat, List<List<String>> topicExpression, boolean changeStreamEnabled) {
     Objects.requireNonNull(klass);
     this.klass = klass;
     this.heartbeat = heartbeat;
     this.topics = TopicUtils.resolveExpressionIntoListOfTopics(topicExpression);
+    this.changeStreamEnabled = changeStreamEnabled;
   }
 
   @Override
@@ -70,35 +124,263 @@ public class MongoQueueConsumer<T extends Queuable> implements QueueConsumer<T>
     return null;
   }
 
-  private T getUnderLock(long endTime, Duration poll) {
-    while (true) {
-      final Date now = new Date();
-
-      Query<T> query = createQuery()
-                           .field(QueuableKeys.earliestGet)
-                           .lessThanOrEq(now)
-                           .order(Sort.ascending(QueuableKeys.earliestGet));
-
-      UpdateOperations<T> updateOperations = persistence.createUpdateOperations(klass).set(
-          QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()));
+  @Override
+  public List<T> getBatch(int maxMessages) {
+    boolean acquired = false;
+    try {
+      acquired = semaphore.tryAcquire(0, TimeUnit.MILLISECONDS);
+      if (acquired) {
+        return claimBatch(maxMessages);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        semaphore.release();
+      }
+    }
+    return Collections.emptyList();
+  }
 
-      T message = HPersistence.retry(() -> persistence.findAndModify(query, updateOperations, returnOldOptions));
-      if (message != null) {
-        return message;
+  private T getUnderLock(long endTime, Duration poll) throws InterruptedException {
+    startChangeStream();
+    boolean query = !changeStreamAlive || shouldQuery(System.currentTimeMillis());
+    while (true) {
+      if (query) {
+        T message = claim();
+        if (message != null) {
+          return message;
+        }
       }
 
       if (System.currentTimeMillis() >= endTime) {
         return null;
       }
 
+      if (changeStreamAlive) {
+        query = awaitChange(endTime);
+        continue;
+      }
+
       try {
         Thread.sleep(poll.toMillis());
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        return null;
       } catch (final IllegalArgumentException ex) {
         poll = Duration.ofMillis(0);
       }
+      query = true;
+    }
+  }
+
+  private T claim() {
+    final Date now = new Date();
+    onQuery(now.getTime());
+
+    Query<T> query = createQuery()
+                         .field(QueuableKeys.earliestGet)
+                         .lessThanOrEq(now)
+                         .order(Sort.ascending(QueuableKeys.earliestGet));
+
+    UpdateOperations<T> updateOperations = persistence.createUpdateOperations(klass).set(
+        QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()));
+
+    T message = HPersistence.retry(() -> persistence.findAndModify(query, updateOperations, returnOldOptions));
+    onClaimed(now, message == null ? Collections.emptyList() : Collections.singletonList(message));
+    return message;
+  }
+
+  /**
+   * Claims up to maxMessages available messages in three round trips at most: one query for the candidates, one
+   * update claiming all of them and, only when another consumer claimed some of them first, one query for the
+   * messages this consumer got. The claims are told apart by the unique claim id written by the update.
+   */
+  private List<T> claimBatch(int maxMessages) {
+    final Date now = new Date();
+    onQuery(now.getTime());
+
+    List<T> candidates = HPersistence.retry(() -> createQuery()
+        .field(QueuableKeys.earliestGet)
+        .lessThanOrEq(now)
+        .order(Sort.ascending(QueuableKeys.earliestGet))
+        .asList(new FindOptions().limit(maxMessages)));
+    if (candidates.isEmpty()) {
+      onClaimed(now, candidates);
+      return candidates;
+    }
+
+    List<String> ids = candidates.stream().map(Queuable::getId).collect(Collectors.toList());
+    String claimId = generateUuid();
+    int claimed = persistence
+                      .update(persistence.createQuery(klass, excludeAuthority)
+                                  .field(QueuableKeys.id)
+                                  .in(ids)
+                                  .field(QueuableKeys.earliestGet)
+                                  .lessThanOrEq(now),
+                          persistence.createUpdateOperations(klass)
+                              .set(QueuableKeys.earliestGet, new Date(now.getTime() + heartbeat().toMillis()))
+                              .set(QueuableKeys.claimId, claimId))
+                      .getUpdatedCount();
+
+    List<T> messages = candidates;
+    if (claimed < candidates.size()) {
+      Set<String> claimedIds = persistence.createQuery(klass, excludeAuthority)
+                                          .field(QueuableKeys.id)
+                                          .in(ids)
+                                          .field(QueuableKeys.claimId)
+                                          .equal(claimId)
+                                          .project(QueuableKeys.id, true)
+                                          .asList()
+                                          .stream()
+                                          .map(Queuable::getId)
+                                          .collect(Collectors.toSet());
+      messages =
+          candidates.stream().filter(message -> claimedIds.contains(message.getId())).collect(Collectors.toList());
+    }
+    onClaimed(now, messages);
+    return messages;
+  }
+
+  private void onClaimed(Date queryTime, List<T> messages) {
+    if (!messages.isEmpty()) {
+      synchronized (changeLock) {
+        // There could be more messages waiting
+        changed = true;
+      }
+    }
+    recordClaimed(queryTime, messages);
+  }
+
+  private boolean shouldQuery(long now) {
+    synchronized (changeLock) {
+      return changed || nextEarliestGet <= now || lastQueryTime + CHANGE_STREAM_FALLBACK_POLL.toMillis() <= now;
+    }
+  }
+
+  private void onQuery(long now) {
+    synchronized (changeLock) {
+      // Changes arriving from now on are not covered by this query
+      changed = false;
+      if (nextEarliestGet <= now) {
+        nextEarliestGet = Long.MAX_VALUE;
+      }
+      lastQueryTime = now;
+    }
+  }
+
+  /**
+   * Blocks until a change makes a message available, a known earliestGet is due, the fallback poll is due or the
+   * end time. Returns whether the queue should be queried.
+   */
+  private boolean awaitChange(long endTime) throws InterruptedException {
+    synchronized (changeLock) {
+      while (changeStreamAlive) {
+        long now = System.currentTimeMillis();
+        if (changed || nextEarliestGet <= now || lastQueryTime + CHANGE_STREAM_FALLBACK_POLL.toMillis() <= now) {
+          return true;
+        }
+        if (now >= endTime) {
+          return false;
+        }
+        changeLock.wait(
+            Math.min(endTime, Math.min(nextEarliestGet, lastQueryTime + CHANGE_STREAM_FALLBACK_POLL.toMillis()))
+            - now);
+      }
+    }
+    // The change stream went down, resume polling
+    return true;
+  }
+
+  void onChange(Date earliestGet) {
+    synchronized (changeLock) {
+      if (earliestGet == null || earliestGet.getTime() <= System.currentTimeMillis()) {
+        changed = true;
+      } else {
+        nextEarliestGet = Math.min(nextEarliestGet, earliestGet.getTime());
+      }
+      changeLock.notifyAll();
+    }
+  }
+
+  void setChangeStreamAlive(boolean changeStreamAlive) {
+    synchronized (changeLock) {
+      this.changeStreamAlive = changeStreamAlive;
+      // Nothing was watched before, look for the messages that could have been missed
+      changed = true;
+      changeLock.notifyAll();
+    }
+  }
+
+  private synchronized void startChangeStream() {
+    if (!changeStreamEnabled || changeStreamExecutor != null) {
+      return;
+    }
+    changeStreamExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat(getName() + "-change-stream-%d").setDaemon(true).build());
+    changeStreamExecutor.submit(this::trackChanges);
+  }
+
+  private void trackChanges() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try (MongoCursor<ChangeStreamDocument<DBObject>> cursor = queueCollection()
+                                                                    .watch(changePipeline())
+                                                                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                                                                    .maxAwaitTime(1, TimeUnit.MINUTES)
+                                                                    .iterator()) {
+        // Consumers only stop polling once the stream is open, the messages inserted before that are queried once more
+        setChangeStreamAlive(true);
+        cursor.forEachRemaining(this::handleChange);
+      } catch (MongoInterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.warn("Failed to open the change stream of queue {}", getName(), e);
+      } finally {
+        setChangeStreamAlive(false);
+      }
+
+      try {
+        Thread.sleep(CHANGE_STREAM_RETRY_INTERVAL.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void handleChange(ChangeStreamDocument<DBObject> changeStreamDocument) {
+    DBObject fullDocument = changeStreamDocument.getFullDocument();
+    if (fullDocument != null) {
+      Object earliestGet = fullDocument.get(QueuableKeys.earliestGet);
+      onChange(earliestGet instanceof Date ? (Date) earliestGet : null);
+    }
+  }
+
+  private List<Bson> changePipeline() {
+    String topicField = "fullDocument." + QueuableKeys.topic;
+    return Collections.singletonList(
+        Aggregates.match(Filters.and(Filters.in("operationType", "insert", "replace", "update"),
+            isNotEmpty(topics) ? Filters.in(topicField, topics) : Filters.exists(topicField, false))));
+  }
+
+  private MongoCollection<DBObject> queueCollection() {
+    AdvancedDatastore datastore = persistence.getDatastore(klass);
+    return datastore.getMongo()
+        .getDatabase(datastore.getDB().getName())
+        .getCollection(persistence.getCollection(klass).getName())
+        .withDocumentClass(DBObject.class);
+  }
+
+  private void recordClaimed(Date queryTime, List<T> messages) {
+    if (metricService == null) {
+      return;
+    }
+    try (QueueConsumerMetricContext ignore =
+             new QueueConsumerMetricContext(getName(), changeStreamAlive ? CHANGE_STREAM_MODE : POLL_MODE)) {
+      metricService.incCounter(QUEUE_CONSUMER_QUERY);
+      if (messages.isEmpty()) {
+        metricService.incCounter(QUEUE_CONSUMER_EMPTY_QUERY);
+      }
+      for (T message : messages) {
+        long delay = queryTime.getTime() - message.getEarliestGet().getTime();
+        metricService.recordDuration(QUEUE_MESSAGE_DEQUEUE_DELAY, Duration.ofMillis(Math.max(delay, 0)));
+      }
     }
   }
 
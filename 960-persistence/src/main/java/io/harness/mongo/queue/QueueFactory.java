@@ -39,7 +39,8 @@ public class QueueFactory {
   public static <T extends Queuable> QueueConsumer<T> createQueueConsumer(Injector injector, Class<T> klass,
       Duration heartbeat, List<List<String>> topicExpression, PublisherConfiguration configuration) {
     if (configuration.isPublisherActive(klass)) {
-      final MongoQueueConsumer mongoQueueConsumer = new MongoQueueConsumer(klass, heartbeat, topicExpression);
+      final MongoQueueConsumer mongoQueueConsumer = new MongoQueueConsumer(
+          klass, heartbeat, topicExpression, configuration.isChangeStreamConsumer(klass));
       injector.injectMembers(mongoQueueConsumer);
       return mongoQueueConsumer;
     } else {
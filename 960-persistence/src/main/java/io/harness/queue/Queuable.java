@@ -47,6 +47,8 @@ public abstract class Queuable implements PersistentEntity {
   private Date earliestGet = new Date();
 
   @Getter @Setter private int retries;
+  // Written by the batch claims, to find the messages a claim got when other consumers claimed some of them first
+  @Getter @Setter private String claimId;
   @Getter @Setter private String topic;
   @Getter @Setter private GlobalContext globalContext;
 
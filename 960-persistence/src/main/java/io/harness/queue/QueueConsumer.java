@@ -8,13 +8,31 @@
 package io.harness.queue;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * The Interface Queue.
  */
 public interface QueueConsumer<T extends Queuable> extends Queue {
   T get(Duration wait, Duration poll);
+
+  /**
+   * Claims up to maxMessages of the available messages without waiting.
+   */
+  default List<T> getBatch(int maxMessages) {
+    List<T> messages = new ArrayList<>();
+    while (messages.size() < maxMessages) {
+      T message = get(Duration.ZERO, Duration.ZERO);
+      if (message == null) {
+        break;
+      }
+      messages.add(message);
+    }
+    return messages;
+  }
+
   void updateHeartbeat(T message);
 
   enum Filter { ALL, RUNNING, NOT_RUNNING }
@@ -26,7 +26,8 @@ import io.harness.mongo.ProcessTimeLogContext;
 import io.harness.queue.QueueConsumer.Filter;
 
 import com.google.inject.Inject;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -36,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class QueueListener<T extends Queuable> implements Runnable {
+  private static final int PUMP_BATCH_SIZE = 10;
+
   @Setter private boolean runOnce;
   private final boolean primaryOnly;
 
@@ -70,8 +73,11 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
   }
 
   public boolean execute() {
-    log.debug("Total event in running: [{}] and not running:[{}] - Class info [{}]",
-        queueConsumer.count(Filter.RUNNING), queueConsumer.count(Filter.NOT_RUNNING), this);
+    if (log.isDebugEnabled()) {
+      // Counting is two more queries per iteration, do not pay for them when they are not logged
+      log.debug("Total event in running: [{}] and not running:[{}] - Class info [{}]",
+          queueConsumer.count(Filter.RUNNING), queueConsumer.count(Filter.NOT_RUNNING), this);
+    }
     T message = null;
     try {
       log.trace("Waiting for message");
@@ -93,10 +99,10 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
 
   public void pumpAll() {
     while (true) {
-      T message = null;
+      List<T> messages = Collections.emptyList();
       try {
-        log.trace("Waiting for message");
-        message = queueConsumer.get(Duration.ZERO, Duration.ZERO);
+        log.trace("Waiting for messages");
+        messages = queueConsumer.getBatch(PUMP_BATCH_SIZE);
       } catch (Exception exception) {
         if (exception.getCause() instanceof InterruptedException) {
           log.info("Thread interrupted, shutting down for queue {}", queueConsumer.getName());
@@ -105,10 +111,10 @@ public abstract class QueueListener<T extends Queuable> implements Runnable {
         log.error("Exception happened while fetching message from queue {}", queueConsumer.getName(), exception);
       }
 
-      if (message == null) {
+      if (messages.isEmpty()) {
         break;
       }
-      processMessage(message);
+      messages.forEach(this::processMessage);
     }
   }
 
@@ -8,6 +8,7 @@
 package io.harness.queue;
 
 import io.harness.config.WorkersConfiguration;
+import io.harness.threading.VirtualThreads;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
@@ -24,21 +25,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Singleton
 public class QueueListenerController implements Managed {
-  private ExecutorService executorService =
-      Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("queue-listener-%d").build());
+  private ExecutorService executorService;
   private List<QueueListener<?>> abstractQueueListeners = new ArrayList<>();
   @Inject private WorkersConfiguration workersConfiguration;
-  public void register(QueueListener<?> listener, int threads) {
+  public synchronized void register(QueueListener<?> listener, int threads) {
     if (!workersConfiguration.confirmWorkerIsActive(listener.getClass())) {
       log.info("Not initializing QueueListener: [{}], worker has been configured as inactive", listener.getClass());
       return;
     }
+    ExecutorService executor = executorService();
     IntStream.rangeClosed(1, threads).forEach(value -> {
       abstractQueueListeners.add(listener);
-      executorService.submit(listener);
+      executor.submit(listener);
     });
   }
 
+  private ExecutorService executorService() {
+    if (executorService == null) {
+      // The listeners are blocked waiting for messages most of the time
+      executorService = workersConfiguration.isQueueListenerVirtualThreads()
+          ? VirtualThreads.newThreadPerTaskExecutor("queue-listener")
+          : Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("queue-listener-%d").build());
+    }
+    return executorService;
+  }
+
   /* (non-Javadoc)
    * @see io.dropwizard.lifecycle.Managed#start()
    */
@@ -51,9 +62,11 @@ public class QueueListenerController implements Managed {
    * @see io.dropwizard.lifecycle.Managed#stop()
    */
   @Override
-  public void stop() throws Exception {
+  public synchronized void stop() throws Exception {
     abstractQueueListeners.forEach(QueueListener::shutDown);
-    executorService.shutdownNow();
-    executorService.awaitTermination(1, TimeUnit.HOURS);
+    if (executorService != null) {
+      executorService.shutdownNow();
+      executorService.awaitTermination(1, TimeUnit.HOURS);
+    }
   }
 }
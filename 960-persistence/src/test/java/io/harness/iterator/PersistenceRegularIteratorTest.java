@@ -12,6 +12,7 @@ import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 import static io.harness.rule.OwnerRule.GEORGE;
+import static io.harness.rule.OwnerRule.MARKO;
 
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofMillis;
@@ -19,6 +20,7 @@ import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.joor.Reflect.on;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 
 import io.harness.PersistenceTestBase;
 import io.harness.category.element.UnitTests;
@@ -29,6 +31,7 @@ import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.mongo.iterator.provider.MorphiaPersistenceProvider;
+import io.harness.mongo.iterator.provider.PersistenceProvider;
 import io.harness.persistence.HPersistence;
 import io.harness.queue.QueueController;
 import io.harness.rule.Owner;
@@ -37,7 +40,10 @@ import io.harness.threading.Poller;
 import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
+import com.mongodb.BasicDBObject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -170,4 +176,69 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testObtainNextInstances() {
+    long now = currentTimeMillis();
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      TestRegularIterableEntity entity = TestRegularIterableEntity.builder()
+                                             .uuid(generateUuid())
+                                             .nextIteration(i < 3 ? now - 1000 : now + 60000)
+                                             .build();
+      ids.add(persistence.save(entity));
+    }
+    MorphiaFilterExpander<TestRegularIterableEntity> filterExpander = query -> query.field(ID_KEY).in(ids);
+
+    List<TestRegularIterableEntity> claimed = persistenceProvider.obtainNextInstances(now, now,
+        TestRegularIterableEntity.class, RegularIterableEntityKeys.nextIteration, ofSeconds(10), filterExpander, 2);
+    assertThat(claimed).hasSize(2);
+    // the entities are returned with the iteration they had before the claim
+    assertThat(claimed).allMatch(entity -> entity.getNextIteration() == now - 1000);
+    String claimIdField = PersistenceProvider.claimIdField(RegularIterableEntityKeys.nextIteration);
+    for (TestRegularIterableEntity entity : claimed) {
+      assertThat(persistence.get(TestRegularIterableEntity.class, entity.getUuid()).getNextIteration())
+          .isEqualTo(now + 10000);
+      // the id of the claim is cleared once the claimed entities are known
+      assertThat(persistence.getCollection(TestRegularIterableEntity.class)
+                     .findOne(new BasicDBObject(ID_KEY, entity.getUuid()))
+                     .containsField(claimIdField))
+          .isFalse();
+    }
+
+    assertThat(persistenceProvider.obtainNextInstances(now, now, TestRegularIterableEntity.class,
+                   RegularIterableEntityKeys.nextIteration, ofSeconds(10), filterExpander, 2))
+        .hasSize(1);
+    assertThat(persistenceProvider.obtainNextInstances(now, now, TestRegularIterableEntity.class,
+                   RegularIterableEntityKeys.nextIteration, ofSeconds(10), filterExpander, 2))
+        .isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPumpClaimsBatches() {
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        iterator(PUMP);
+    on(iterator).set("claimBatchSize", 10);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      long now = currentTimeMillis();
+      List<String> ids = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        ids.add(persistence.save(TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now).build()));
+      }
+
+      iterator.process();
+
+      List<TestRegularIterableEntity> entities =
+          persistence.createQuery(TestRegularIterableEntity.class).field(ID_KEY).in(ids).asList();
+      assertThat(entities).hasSize(5);
+      assertThat(entities).allMatch(entity -> entity.getNextIteration() > now);
+      // all of them were claimed with a single update
+      assertThat(entities.stream().map(TestRegularIterableEntity::getNextIteration).distinct()).hasSize(1);
+    }
+  }
 }
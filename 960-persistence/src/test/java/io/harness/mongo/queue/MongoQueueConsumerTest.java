@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.mongo.queue;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.persistence.HPersistence;
+import io.harness.queue.QueueConsumer.Filter;
+import io.harness.queue.TestTopicQueuableObject;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class MongoQueueConsumerTest extends PersistenceTestBase {
+  @Inject private HPersistence persistence;
+
+  private MongoQueuePublisher<TestTopicQueuableObject> producer;
+  private MongoQueueConsumer<TestTopicQueuableObject> consumer;
+
+  @Before
+  public void setup() {
+    producer = new MongoQueuePublisher<>(TestTopicQueuableObject.class.getSimpleName(), asList("topic"));
+    on(producer).set("persistence", persistence);
+    consumer = new MongoQueueConsumer<>(TestTopicQueuableObject.class, ofSeconds(5), asList(asList("topic")));
+    on(consumer).set("persistence", persistence);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldClaimBatchInOrder() {
+    for (int i = 0; i < 5; i++) {
+      producer.send(new TestTopicQueuableObject(i));
+    }
+
+    List<TestTopicQueuableObject> messages = consumer.getBatch(3);
+    assertThat(messages).extracting(TestTopicQueuableObject::getData).containsExactly(0, 1, 2);
+    assertThat(consumer.count(Filter.RUNNING)).isEqualTo(3);
+
+    messages = consumer.getBatch(3);
+    assertThat(messages).extracting(TestTopicQueuableObject::getData).containsExactly(3, 4);
+    assertThat(consumer.getBatch(3)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldTellBatchClaimsApartByClaimId() {
+    for (int i = 0; i < 4; i++) {
+      producer.send(new TestTopicQueuableObject(i));
+    }
+
+    List<TestTopicQueuableObject> first = consumer.getBatch(2);
+    List<TestTopicQueuableObject> second = consumer.getBatch(2);
+    String firstClaimId = persistence.get(TestTopicQueuableObject.class, first.get(0).getId()).getClaimId();
+    String secondClaimId = persistence.get(TestTopicQueuableObject.class, second.get(0).getId()).getClaimId();
+
+    assertThat(firstClaimId).isNotNull().isNotEqualTo(secondClaimId);
+    assertThat(persistence.get(TestTopicQueuableObject.class, first.get(1).getId()).getClaimId())
+        .isEqualTo(firstClaimId);
+    assertThat(persistence.get(TestTopicQueuableObject.class, second.get(1).getId()).getClaimId())
+        .isEqualTo(secondClaimId);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotClaimBatchMessagesBeforeEarliestGet() {
+    TestTopicQueuableObject delayed = new TestTopicQueuableObject(1);
+    delayed.setEarliestGet(new Date(System.currentTimeMillis() + ofSeconds(60).toMillis()));
+    producer.send(delayed);
+    producer.send(new TestTopicQueuableObject(2));
+
+    assertThat(consumer.getBatch(10)).extracting(TestTopicQueuableObject::getData).containsExactly(2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotPollWhileChangeStreamIsAlive() {
+    consumer.setChangeStreamAlive(true);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    // Not announced by the change stream, so it is not looked for until the fallback poll
+    producer.send(new TestTopicQueuableObject(1));
+    assertThat(consumer.get(ofMillis(200), ofMillis(10))).isNull();
+
+    consumer.onChange(new Date());
+    assertThat(consumer.get(ZERO, ZERO)).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWakeUpOnChange() throws Exception {
+    consumer.setChangeStreamAlive(true);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    CompletableFuture<TestTopicQueuableObject> message =
+        CompletableFuture.supplyAsync(() -> consumer.get(ofSeconds(10), ofSeconds(10)));
+    producer.send(new TestTopicQueuableObject(1));
+    consumer.onChange(new Date());
+
+    assertThat(message.get(5, TimeUnit.SECONDS)).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWakeUpWhenDelayedMessageIsDue() throws Exception {
+    consumer.setChangeStreamAlive(true);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+
+    TestTopicQueuableObject delayed = new TestTopicQueuableObject(1);
+    delayed.setEarliestGet(new Date(System.currentTimeMillis() + 500));
+    producer.send(delayed);
+    consumer.onChange(delayed.getEarliestGet());
+
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+    assertThat(consumer.get(ofSeconds(5), ofSeconds(5))).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPollWhenChangeStreamIsDown() {
+    consumer.setChangeStreamAlive(true);
+    assertThat(consumer.get(ZERO, ZERO)).isNull();
+    consumer.setChangeStreamAlive(false);
+
+    producer.send(new TestTopicQueuableObject(1));
+    assertThat(consumer.get(ZERO, ZERO)).isNotNull();
+  }
+}
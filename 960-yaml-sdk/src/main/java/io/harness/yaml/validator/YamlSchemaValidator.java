@@ -22,6 +22,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.networknt.schema.JsonSchema;
@@ -30,6 +35,7 @@ import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 import com.networknt.schema.ValidatorTypeCode;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +44,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,10 +56,13 @@ public class YamlSchemaValidator {
   public static Map<EntityType, JsonSchema> schemas = new HashMap<>();
   public static final String ENUM_SCHEMA_ERROR_CODE = ValidatorTypeCode.ENUM.getErrorCode();
   public static final String REQUIRED_SCHEMA_ERROR_CODE = ValidatorTypeCode.REQUIRED.getErrorCode();
+  private static final int COMPILED_SCHEMA_CACHE_SIZE = 20;
   ObjectMapper mapper;
   List<YamlSchemaRootClass> yamlSchemaRootClasses;
   EnumCodeSchemaHandler enumCodeSchemaHandler;
   RequiredCodeSchemaHandler requiredCodeSchemaHandler;
+  private final Cache<String, JsonSchema> compiledSchemas =
+      CacheBuilder.newBuilder().maximumSize(COMPILED_SCHEMA_CACHE_SIZE).expireAfterAccess(1, TimeUnit.HOURS).build();
 
   @Inject
   public YamlSchemaValidator(List<YamlSchemaRootClass> yamlSchemaRootClasses,
@@ -84,11 +95,17 @@ public class YamlSchemaValidator {
 
   public Set<String> validate(String yaml, String stringSchema, boolean shouldValidateParallelStageCount,
       int allowedParallelStages, String pathToJsonNode) throws IOException {
-    JsonNode jsonNode = mapper.readTree(yaml);
+    return validate(
+        mapper.readTree(yaml), stringSchema, shouldValidateParallelStageCount, allowedParallelStages, pathToJsonNode);
+  }
+
+  /**
+   * Same as {@link #validate(String, String, boolean, int, String)} for a yaml the caller has already parsed.
+   */
+  public Set<String> validate(JsonNode jsonNode, String stringSchema, boolean shouldValidateParallelStageCount,
+      int allowedParallelStages, String pathToJsonNode) {
     validateParallelStagesCount(jsonNode, shouldValidateParallelStageCount, allowedParallelStages, pathToJsonNode);
-    JsonSchemaFactory factory =
-        JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
-    JsonSchema schema = factory.getSchema(stringSchema);
+    JsonSchema schema = getCompiledSchema(stringSchema);
     Set<ValidationMessage> validateMsg = schema.validate(jsonNode);
     if (!validateMsg.isEmpty()) {
       log.error(validateMsg.stream().map(ValidationMessage::getMessage).collect(Collectors.joining("\n")));
@@ -113,6 +130,34 @@ public class YamlSchemaValidator {
     return Collections.emptySet();
   }
 
+  /**
+   * The merged schemas are several megabytes and compiling them takes far longer than validating a yaml, so the
+   * compiled schemas are kept by the hash of their content. A changed schema hashes to a new entry.
+   */
+  @VisibleForTesting
+  JsonSchema getCompiledSchema(String stringSchema) {
+    String schemaHash = Hashing.sha256().hashString(stringSchema, StandardCharsets.UTF_8).toString();
+    try {
+      return compiledSchemas.get(schemaHash, () -> {
+        JsonSchemaFactory factory =
+            JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
+        return factory.getSchema(stringSchema);
+      });
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new InvalidRequestException("Couldn't compile schema", e.getCause());
+    }
+  }
+
+  /**
+   * Drops the compiled schemas, to be called when the schemas are registered again.
+   */
+  public void invalidateSchemaCache() {
+    compiledSchemas.invalidateAll();
+  }
+
   private String removeFqnFromErrorMessage(String message) {
     String pathInMessage = message.split(":")[0];
     String[] pathComponents = pathInMessage.split("\\.");
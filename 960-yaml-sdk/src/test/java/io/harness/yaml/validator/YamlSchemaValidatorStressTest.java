@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.yaml.validator;
+
+import static io.harness.rule.OwnerRule.MARKO;
+import static io.harness.yaml.schema.beans.SchemaConstants.PIPELINE_NODE;
+import static io.harness.yaml.schema.beans.SchemaConstants.STAGES_NODE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Latency and allocation of the validation of a 300 step pipeline against a merged pipeline schema of many step
+ * types, compiling the schema on every call against reusing the compiled schema and the parsed yaml.
+ */
+@Slf4j
+public class YamlSchemaValidatorStressTest extends CategoryTest {
+  private static final int WARMUP = 20;
+  private static final int ITERATIONS = 100;
+  private static final int STEP_TYPES = 200;
+  private static final int STEP_SPEC_FIELDS = 20;
+  private static final int STAGES = 10;
+  private static final int STEPS_PER_STAGE = 30;
+  private static final String PATH_TO_STAGES = PIPELINE_NODE + "/" + STAGES_NODE;
+
+  private final ObjectMapper jsonMapper = new ObjectMapper();
+  private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+  private final YamlSchemaValidator yamlSchemaValidator = new YamlSchemaValidator(
+      Collections.emptyList(), mock(EnumCodeSchemaHandler.class), mock(RequiredCodeSchemaHandler.class));
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareCompiledSchemaCache() throws IOException {
+    String schema = jsonMapper.writeValueAsString(schema());
+    String yaml = yamlMapper.writeValueAsString(pipeline());
+    JsonNode jsonNode = yamlMapper.readTree(yaml);
+    log.info("Schema of {} bytes, pipeline yaml of {} bytes", schema.length(), yaml.length());
+
+    run("compile per call", () -> {
+      JsonSchemaFactory factory =
+          JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7)).build();
+      assertThat(factory.getSchema(schema).validate(yamlMapper.readTree(yaml))).isEmpty();
+    });
+    run("cached schema", () -> yamlSchemaValidator.validate(yaml, schema, true, 2, PATH_TO_STAGES));
+    run("cached schema and parsed yaml", () -> yamlSchemaValidator.validate(jsonNode, schema, true, 2, PATH_TO_STAGES));
+  }
+
+  private void run(String name, Validation validation) throws IOException {
+    for (int i = 0; i < WARMUP; i++) {
+      validation.run();
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      validation.run();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} us per validation, {} bytes allocated per validation", name, elapsedNanos / 1000 / ITERATIONS,
+        allocated / ITERATIONS);
+  }
+
+  private ObjectNode schema() {
+    ObjectNode definitions = jsonMapper.createObjectNode();
+    ObjectNode pipeline = definitions.putObject("PipelineInfoConfig").put("type", "object");
+    pipeline.putArray("required").add("identifier").add("name").add("stages");
+    ObjectNode pipelineProperties = pipeline.putObject("properties");
+    pipelineProperties.set("identifier", identifierSchema());
+    pipelineProperties.putObject("name").put("type", "string");
+    pipelineProperties.putObject("stages")
+        .put("type", "array")
+        .put("minItems", 1)
+        .putObject("items")
+        .put("$ref", "#/definitions/StageElementWrapperConfig");
+
+    ObjectNode stage = definitions.putObject("StageElementWrapperConfig")
+                           .put("type", "object")
+                           .putObject("properties")
+                           .putObject("stage")
+                           .put("type", "object");
+    stage.putArray("required").add("identifier").add("type").add("spec");
+    ObjectNode stageProperties = stage.putObject("properties");
+    stageProperties.set("identifier", identifierSchema());
+    stageProperties.putObject("type").put("type", "string");
+    stageProperties.putObject("spec")
+        .put("type", "object")
+        .putObject("properties")
+        .putObject("execution")
+        .put("type", "object")
+        .putObject("properties")
+        .putObject("steps")
+        .put("type", "array")
+        .putObject("items")
+        .put("$ref", "#/definitions/ExecutionWrapperConfig");
+
+    ArrayNode stepTypes = definitions.putObject("ExecutionWrapperConfig")
+                              .put("type", "object")
+                              .putObject("properties")
+                              .putObject("step")
+                              .putArray("oneOf");
+    for (int i = 0; i < STEP_TYPES; i++) {
+      String stepType = "Step" + i;
+      stepTypes.addObject().put("$ref", "#/definitions/" + stepType);
+      ObjectNode step = definitions.putObject(stepType).put("type", "object");
+      step.putArray("required").add("identifier").add("type");
+      ObjectNode stepProperties = step.putObject("properties");
+      stepProperties.set("identifier", identifierSchema());
+      stepProperties.putObject("name").put("type", "string");
+      stepProperties.putObject("type").put("type", "string").putArray("enum").add(stepType);
+      stepProperties.putObject("timeout").put("type", "string").put("pattern", "^(([1-9])+\\d*[smhwd])+$");
+      ObjectNode specProperties = stepProperties.putObject("spec").put("type", "object").putObject("properties");
+      for (int j = 0; j < STEP_SPEC_FIELDS; j++) {
+        specProperties.putObject("field" + j).put("type", "string");
+      }
+    }
+
+    ObjectNode schema = jsonMapper.createObjectNode().put("$schema", "http://json-schema.org/draft-07/schema#");
+    schema.put("type", "object").putObject("properties").putObject("pipeline").put(
+        "$ref", "#/definitions/PipelineInfoConfig");
+    schema.set("definitions", definitions);
+    return schema;
+  }
+
+  private ObjectNode identifierSchema() {
+    return jsonMapper.createObjectNode().put("type", "string").put("pattern", "^[a-zA-Z_][0-9a-zA-Z_$]{0,63}$");
+  }
+
+  private ObjectNode pipeline() {
+    ObjectNode root = jsonMapper.createObjectNode();
+    ObjectNode pipeline = root.putObject("pipeline").put("identifier", "pipeline").put("name", "pipeline");
+    ArrayNode stages = pipeline.putArray("stages");
+    for (int i = 0; i < STAGES; i++) {
+      ObjectNode stage =
+          stages.addObject().putObject("stage").put("identifier", "stage" + i).put("type", "Custom");
+      ArrayNode steps = stage.putObject("spec").putObject("execution").putArray("steps");
+      for (int j = 0; j < STEPS_PER_STAGE; j++) {
+        ObjectNode step = steps.addObject()
+                              .putObject("step")
+                              .put("identifier", "step" + j)
+                              .put("name", "step" + j)
+                              .put("type", "Step" + (i * STEPS_PER_STAGE + j) % STEP_TYPES)
+                              .put("timeout", "10m");
+        ObjectNode spec = step.putObject("spec");
+        for (int k = 0; k < STEP_SPEC_FIELDS / 2; k++) {
+          spec.put("field" + k, "value" + k);
+        }
+      }
+    }
+    return root;
+  }
+
+  private interface Validation {
+    void run() throws IOException;
+  }
+}
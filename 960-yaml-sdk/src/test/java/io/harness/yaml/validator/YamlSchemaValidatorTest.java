@@ -9,6 +9,7 @@ package io.harness.yaml.validator;
 
 import static io.harness.rule.OwnerRule.ABHINAV;
 import static io.harness.rule.OwnerRule.BRIJESH;
+import static io.harness.rule.OwnerRule.MARKO;
 import static io.harness.yaml.schema.beans.SchemaConstants.PIPELINE_NODE;
 import static io.harness.yaml.schema.beans.SchemaConstants.STAGES_NODE;
 
@@ -31,6 +32,7 @@ import io.harness.yaml.schema.beans.YamlSchemaRootClass;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import com.networknt.schema.ValidatorTypeCode;
 import java.io.IOException;
@@ -98,6 +100,33 @@ public class YamlSchemaValidatorTest extends CategoryTest {
         .hasMessage("$.pipeline.stages: there must be a minimum of 1 items in the array");
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testValidateReusesCompiledSchema() throws IOException {
+    final String emptyStagePipeline = getYamlResource("validator/zero-stages-pipeline.yaml");
+    final String pipelineSchema = getYamlResource("testSchema/pipelineSchema.json");
+
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(
+                               emptyStagePipeline, pipelineSchema, true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class);
+    JsonNode jsonNode = new ObjectMapper(new YAMLFactory()).readTree(emptyStagePipeline);
+    assertThatThrownBy(()
+                           -> yamlSchemaValidator.validate(jsonNode, new StringBuilder(pipelineSchema).toString(),
+                               true, 2, PIPELINE_NODE + "/" + STAGES_NODE))
+        .isInstanceOf(InvalidYamlException.class)
+        .hasMessage("$.pipeline.stages: there must be a minimum of 1 items in the array");
+
+    JsonSchema compiledSchema = yamlSchemaValidator.getCompiledSchema(pipelineSchema);
+    assertThat(yamlSchemaValidator.getCompiledSchema(new StringBuilder(pipelineSchema).toString()))
+        .isSameAs(compiledSchema);
+    assertThat(yamlSchemaValidator.getCompiledSchema(getYamlResource("validator/schema.json")))
+        .isNotSameAs(compiledSchema);
+    yamlSchemaValidator.invalidateSchemaCache();
+    assertThat(yamlSchemaValidator.getCompiledSchema(pipelineSchema)).isNotSameAs(compiledSchema);
+  }
+
   private String getYamlResource(String resource) throws IOException {
     return IOUtils.resourceToString(resource, StandardCharsets.UTF_8, YamlSchemaValidatorTest.class.getClassLoader());
   }
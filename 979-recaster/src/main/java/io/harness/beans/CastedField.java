@@ -14,6 +14,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -29,6 +32,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,6 +54,9 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Accessors of the field resolved once, reflective access is kept as a fallback when they can not be created
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
@@ -58,6 +65,7 @@ public class CastedField {
     realType = field.getType();
     genericType = field.getGenericType();
     discover(recaster);
+    discoverAccessors();
   }
 
   CastedField(final Field field, final Type type, final Recaster recaster) {
@@ -235,6 +243,20 @@ public class CastedField {
     throw new RuntimeException("Generic TypeVariable not supported!");
   }
 
+  private void discoverAccessors() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      log.debug("Using reflection to read the field {}", getFullName(), e);
+    }
+    try {
+      setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException | RuntimeException e) {
+      log.debug("Using reflection to write the field {}", getFullName(), e);
+    }
+  }
+
   private Constructor<?> discoverConstructor() {
     Class<?> type = null;
     // get the first annotation with a concreteClass that isn't Object.class
@@ -345,18 +367,40 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (getter == null) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
     try {
-      return field.get(instance);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      return (Object) getter.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
     }
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter == null) {
+      try {
+        field.set(instance, value);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+      return;
+    }
     try {
-      field.set(instance, value);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      setter.invokeExact(instance, value);
+    } catch (ClassCastException | NullPointerException e) {
+      // Same contract as Field.set, a value of the wrong type or a null primitive
+      throw new IllegalArgumentException(format("Can not set %s to %s", getFullName(), value), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
     }
   }
 
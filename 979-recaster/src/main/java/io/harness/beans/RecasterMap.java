@@ -28,6 +28,17 @@ public class RecasterMap extends LinkedHashMap<String, Object> implements Map<St
     super(m);
   }
 
+  /**
+   * @return a map sized to hold the given number of entries without being resized
+   */
+  public static RecasterMap withExpectedSize(int expectedSize) {
+    return new RecasterMap((int) (expectedSize / 0.75f) + 1);
+  }
+
+  private RecasterMap(int initialCapacity) {
+    super(initialCapacity);
+  }
+
   public static RecasterMap cast(Map<String, Object> map) {
     return new RecasterMap(map);
   }
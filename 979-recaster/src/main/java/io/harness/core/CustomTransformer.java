@@ -11,17 +11,41 @@ import io.harness.beans.CastedField;
 import io.harness.transformers.DefaultRecastTransformer;
 import io.harness.transformers.RecastTransformer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class CustomTransformer extends Transformer {
   private final RecastTransformer passThroughTransformer = new DefaultRecastTransformer();
   private final DefaultTransformer defaultTransformer;
+  // The transformer of a class only depends on the class, resolving it walks the type hierarchy of the class for
+  // every untyped transformer, and it is asked for several times per field
+  private final Map<Class<?>, RecastTransformer> resolvedTransformers = new ConcurrentHashMap<>();
 
   public CustomTransformer(Recaster recaster) {
     super(recaster);
     this.defaultTransformer = new DefaultTransformer(recaster);
   }
 
+  @Override
+  protected void addTransformer(RecastTransformer recastTransformer) {
+    super.addTransformer(recastTransformer);
+    resolvedTransformers.clear();
+  }
+
   @Override
   protected RecastTransformer getTransformer(final Class c) {
+    if (c == null) {
+      return resolveTransformer(null);
+    }
+    RecastTransformer encoder = resolvedTransformers.get(c);
+    if (encoder == null) {
+      encoder = resolveTransformer(c);
+      resolvedTransformers.put(c, encoder);
+    }
+    return encoder;
+  }
+
+  private RecastTransformer resolveTransformer(final Class<?> c) {
     RecastTransformer encoder = super.getTransformer(c);
     if (encoder == null) {
       encoder = defaultTransformer.getTransformer(c);
@@ -191,8 +191,9 @@ public class Recaster {
       return null;
     }
 
-    final RecasterMap recasterMap = new RecasterMap();
     final CastedClass cc = getCastedClass(entity);
+    // The identifier and a value per field
+    final RecasterMap recasterMap = RecasterMap.withExpectedSize(cc.getPersistenceFields().size() + 1);
 
     recasterMap.setIdentifier(entity.getClass());
 
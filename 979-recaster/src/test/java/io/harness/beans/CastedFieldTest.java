@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.core.Recaster;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class CastedFieldTest extends RecasterTestBase {
+  private final Recaster recaster = new Recaster();
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReadAndWriteFinalField() throws Exception {
+    CastedField castedField = new CastedField(Dummy.class.getDeclaredField("name"), Dummy.class, recaster);
+    Dummy dummy = new Dummy("name", 1);
+
+    assertThat(castedField.getFieldValue(dummy)).isEqualTo("name");
+    castedField.setFieldValue(dummy, "other");
+    assertThat(castedField.getFieldValue(dummy)).isEqualTo("other");
+    assertThat(dummy.name).isEqualTo("other");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldWritePrimitiveFieldLikeReflection() throws Exception {
+    CastedField castedField = new CastedField(Dummy.class.getDeclaredField("count"), Dummy.class, recaster);
+    Dummy dummy = new Dummy("name", 1);
+
+    assertThat(castedField.getFieldValue(dummy)).isEqualTo(1L);
+    castedField.setFieldValue(dummy, 2);
+    assertThat(dummy.count).isEqualTo(2L);
+
+    assertThatThrownBy(() -> castedField.setFieldValue(dummy, null)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> castedField.setFieldValue(dummy, "3")).isInstanceOf(IllegalArgumentException.class);
+    assertThat(dummy.count).isEqualTo(2L);
+  }
+
+  private static class Dummy {
+    private final String name;
+    private long count;
+
+    Dummy(String name, long count) {
+      this.name = name;
+      this.count = count;
+    }
+  }
+}
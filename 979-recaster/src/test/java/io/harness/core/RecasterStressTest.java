@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Throughput and allocation of the recaster round trips of classes shaped like the step parameters and the outcomes
+ * the orchestration engine recasts on the node transitions.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class RecasterStressTest extends CategoryTest {
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 200_000;
+
+  private final Recast recast = new Recast(new Recaster(), ImmutableSet.of());
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void measureRoundTrips() {
+    for (Object payload : payloads()) {
+      String name = payload.getClass().getSimpleName();
+      Map<String, Object> document = recast.toMap(payload);
+      run(name + " toMap", payload, recast::toMap);
+      run(name + " fromMap", document, map -> recast.fromMap(map, payload.getClass()));
+    }
+  }
+
+  private <T> void run(String name, T input, Function<T, Object> operation) {
+    for (int i = 0; i < WARMUP; i++) {
+      operation.apply(input);
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      operation.apply(input);
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} ops/sec, {} bytes allocated per op", name, ITERATIONS * 1_000_000_000L / elapsedNanos,
+        allocated / ITERATIONS);
+  }
+
+  private static List<Object> payloads() {
+    List<Object> payloads = new ArrayList<>();
+    payloads.add(ShellScriptStepParameters.builder()
+                     .identifier("shellScript")
+                     .name("Shell Script")
+                     .timeout("10m")
+                     .shell(ShellType.BASH)
+                     .script("echo <+pipeline.name>\necho <+stage.name>")
+                     .environmentVariables(ImmutableMap.of("HOST", "localhost", "PORT", "8080"))
+                     .outputVariables(Arrays.asList("status", "version"))
+                     .onDelegate(true)
+                     .delegateSelectors(Arrays.asList("primary", "secondary"))
+                     .build());
+    List<ServiceOutcome.Artifact> artifacts = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      artifacts.add(new ServiceOutcome.Artifact("artifact" + i, "harness/image" + i, "1.0." + i, i * 1024L));
+    }
+    payloads.add(ServiceOutcome.builder()
+                     .identifier("service")
+                     .name("Service")
+                     .type("Kubernetes")
+                     .tags(ImmutableMap.of("team", "cdp", "tier", "backend"))
+                     .artifacts(artifacts)
+                     .build());
+    return payloads;
+  }
+
+  private enum ShellType { BASH, POWERSHELL }
+
+  @Value
+  @Builder
+  private static class ShellScriptStepParameters {
+    String identifier;
+    String name;
+    String timeout;
+    ShellType shell;
+    String script;
+    Map<String, String> environmentVariables;
+    List<String> outputVariables;
+    boolean onDelegate;
+    List<String> delegateSelectors;
+  }
+
+  @Value
+  @Builder
+  private static class ServiceOutcome {
+    String identifier;
+    String name;
+    String type;
+    Map<String, String> tags;
+    List<Artifact> artifacts;
+
+    @Value
+    @AllArgsConstructor
+    private static class Artifact {
+      String identifier;
+      String image;
+      String tag;
+      long size;
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.harness.config;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
@@ -17,10 +18,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PublisherConfiguration implements ActiveConfigValidator {
   @JsonProperty("active") Map<String, Boolean> active;
+  // Class names of the queued messages whose consumers wait on a change stream instead of polling
+  @JsonProperty("changeStreamConsumers") Set<String> changeStreamConsumers;
+
   public boolean isPublisherActive(Class cls) {
     return isActive(cls, active);
   }
 
+  public boolean isChangeStreamConsumer(Class cls) {
+    return changeStreamConsumers != null && changeStreamConsumers.contains(cls.getName());
+  }
+
   public static PublisherConfiguration allOn() {
     return new PublisherConfiguration();
   }
@@ -16,6 +16,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WorkersConfiguration implements ActiveConfigValidator {
   @JsonProperty("active") Map<String, Boolean> active;
+  // Run the queue listeners on virtual threads, when the runtime has them
+  @JsonProperty("queueListenerVirtualThreads") boolean queueListenerVirtualThreads;
+
   public boolean confirmWorkerIsActive(Class cls) {
     return isActive(cls, active);
   }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.data.algorithm;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replaces every occurrence of any of a fixed set of patterns with a mask in a single pass over the text.
+ *
+ * The patterns are compiled once into an Aho-Corasick automaton, so the cost of masking a message depends on the
+ * message length only and not on the number of patterns. When patterns overlap the leftmost match wins and among
+ * matches starting at the same position the longest one wins, so no part of a longer pattern is ever left unmasked.
+ * Instances are immutable and safe to share between threads.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public class AhoCorasickMasker {
+  private static final int ROOT = 0;
+  private static final char[] NO_CHARS = new char[0];
+  private static final int[] NO_STATES = new int[0];
+
+  private final String mask;
+  // For every state the sorted characters of the outgoing trie edges and the states they lead to
+  private final char[][] edgeChars;
+  private final int[][] edgeTargets;
+  private final int[] failure;
+  private final int[] depth;
+  // Length of the longest pattern that is a suffix of the text spelled by the state, 0 if none
+  private final int[] longestMatch;
+
+  public static AhoCorasickMasker compile(Collection<String> patterns, String mask) {
+    return new AhoCorasickMasker(patterns, mask);
+  }
+
+  private AhoCorasickMasker(Collection<String> patterns, String mask) {
+    this.mask = mask;
+
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> depths = new ArrayList<>();
+    List<Integer> terminals = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    depths.add(0);
+    terminals.add(0);
+
+    if (patterns != null) {
+      for (String pattern : patterns) {
+        if (!isNotEmpty(pattern)) {
+          continue;
+        }
+        int state = ROOT;
+        for (int i = 0; i < pattern.length(); i++) {
+          Integer next = trie.get(state).get(pattern.charAt(i));
+          if (next == null) {
+            next = trie.size();
+            trie.add(new TreeMap<>());
+            depths.add(i + 1);
+            terminals.add(0);
+            trie.get(state).put(pattern.charAt(i), next);
+          }
+          state = next;
+        }
+        terminals.set(state, pattern.length());
+      }
+    }
+
+    int size = trie.size();
+    edgeChars = new char[size][];
+    edgeTargets = new int[size][];
+    failure = new int[size];
+    depth = new int[size];
+    longestMatch = new int[size];
+
+    for (int state = 0; state < size; state++) {
+      TreeMap<Character, Integer> edges = trie.get(state);
+      if (edges.isEmpty()) {
+        edgeChars[state] = NO_CHARS;
+        edgeTargets[state] = NO_STATES;
+      } else {
+        edgeChars[state] = new char[edges.size()];
+        edgeTargets[state] = new int[edges.size()];
+        int index = 0;
+        for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+          edgeChars[state][index] = edge.getKey();
+          edgeTargets[state][index] = edge.getValue();
+          index++;
+        }
+      }
+      depth[state] = depths.get(state);
+    }
+
+    // Breadth first traversal guarantees the failure state is always resolved before it is needed
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int child : edgeTargets[ROOT]) {
+      failure[child] = ROOT;
+      longestMatch[child] = terminals.get(child);
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < edgeChars[state].length; i++) {
+        char c = edgeChars[state][i];
+        int child = edgeTargets[state][i];
+        failure[child] = transition(failure[state], c);
+        longestMatch[child] = terminals.get(child) > 0 ? terminals.get(child) : longestMatch[failure[child]];
+        queue.add(child);
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return edgeChars[ROOT].length == 0;
+  }
+
+  /**
+   * Replace all pattern occurrences in {@code text} with the mask.
+   * @param text The text that may contain patterns
+   * @return the very same instance when nothing matched, otherwise the masked copy of the text
+   */
+  public String mask(String text) {
+    if (text == null || isEmpty()) {
+      return text;
+    }
+
+    StringBuilder builder = null;
+    // Position up to which the text is already copied to the builder
+    int copied = 0;
+    int pendingStart = -1;
+    int pendingEnd = -1;
+    int state = ROOT;
+
+    int length = text.length();
+    for (int position = 0; position < length; position++) {
+      state = transition(state, text.charAt(position));
+
+      int matchLength = longestMatch[state];
+      if (matchLength > 0) {
+        int start = position - matchLength + 1;
+        if (pendingStart == -1 || start <= pendingStart) {
+          pendingStart = start;
+          pendingEnd = position + 1;
+        }
+      }
+
+      // No later match can start at or before the pending one, so it is final
+      if (pendingStart != -1 && (position + 1 - depth[state] > pendingStart || position == length - 1)) {
+        if (builder == null) {
+          builder = new StringBuilder(length);
+        }
+        builder.append(text, copied, pendingStart).append(mask);
+        copied = pendingEnd;
+
+        position = pendingEnd - 1;
+        pendingStart = -1;
+        pendingEnd = -1;
+        state = ROOT;
+      }
+    }
+
+    if (builder == null) {
+      return text;
+    }
+    return builder.append(text, copied, length).toString();
+  }
+
+  private int transition(int state, char c) {
+    int current = state;
+    while (true) {
+      int index = Arrays.binarySearch(edgeChars[current], c);
+      if (index >= 0) {
+        return edgeTargets[current][index];
+      }
+      if (current == ROOT) {
+        return ROOT;
+      }
+      current = failure[current];
+    }
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * JVM wide cache of everything {@link EngineExpressionEvaluator} derives from the expression text alone: the parsed
+ * jexl expressions and scripts and the lists of expressions and variables found in a string. Pipeline executions
+ * render the same strings over and over, so they are parsed and tokenized only once.
+ *
+ * All the evaluators share a single jexl engine, parsed expressions and scripts are immutable and thread safe and do
+ * not depend on the evaluation context. The caches are bounded by an estimate of the memory held by their entries.
+ * Strings which are unlikely to be seen again, the ones holding generated internal variables and long ones like whole
+ * rendered yaml documents, are not cached.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public final class EngineExpressionCache {
+  static final String EXPRESSIONS = "expressions";
+  static final String SCRIPTS = "scripts";
+  static final String FOUND_EXPRESSIONS = "found_expressions";
+  static final String FOUND_VARIABLES = "found_variables";
+
+  // Estimated bytes held by the entries of each cache
+  private static final long MAX_WEIGHT = 32L * 1024 * 1024;
+  // Strings longer than that are parsed and tokenized without being cached
+  static final int MAX_CACHED_LENGTH = 2048;
+  // Jexl creates about one node per token, each node holding its image, its children and a few references
+  private static final int PARSED_BYTES_PER_CHAR = 32;
+  private static final int STRING_OVERHEAD_BYTES = 40;
+  private static final int REFERENCE_BYTES = 8;
+
+  private static final JexlEngine ENGINE = new JexlBuilder().logger(new NoOpLog()).create();
+
+  private static final Cache<String, JexlExpression> expressionCache =
+      newCache((String key, JexlExpression value) -> parsedWeight(key));
+  private static final Cache<String, JexlScript> scriptCache =
+      newCache((String key, JexlScript value) -> parsedWeight(key));
+  private static final Cache<String, List<String>> foundExpressionsCache = newCache(EngineExpressionCache::foundWeight);
+  private static final Cache<String, List<String>> foundVariablesCache = newCache(EngineExpressionCache::foundWeight);
+
+  private static final AtomicBoolean metricsRegistered = new AtomicBoolean();
+
+  private EngineExpressionCache() {}
+
+  /**
+   * Exports the hits, misses, evictions and sizes of the caches. Meant to be called once by the services evaluating
+   * expressions, when they set up their metrics.
+   */
+  public static void registerMetrics(CollectorRegistry collectorRegistry) {
+    if (metricsRegistered.compareAndSet(false, true)) {
+      new CacheMetricsCollector().register(collectorRegistry);
+    }
+  }
+
+  public static JexlExpression createExpression(String expression) {
+    if (!isCacheable(expression)) {
+      return ENGINE.createExpression(expression);
+    }
+    return expressionCache.get(expression, ENGINE::createExpression);
+  }
+
+  public static JexlScript createScript(String expression) {
+    if (!isCacheable(expression)) {
+      return ENGINE.createScript(expression);
+    }
+    return scriptCache.get(expression, ENGINE::createScript);
+  }
+
+  public static List<String> findExpressions(String str, Function<String, List<String>> finder) {
+    return find(foundExpressionsCache, str, finder);
+  }
+
+  public static List<String> findVariables(String str, Function<String, List<String>> finder) {
+    return find(foundVariablesCache, str, finder);
+  }
+
+  public static Map<String, CacheStats> stats() {
+    return ImmutableMap.of(EXPRESSIONS, expressionCache.stats(), SCRIPTS, scriptCache.stats(), FOUND_EXPRESSIONS,
+        foundExpressionsCache.stats(), FOUND_VARIABLES, foundVariablesCache.stats());
+  }
+
+  @VisibleForTesting
+  static void invalidateAll() {
+    expressionCache.invalidateAll();
+    scriptCache.invalidateAll();
+    foundExpressionsCache.invalidateAll();
+    foundVariablesCache.invalidateAll();
+  }
+
+  private static List<String> find(
+      Cache<String, List<String>> cache, String str, Function<String, List<String>> finder) {
+    if (EmptyPredicate.isEmpty(str) || !isCacheable(str)) {
+      return finder.apply(str);
+    }
+    // Callers are free to modify the returned list
+    return new ArrayList<>(cache.get(str, key -> Collections.unmodifiableList(new ArrayList<>(finder.apply(key)))));
+  }
+
+  @VisibleForTesting
+  static boolean isCacheable(String str) {
+    return str.length() <= MAX_CACHED_LENGTH
+        && !str.contains(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX);
+  }
+
+  private static int parsedWeight(String key) {
+    return stringWeight(key) + PARSED_BYTES_PER_CHAR * key.length();
+  }
+
+  private static int foundWeight(String key, List<String> found) {
+    int weight = stringWeight(key);
+    for (String str : found) {
+      weight += REFERENCE_BYTES + stringWeight(str);
+    }
+    return weight;
+  }
+
+  private static int stringWeight(String str) {
+    return STRING_OVERHEAD_BYTES + 2 * str.length();
+  }
+
+  private static <V> Cache<String, V> newCache(Weigher<String, V> weigher) {
+    return Caffeine.newBuilder().maximumWeight(MAX_WEIGHT).weigher(weigher).recordStats().build();
+  }
+
+  private static class CacheMetricsCollector extends Collector {
+    @Override
+    public List<MetricFamilySamples> collect() {
+      List<String> labels = ImmutableList.of("cache");
+      CounterMetricFamily hits = new CounterMetricFamily(
+          "io_harness_expression_cache_hits_total", "Expression cache hits", labels);
+      CounterMetricFamily misses = new CounterMetricFamily(
+          "io_harness_expression_cache_misses_total", "Expression cache misses", labels);
+      CounterMetricFamily evictions = new CounterMetricFamily(
+          "io_harness_expression_cache_evictions_total", "Expression cache evictions", labels);
+      GaugeMetricFamily size =
+          new GaugeMetricFamily("io_harness_expression_cache_size", "Expression cache entries", labels);
+
+      addSamples(EXPRESSIONS, expressionCache, hits, misses, evictions, size);
+      addSamples(SCRIPTS, scriptCache, hits, misses, evictions, size);
+      addSamples(FOUND_EXPRESSIONS, foundExpressionsCache, hits, misses, evictions, size);
+      addSamples(FOUND_VARIABLES, foundVariablesCache, hits, misses, evictions, size);
+      return ImmutableList.of(hits, misses, evictions, size);
+    }
+
+    private static void addSamples(String name, Cache<String, ?> cache, CounterMetricFamily hits,
+        CounterMetricFamily misses, CounterMetricFamily evictions, GaugeMetricFamily size) {
+      List<String> labelValues = ImmutableList.of(name);
+      CacheStats stats = cache.stats();
+      hits.addMetric(labelValues, stats.hitCount());
+      misses.addMetric(labelValues, stats.missCount());
+      evictions.addMetric(labelValues, stats.evictionCount());
+      size.addMetric(labelValues, cache.estimatedSize());
+    }
+  }
+}
@@ -40,12 +40,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -62,14 +59,12 @@ public class EngineExpressionEvaluator {
 
   private static final int MAX_DEPTH = 15;
 
-  private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -498,12 +493,12 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = EngineExpressionCache.createExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return EngineExpressionCache.createScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -548,11 +543,13 @@ public class EngineExpressionEvaluator {
   }
 
   public static List<String> findExpressions(String str) {
-    return TrackingExpressionResolver.findExpressions(EXPR_START, EXPR_END, true, false, str);
+    return EngineExpressionCache.findExpressions(
+        str, source -> TrackingExpressionResolver.findExpressions(EXPR_START, EXPR_END, true, false, source));
   }
 
   public static List<String> findVariables(String str) {
-    return TrackingExpressionResolver.findExpressions(EXPR_START, EXPR_END, true, true, str);
+    return EngineExpressionCache.findVariables(
+        str, source -> TrackingExpressionResolver.findExpressions(EXPR_START, EXPR_END, true, true, source));
   }
 
   public static boolean validVariableFieldName(String name) {
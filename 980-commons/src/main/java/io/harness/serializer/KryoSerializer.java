@@ -20,13 +20,16 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,7 +54,12 @@ public class KryoSerializer {
     }
   }
 
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+  private static final int MAX_POOLED_BUFFERS = 64;
+
   private final KryoPool pool;
+  private final BlockingQueue<Buffers> buffersPool = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
   @Inject
@@ -104,31 +112,68 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writeToStream(obj, outputStream);
-    return outputStream.toByteArray();
+    Buffers buffers = borrowBuffers();
+    try {
+      return serialize(obj, buffers).toBytes();
+    } finally {
+      returnBuffers(buffers);
+    }
   }
 
+  /**
+   * Deflates to the zlib format {@link java.util.zip.DeflaterOutputStream} used to write, so both old and new payloads
+   * are read by {@link #asInflatedObject(byte[])}.
+   */
   public byte[] asDeflatedBytes(Object obj) {
+    Buffers buffers = borrowBuffers();
     try {
-      final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-      final DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream);
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+      Output output = serialize(obj, buffers);
+      Deflater deflater = buffers.deflater;
+      deflater.reset();
+      deflater.setInput(output.getBuffer(), 0, output.position());
+      deflater.finish();
+      Output deflated = buffers.deflated;
+      deflated.clear();
+      while (!deflater.finished()) {
+        int count = deflater.deflate(buffers.chunk);
+        deflated.writeBytes(buffers.chunk, 0, count);
+      }
+      return deflated.toBytes();
+    } finally {
+      returnBuffers(buffers);
+    }
+  }
+
+  /**
+   * Serializes the object straight into the stream, without an intermediate byte array.
+   */
+  public void writeToStream(Object obj, OutputStream outputStream) {
+    Buffers buffers = borrowBuffers();
+    try {
+      Output output = buffers.output;
+      output.setOutputStream(outputStream);
+      pool.run(kryo -> {
+        kryo.writeClassAndObject(output, obj);
+        return null;
+      });
+      output.flush();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      buffers.output.setOutputStream(null);
+      returnBuffers(buffers);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
+  private Output serialize(Object obj, Buffers buffers) {
     try {
-      Output output = new Output(outputStream);
+      Output output = buffers.output;
+      output.clear();
       pool.run(kryo -> {
         kryo.writeClassAndObject(output, obj);
         return null;
       });
-      output.flush();
+      return output;
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
@@ -146,10 +191,17 @@ public class KryoSerializer {
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    Input input = new Input(new InflaterInputStream(new Input(bytes)));
-    Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
-    input.close();
-    return obj;
+    Buffers buffers = borrowBuffers();
+    try {
+      Inflater inflater = buffers.inflater;
+      inflater.reset();
+      Input input = buffers.input;
+      input.setInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes), inflater, buffers.chunk.length));
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    } finally {
+      buffers.input.setInputStream(null);
+      returnBuffers(buffers);
+    }
   }
 
   public Object asObject(String base64) {
@@ -159,4 +211,34 @@ public class KryoSerializer {
   public boolean isRegistered(Class cls) {
     return pool.run(kryo -> kryo.getClassResolver().getRegistration(cls) != null);
   }
+
+  private Buffers borrowBuffers() {
+    Buffers buffers = buffersPool.poll();
+    return buffers == null ? new Buffers() : buffers;
+  }
+
+  private void returnBuffers(Buffers buffers) {
+    // Do not hold on to the buffers a huge object made grow
+    if (buffers.output.getBuffer().length > MAX_POOLED_BUFFER_SIZE
+        || buffers.deflated.getBuffer().length > MAX_POOLED_BUFFER_SIZE || !buffersPool.offer(buffers)) {
+      buffers.end();
+    }
+  }
+
+  /**
+   * Growable serialization buffers and the native zlib state, reused across calls instead of allocated per call.
+   */
+  private static class Buffers {
+    private final Output output = new Output(BUFFER_SIZE, -1);
+    private final Output deflated = new Output(BUFFER_SIZE, -1);
+    private final Input input = new Input(BUFFER_SIZE);
+    private final byte[] chunk = new byte[BUFFER_SIZE];
+    private final Deflater deflater = new Deflater();
+    private final Inflater inflater = new Inflater();
+
+    private void end() {
+      deflater.end();
+      inflater.end();
+    }
+  }
 }
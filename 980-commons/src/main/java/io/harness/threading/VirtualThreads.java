@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executors running every task on a thread of its own, for the workers that spend most of their time blocked. On a
+ * runtime with virtual threads the tasks run on virtual threads, so the blocked workers do not hold platform threads.
+ * Otherwise they run on a cached pool, whose threads are created on demand and dropped when idle. Neither bounds the
+ * concurrency, the callers limit it themselves.
+ *
+ * The code is built for Java 11, so the virtual thread API is looked up reflectively.
+ */
+@OwnedBy(HarnessTeam.PL)
+@UtilityClass
+@Slf4j
+public class VirtualThreads {
+  private static final MethodHandle OF_VIRTUAL;
+  private static final MethodHandle NAME;
+  private static final MethodHandle FACTORY;
+  private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    MethodHandle ofVirtual = null;
+    MethodHandle name = null;
+    MethodHandle factory = null;
+    MethodHandle newThreadPerTaskExecutor = null;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+      name = lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+      factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+      newThreadPerTaskExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+          MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+    } catch (ReflectiveOperationException e) {
+      log.info("Virtual threads are not available in this runtime");
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  public static boolean isAvailable() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * @param name the prefix of the thread names, the threads are numbered after it
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String name) {
+    if (OF_VIRTUAL != null) {
+      try {
+        Object builder = NAME.invoke(OF_VIRTUAL.invoke(), name + "-", 0L);
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke((ThreadFactory) FACTORY.invoke(builder));
+      } catch (Throwable e) {
+        log.warn("Failed to create virtual threads for {}, falling back to platform threads", name, e);
+      }
+    }
+    return Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat(name + "-%d").build());
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.data.algorithm;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.apache.commons.lang3.StringUtils.replaceEach;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Slf4j
+public class AhoCorasickMaskerStressTest extends CategoryTest {
+  private static final String MASK = "**************";
+  private static final int LINES = 10000;
+  private static final int ITERATIONS = 10;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareWithReplaceEach() {
+    for (int secretCount : new int[] {10, 100, 1000}) {
+      Set<String> secrets = new HashSet<>();
+      while (secrets.size() < secretCount) {
+        secrets.add(generateUuid());
+      }
+      List<String> secretList = new ArrayList<>(secrets);
+      List<String> lines = generateLines(secretList);
+
+      String[] masks = new String[secretList.size()];
+      Arrays.fill(masks, MASK);
+      String[] values = secretList.toArray(new String[0]);
+      AhoCorasickMasker masker = AhoCorasickMasker.compile(secrets, MASK);
+
+      for (String line : lines) {
+        assertThat(masker.mask(line)).isEqualTo(replaceEach(line, values, masks));
+      }
+
+      long replaceEachTime = 0;
+      long maskerTime = 0;
+      for (int i = 0; i < ITERATIONS; i++) {
+        long start = System.nanoTime();
+        for (String line : lines) {
+          replaceEach(line, values, masks);
+        }
+        replaceEachTime += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String line : lines) {
+          masker.mask(line);
+        }
+        maskerTime += System.nanoTime() - start;
+      }
+
+      log.info("secrets: {}, replaceEach: {} ns/line, aho-corasick: {} ns/line", secretCount,
+          replaceEachTime / (ITERATIONS * LINES), maskerTime / (ITERATIONS * LINES));
+    }
+  }
+
+  private List<String> generateLines(List<String> secrets) {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < LINES; i++) {
+      // Mostly verbose kubectl-like output without secrets, with a secret in every tenth line
+      String line = "deployment.apps/harness-example-deployment-" + i
+          + " configured, waiting for rollout to finish: 1 of 3 updated replicas are available...";
+      if (i % 10 == 0) {
+        line = line + " token=" + secrets.get(i % secrets.size());
+      }
+      lines.add(line);
+    }
+    return lines;
+  }
+}
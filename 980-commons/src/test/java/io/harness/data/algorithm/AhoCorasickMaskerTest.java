@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.data.algorithm;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AhoCorasickMaskerTest extends CategoryTest {
+  private static final String MASK = "***";
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testNoPatterns() {
+    assertThat(AhoCorasickMasker.compile(null, MASK).isEmpty()).isTrue();
+    assertThat(AhoCorasickMasker.compile(Collections.singletonList(""), MASK).isEmpty()).isTrue();
+    assertThat(AhoCorasickMasker.compile(Collections.emptyList(), MASK).mask("message")).isEqualTo("message");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testNoMatchReturnsSameInstance() {
+    AhoCorasickMasker masker = AhoCorasickMasker.compile(ImmutableList.of("secret1", "secret2"), MASK);
+    String message = "nothing to hide in secret here";
+    assertThat(masker.mask(message)).isSameAs(message);
+    assertThat(masker.mask(null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testMaskAllOccurrences() {
+    AhoCorasickMasker masker = AhoCorasickMasker.compile(ImmutableList.of("secret1", "secret2"), MASK);
+    assertThat(masker.mask("secret1 and secret2, again secret1secret2"))
+        .isEqualTo("*** and ***, again ******");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testOverlappingPatterns() {
+    AhoCorasickMasker masker = AhoCorasickMasker.compile(ImmutableList.of("abc", "abcdef", "cde", "bcdx"), MASK);
+    assertThat(masker.mask("abcdef")).isEqualTo("***");
+    assertThat(masker.mask("abcdeg")).isEqualTo("***deg");
+    assertThat(masker.mask("xbcdex")).isEqualTo("xb***x");
+    assertThat(masker.mask("abcdx")).isEqualTo("***dx");
+    assertThat(masker.mask("zbcdx")).isEqualTo("z***");
+  }
+}
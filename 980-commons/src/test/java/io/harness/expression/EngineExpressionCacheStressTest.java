@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.expression.EngineExpressionEvaluatorTest.SampleEngineExpressionEvaluator;
+import io.harness.rule.Owner;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class EngineExpressionCacheStressTest extends CategoryTest {
+  private static final int STAGES = 20;
+  private static final int EXECUTIONS = 200;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void renderPipelineYaml() {
+    String yaml = pipelineYaml();
+    Map<String, Object> pipeline = pipelineContext();
+    String expected = newEvaluator(pipeline).renderExpression(yaml);
+    assertThat(expected).doesNotContain("<+");
+
+    long coldTime = 0;
+    long warmTime = 0;
+    for (int i = 0; i < EXECUTIONS; i++) {
+      // Every plan execution creates new evaluators, only the cache outlives them
+      EngineExpressionCache.invalidateAll();
+      long start = System.nanoTime();
+      assertThat(newEvaluator(pipeline).renderExpression(yaml)).isEqualTo(expected);
+      coldTime += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      assertThat(newEvaluator(pipeline).renderExpression(yaml)).isEqualTo(expected);
+      warmTime += System.nanoTime() - start;
+    }
+
+    log.info("pipeline yaml of {} chars, uncached: {} us/render, cached: {} us/render", yaml.length(),
+        coldTime / (EXECUTIONS * 1000L), warmTime / (EXECUTIONS * 1000L));
+  }
+
+  private static EngineExpressionEvaluator newEvaluator(Map<String, Object> pipeline) {
+    SampleEngineExpressionEvaluator evaluator = new SampleEngineExpressionEvaluator();
+    evaluator.addToContext("pipeline", pipeline);
+    return evaluator;
+  }
+
+  private static Map<String, Object> pipelineContext() {
+    Map<String, Object> variables = new HashMap<>();
+    for (int i = 0; i < STAGES; i++) {
+      variables.put("image" + i, "harness/service-" + i);
+      variables.put("replicas" + i, i % 3 + 1);
+    }
+    Map<String, Object> pipeline = new HashMap<>();
+    pipeline.put("name", "deploy");
+    pipeline.put("sequenceId", 42);
+    pipeline.put("variables", variables);
+    return pipeline;
+  }
+
+  private static String pipelineYaml() {
+    StringBuilder builder = new StringBuilder("pipeline:\n  name: <+pipeline.name>\n  stages:\n");
+    for (int i = 0; i < STAGES; i++) {
+      builder.append("    - stage:\n")
+          .append("        identifier: stage")
+          .append(i)
+          .append("\n        spec:\n")
+          .append("          image: <+pipeline.variables.image")
+          .append(i)
+          .append(">:<+pipeline.sequenceId>\n")
+          .append("          replicas: <+pipeline.variables.replicas")
+          .append(i)
+          .append(" * 2>\n")
+          .append("          command: echo \"<+pipeline.name>-<+pipeline.sequenceId>\"\n")
+          .append("          enabled: <+pipeline.variables.replicas")
+          .append(i)
+          .append(" > 1 && <+pipeline.sequenceId> > 10>\n");
+    }
+    return builder.toString();
+  }
+}
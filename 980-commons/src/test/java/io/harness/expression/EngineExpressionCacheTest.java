@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class EngineExpressionCacheTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldParseExpressionOnlyOnce() {
+    String expression = "pipeline.variables.v" + generateUuid().replace("-", "") + " + 1";
+    long misses = EngineExpressionCache.stats().get(EngineExpressionCache.EXPRESSIONS).missCount();
+
+    assertThat(EngineExpressionCache.createExpression(expression))
+        .isSameAs(EngineExpressionCache.createExpression(expression));
+    assertThat(EngineExpressionCache.stats().get(EngineExpressionCache.EXPRESSIONS).missCount())
+        .isGreaterThanOrEqualTo(misses + 1);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldParseScriptOnlyOnce() {
+    String script = "var a = " + System.nanoTime() + "; a + 1";
+    assertThat(EngineExpressionCache.createScript(script)).isSameAs(EngineExpressionCache.createScript(script));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotCacheParseFailures() {
+    String expression = "a.b + " + System.nanoTime() + " +";
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression(expression)).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression(expression)).isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReturnModifiableCopiesOfFoundExpressions() {
+    String str = "echo <+pipeline.name> <+stage." + generateUuid() + ".spec> <+<+a> + <+b>>";
+
+    List<String> expressions = EngineExpressionEvaluator.findExpressions(str);
+    assertThat(expressions).hasSize(3);
+    expressions.clear();
+    assertThat(EngineExpressionEvaluator.findExpressions(str)).hasSize(3);
+
+    List<String> variables = EngineExpressionEvaluator.findVariables(str);
+    assertThat(variables).hasSize(4);
+    variables.add("<+c>");
+    assertThat(EngineExpressionEvaluator.findVariables(str)).hasSize(4);
+
+    assertThat(EngineExpressionEvaluator.findExpressions(null)).isEmpty();
+    assertThat(EngineExpressionEvaluator.findVariables("")).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotCacheGeneratedOrLongExpressions() {
+    String generated = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + System.nanoTime() + " + 1";
+    String longExpression =
+        "a.v" + StringUtils.repeat("0", EngineExpressionCache.MAX_CACHED_LENGTH) + System.nanoTime() + " + 1";
+    assertThat(EngineExpressionCache.isCacheable("pipeline.name + 1")).isTrue();
+    assertThat(EngineExpressionCache.isCacheable(generated)).isFalse();
+    assertThat(EngineExpressionCache.isCacheable(longExpression)).isFalse();
+
+    assertThat(EngineExpressionCache.createExpression(generated))
+        .isNotSameAs(EngineExpressionCache.createExpression(generated));
+    assertThat(EngineExpressionCache.createScript(longExpression))
+        .isNotSameAs(EngineExpressionCache.createScript(longExpression));
+
+    String str = "echo <+" + generated + "> <+pipeline.name>";
+    List<String> expressions = EngineExpressionEvaluator.findExpressions(str);
+    assertThat(expressions).hasSize(2);
+    expressions.clear();
+    assertThat(EngineExpressionEvaluator.findExpressions(str)).hasSize(2);
+  }
+}
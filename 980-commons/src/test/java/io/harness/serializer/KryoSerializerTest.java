@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(CommonsRegistrars.kryoRegistrars, true);
+
+  private static Map<String, Object> payload(int size) {
+    StringBuilder body = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      body.append(i % 97);
+    }
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("body", body.toString());
+    payload.put("size", size);
+    return payload;
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldRoundTripThroughReusedBuffers() {
+    // the large payloads grow the pooled buffers beyond what is kept, the small ones reuse them
+    for (int size : new int[] {10, 100_000, 10, 1_000_000, 10}) {
+      Map<String, Object> payload = payload(size);
+      assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(payload))).isEqualTo(payload);
+      assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(payload))).isEqualTo(payload);
+    }
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDeflateCompatiblyWithStreams() throws Exception {
+    Map<String, Object> payload = payload(50_000);
+
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    DeflaterOutputStream deflaterStream = new DeflaterOutputStream(byteStream);
+    kryoSerializer.writeToStream(payload, deflaterStream);
+    deflaterStream.finish();
+
+    assertThat(kryoSerializer.asDeflatedBytes(payload)).isEqualTo(byteStream.toByteArray());
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldSerializeConcurrently() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        Map<String, Object> payload = payload(i * 100);
+        futures.add(executorService.submit(
+            () -> payload.equals(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(payload)))));
+      }
+      for (Future<Boolean> future : futures) {
+        assertThat(future.get()).isTrue();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+}
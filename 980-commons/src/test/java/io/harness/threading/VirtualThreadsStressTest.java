@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Mimics a pod running many iterators, each handling entities with a blocking call and limited by a semaphore of its
+ * own, on dedicated fixed pools and on thread per task executors.
+ */
+@Slf4j
+public class VirtualThreadsStressTest extends CategoryTest {
+  private static final int ITERATORS = 200;
+  private static final int CONCURRENCY = 5;
+  private static final int ENTITIES = 50;
+  private static final long BLOCKING_MILLIS = 20;
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareThreadCountAndThroughput() throws Exception {
+    run("fixed pools", i -> Executors.newFixedThreadPool(CONCURRENCY));
+    run("thread per task, virtual threads " + VirtualThreads.isAvailable(),
+        i -> VirtualThreads.newThreadPerTaskExecutor("iterator-" + i));
+  }
+
+  private interface ExecutorFactory {
+    ExecutorService create(int iterator);
+  }
+
+  private static void run(String name, ExecutorFactory executorFactory) throws Exception {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    threadMXBean.resetPeakThreadCount();
+    List<ExecutorService> executors = new ArrayList<>();
+    CountDownLatch processed = new CountDownLatch(ITERATORS * ENTITIES);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATORS; i++) {
+      ExecutorService executor = executorFactory.create(i);
+      executors.add(executor);
+      Semaphore semaphore = new Semaphore(CONCURRENCY);
+      // Like the iterator loop, an entity is handed over only when there is a permit to process it
+      executor.submit(() -> {
+        for (int j = 0; j < ENTITIES; j++) {
+          semaphore.acquire();
+          executor.submit(() -> {
+            try {
+              Morpheus.quietSleep(Duration.ofMillis(BLOCKING_MILLIS));
+            } finally {
+              semaphore.release();
+              processed.countDown();
+            }
+          });
+        }
+        return null;
+      });
+    }
+    processed.await();
+    long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+    executors.forEach(ExecutorService::shutdownNow);
+
+    log.info("{}: {} entities/sec, peak platform threads {}", name, ITERATORS * ENTITIES * 1000L / elapsedMillis,
+        threadMXBean.getPeakThreadCount());
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.threading;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class VirtualThreadsTest extends CategoryTest {
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTasksRunConcurrentlyOnNamedThreads() throws Exception {
+    ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-worker");
+    try {
+      int tasks = 50;
+      CountDownLatch started = new CountDownLatch(tasks);
+      CountDownLatch release = new CountDownLatch(1);
+      for (int i = 0; i < tasks; i++) {
+        executor.submit(() -> {
+          started.countDown();
+          release.await();
+          return null;
+        });
+      }
+      // Every task has a thread of its own, none waits for another one to finish
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+      release.countDown();
+
+      assertThat(executor.submit(() -> Thread.currentThread().getName()).get()).startsWith("test-worker-");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
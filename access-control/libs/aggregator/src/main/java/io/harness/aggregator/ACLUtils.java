@@ -17,6 +17,9 @@ import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 
 @OwnedBy(HarnessTeam.PL)
@@ -59,4 +62,8 @@ public class ACLUtils {
         .enabled(!roleAssignment.isDisabled())
         .build();
   }
-}
\ No newline at end of file
+
+  public static Set<String> getPrincipals(Collection<ACL> acls) {
+    return acls.stream().map(ACL::getPrincipalIdentifier).collect(Collectors.toSet());
+  }
+}
@@ -10,11 +10,13 @@ package io.harness.aggregator.consumers;
 import static io.harness.accesscontrol.principals.PrincipalType.USER;
 import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.aggregator.ACLUtils.buildACL;
+import static io.harness.aggregator.ACLUtils.getPrincipals;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
@@ -53,11 +55,13 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
   private final ResourceGroupRepository resourceGroupRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
+  private final ACLCache aclCache;
 
   public ResourceGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       ResourceGroupRepository resourceGroupRepository, String executorServiceSuffix,
-      ChangeConsumerService changeConsumerService) {
+      ChangeConsumerService changeConsumerService, ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.resourceGroupRepository = resourceGroupRepository;
     this.changeConsumerService = changeConsumerService;
@@ -90,7 +94,7 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnResourceGroupUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, resourceGroup.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, resourceGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -125,14 +129,16 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
 
   private static class ReProcessRoleAssignmentOnResourceGroupUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final ResourceGroupDBO updatedResourceGroup;
     private final ChangeConsumerService changeConsumerService;
 
-    private ReProcessRoleAssignmentOnResourceGroupUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnResourceGroupUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment,
         ResourceGroupDBO updatedResourceGroup) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedResourceGroup = updatedResourceGroup;
@@ -158,13 +164,14 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
       Set<ResourceSelector> resourceSelectorsAddedToResourceGroup =
           Sets.difference(newResourceSelectors, existingResourceSelectors);
 
+      // Resource selectors are removed for all the principals alike, so the principals are the same before and after
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentIdAndResourceSelectors(
           roleAssignmentDBO.getId(), resourceSelectorsRemovedFromResourceGroup);
 
       Set<String> existingPermissions =
           Sets.newHashSet(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
-      Set<String> existingPrincipals =
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       PrincipalType principalType =
           USER_GROUP.equals(roleAssignmentDBO.getPrincipalType()) ? USER : roleAssignmentDBO.getPrincipalType();
 
@@ -181,6 +188,8 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
                         roleAssignmentDBO, resourceSelector)))));
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+      aclCache.invalidate(existingPrincipals);
+      aclCache.invalidate(getPrincipals(aclsToCreate));
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
@@ -7,9 +7,11 @@
 
 package io.harness.aggregator.consumers;
 
+import static io.harness.aggregator.ACLUtils.getPrincipals;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
@@ -29,11 +31,13 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final ChangeConsumerService changeConsumerService;
   private final RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
+  private final ACLCache aclCache;
 
   public RoleAssignmentChangeConsumerImpl(ACLRepository aclRepository,
       RoleAssignmentRepository roleAssignmentRepository, ChangeConsumerService changeConsumerService,
-      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler) {
+      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler, ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.changeConsumerService = changeConsumerService;
     this.roleAssignmentCRUDEventHandler = roleAssignmentCRUDEventHandler;
@@ -61,12 +65,17 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   }
 
   private long deleteACLs(String id) {
-    return aclRepository.deleteByRoleAssignmentId(id);
+    List<String> principals = aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id);
+    long deletedCount = aclRepository.deleteByRoleAssignmentId(id);
+    aclCache.invalidate(principals);
+    return deletedCount;
   }
 
   private long createACLs(RoleAssignmentDBO roleAssignment) {
     List<ACL> aclsToCreate = changeConsumerService.getAClsForRoleAssignment(roleAssignment);
-    return aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    long createdCount = aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+    aclCache.invalidate(getPrincipals(aclsToCreate));
+    return createdCount;
   }
 
   @Override
@@ -10,10 +10,12 @@ package io.harness.aggregator.consumers;
 import static io.harness.accesscontrol.principals.PrincipalType.USER;
 import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.aggregator.ACLUtils.buildACL;
+import static io.harness.aggregator.ACLUtils.getPrincipals;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
@@ -53,10 +55,13 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
   private final RoleRepository roleRepository;
   private final ExecutorService executorService;
   private final ChangeConsumerService changeConsumerService;
+  private final ACLCache aclCache;
 
   public RoleChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      RoleRepository roleRepository, String executorServiceSuffix, ChangeConsumerService changeConsumerService) {
+      RoleRepository roleRepository, String executorServiceSuffix, ChangeConsumerService changeConsumerService,
+      ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.roleRepository = roleRepository;
     String changeConsumerThreadFactory = String.format("%s-role-change-consumer", executorServiceSuffix) + "-%d";
@@ -87,7 +92,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnRoleUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, role.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, role.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -122,13 +127,15 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
 
   private static class ReProcessRoleAssignmentOnRoleUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final RoleDBO updatedRole;
     private final ChangeConsumerService changeConsumerService;
 
-    private ReProcessRoleAssignmentOnRoleUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnRoleUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment, RoleDBO updatedRole) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedRole = updatedRole;
@@ -144,13 +151,14 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
       Set<String> permissionsRemovedFromRole = Sets.difference(existingPermissions,
           updatedRole.getPermissions() == null ? Collections.emptySet() : updatedRole.getPermissions());
 
+      // Permissions are removed for all the principals alike, so the principals are the same before and after
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       long numberOfACLsDeleted =
           aclRepository.deleteByRoleAssignmentIdAndPermissions(roleAssignmentDBO.getId(), permissionsRemovedFromRole);
 
       Set<ResourceSelector> existingResourceSelectors =
           aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentDBO.getId());
-      Set<String> existingPrincipals =
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
       PrincipalType principalType =
           USER_GROUP.equals(roleAssignmentDBO.getPrincipalType()) ? USER : roleAssignmentDBO.getPrincipalType();
 
@@ -167,6 +175,8 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
                         roleAssignmentDBO, resourceSelector)))));
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+      aclCache.invalidate(existingPrincipals);
+      aclCache.invalidate(getPrincipals(aclsToCreate));
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
@@ -10,10 +10,12 @@ package io.harness.aggregator.consumers;
 import static io.harness.accesscontrol.principals.PrincipalType.USER;
 import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.aggregator.ACLUtils.buildACL;
+import static io.harness.aggregator.ACLUtils.getPrincipals;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -55,12 +57,14 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private final ChangeConsumerService changeConsumerService;
   private final ScopeService scopeService;
   private final UserGroupCRUDEventHandler userGroupCRUDEventHandler;
+  private final ACLCache aclCache;
 
   public UserGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       UserGroupRepository userGroupRepository, String executorServiceSuffix,
       ChangeConsumerService changeConsumerService, ScopeService scopeService,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.userGroupRepository = userGroupRepository;
     this.scopeService = scopeService;
@@ -100,7 +104,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnUserGroupUpdateTask(
-                         aclRepository, changeConsumerService, roleAssignment, userGroup.get()))
+                         aclRepository, aclCache, changeConsumerService, roleAssignment, userGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -137,13 +141,15 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
 
   private static class ReProcessRoleAssignmentOnUserGroupUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
+    private final ACLCache aclCache;
     private final ChangeConsumerService changeConsumerService;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final UserGroupDBO updatedUserGroup;
 
-    private ReProcessRoleAssignmentOnUserGroupUpdateTask(ACLRepository aclRepository,
+    private ReProcessRoleAssignmentOnUserGroupUpdateTask(ACLRepository aclRepository, ACLCache aclCache,
         ChangeConsumerService changeConsumerService, RoleAssignmentDBO roleAssignment, UserGroupDBO updatedUserGroup) {
       this.aclRepository = aclRepository;
+      this.aclCache = aclCache;
       this.changeConsumerService = changeConsumerService;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedUserGroup = updatedUserGroup;
@@ -180,6 +186,8 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
                         roleAssignmentDBO, resourceSelector)))));
       }
       numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(aclsToCreate);
+      aclCache.invalidate(principalRemovedFromUserGroup);
+      aclCache.invalidate(getPrincipals(aclsToCreate));
 
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -113,16 +114,16 @@ public abstract class AggregatorBaseSyncController implements Runnable {
       PersistentLocker persistentLocker, ChangeEventFailureHandler changeEventFailureHandler,
       AggregatorJobType aggregatorJobType, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService, ACLCache aclCache) {
     ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
-    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, roleRepository, aggregatorJobType.name(), changeConsumerService);
+        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, aclCache);
+    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        roleRepository, aggregatorJobType.name(), changeConsumerService, aclCache);
     ChangeConsumer<ResourceGroupDBO> resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository,
-        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), changeConsumerService);
+        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), changeConsumerService, aclCache);
     ChangeConsumer<UserGroupDBO> userGroupChangeConsumer =
         new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            aggregatorJobType.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
+            aggregatorJobType.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler, aclCache);
     collectionToConsumerMap = new HashMap<>();
     collectionToConsumerMap.put(ROLE_ASSIGNMENTS, roleAssignmentChangeConsumer);
     collectionToConsumerMap.put(ROLES, roleChangeConsumer);
@@ -13,6 +13,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.PRIMARY_COL
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
 import io.harness.aggregator.repositories.AggregatorSecondarySyncStateRepository;
@@ -47,6 +48,7 @@ public class AggregatorController implements Runnable {
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
   private final QueueController queueController;
+  private final ACLCache aclCache;
 
   @Inject
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
@@ -54,7 +56,7 @@ public class AggregatorController implements Runnable {
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker,
-      QueueController queueController) {
+      QueueController queueController, ACLCache aclCache) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
@@ -62,6 +64,7 @@ public class AggregatorController implements Runnable {
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
     this.queueController = queueController;
+    this.aclCache = aclCache;
   }
 
   @Override
@@ -131,6 +134,7 @@ public class AggregatorController implements Runnable {
       if (primaryControllerLock != null && secondaryControllerLock != null) {
         log.info("Both child controller locks have been acquired. Switching primary");
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
+        aclCache.invalidateAll();
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
       } else {
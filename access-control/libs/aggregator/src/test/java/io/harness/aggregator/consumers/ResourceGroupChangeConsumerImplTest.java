@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.PrincipalType;
@@ -79,7 +80,7 @@ public class ResourceGroupChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService =
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository,
-        resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService);
+        resourceGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService, new ACLCache());
     aclRepository.cleanCollection();
     randomCount = ThreadLocalRandom.current().nextInt(1, 10);
     id = randomAlphabetic(10);
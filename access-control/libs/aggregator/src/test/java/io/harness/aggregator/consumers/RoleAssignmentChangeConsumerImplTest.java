@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -82,7 +83,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     ChangeConsumerService changeConsumerService =
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, new ACLCache());
     scopeIdentifier =
         Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId(getRandomString(10)).build().toString();
     role = RoleTestUtils.buildRole(scopeIdentifier);
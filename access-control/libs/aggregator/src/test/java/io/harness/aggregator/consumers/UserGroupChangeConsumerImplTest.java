@@ -21,6 +21,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -87,9 +88,10 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
         new ChangeConsumerServiceImpl(roleService, userGroupService, resourceGroupService, scopeService);
     userGroupChangeConsumer =
         new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
+            AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler,
+            new ACLCache());
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, new ACLCache());
     aclRepository.cleanCollection();
     testScopeIdentifier = getRandomString(20);
     scopeIdentifier = "/ACCOUNT/" + testScopeIdentifier;
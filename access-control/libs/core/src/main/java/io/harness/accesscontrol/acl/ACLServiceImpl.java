@@ -15,17 +15,19 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.accesscontrol.ResourceInfo;
 import io.harness.accesscontrol.acl.api.Principal;
-import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluatorProvider;
+import io.harness.accesscontrol.acl.conditions.ACLConditionCache;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
 import io.harness.accesscontrol.permissions.Permission;
 import io.harness.accesscontrol.permissions.PermissionFilter;
 import io.harness.accesscontrol.permissions.PermissionService;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -42,19 +44,20 @@ import lombok.extern.slf4j.Slf4j;
 @ValidateOnExecution
 @Slf4j
 public class ACLServiceImpl implements ACLService {
+  public static final String ACL_CHECK_LATENCY = "acl_check_latency";
   private final ACLDAO aclDAO;
   private final PermissionService permissionService;
   private static final PermissionFilter permissionFilter =
       PermissionFilter.builder().statusFilter(Sets.newHashSet(INACTIVE, EXPERIMENTAL, STAGING)).build();
   private volatile Set<String> disabledPermissions;
-  private final ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider;
+  private final ACLConditionCache aclConditionCache;
+  @Inject(optional = true) private MetricService metricService;
 
   @Inject
-  public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService,
-      ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider) {
+  public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService, ACLConditionCache aclConditionCache) {
     this.aclDAO = aclDAO;
     this.permissionService = permissionService;
-    this.aclExpressionEvaluatorProvider = aclExpressionEvaluatorProvider;
+    this.aclConditionCache = aclConditionCache;
   }
 
   private PermissionCheckResult getPermissionCheckResult(PermissionCheck permissionCheck, boolean permitted) {
@@ -71,6 +74,20 @@ public class ACLServiceImpl implements ACLService {
   @Override
   public List<PermissionCheckResult> checkAccess(Principal principal, List<PermissionCheck> permissionChecks,
       ResourceAttributeProvider resourceAttributeProvider) {
+    long startTime = System.currentTimeMillis();
+    try {
+      return checkAccessAndBuildResults(principal, permissionChecks, resourceAttributeProvider);
+    } finally {
+      if (metricService != null) {
+        try (ACLMetricsContext ignore = new ACLMetricsContext()) {
+          metricService.recordDuration(ACL_CHECK_LATENCY, Duration.ofMillis(System.currentTimeMillis() - startTime));
+        }
+      }
+    }
+  }
+
+  private List<PermissionCheckResult> checkAccessAndBuildResults(Principal principal,
+      List<PermissionCheck> permissionChecks, ResourceAttributeProvider resourceAttributeProvider) {
     List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(principal, permissionChecks);
     List<Boolean> allowedAccessList = checkAccessInternal(permissionChecks, matchingACLs, resourceAttributeProvider);
 
@@ -126,11 +143,13 @@ public class ACLServiceImpl implements ACLService {
 
   private Boolean evaluateAccessFromConditionalACLs(
       PermissionCheck permissionCheck, List<ACL> matchedACLs, Map<String, String> resourceAttributes) {
+    // Several role assignments often grant the same condition, evaluate each one once and stop at the first match
     return matchedACLs.stream()
         .filter(ACL::isConditional)
-        .anyMatch(acl
-            -> aclExpressionEvaluatorProvider.get(permissionCheck, resourceAttributes)
-                   .evaluateExpression(acl.getCondition()));
+        .map(ACL::getCondition)
+        .distinct()
+        .map(aclConditionCache::get)
+        .anyMatch(condition -> condition.evaluate(permissionCheck, resourceAttributes));
   }
 
   private void ensureDisabledPermissions() {
@@ -0,0 +1,23 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.conditions;
+
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Map;
+
+/**
+ * Condition of a conditional ACL compiled once, evaluated against the resource of a permission check.
+ */
+@OwnedBy(HarnessTeam.PL)
+@FunctionalInterface
+public interface ACLCondition {
+  boolean evaluate(PermissionCheck permissionCheck, Map<String, String> resourceAttributes);
+}
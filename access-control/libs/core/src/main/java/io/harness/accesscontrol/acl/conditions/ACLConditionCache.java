@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.conditions;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled ACL conditions by condition string. The conditions generated for the attribute filters of resource groups,
+ * <+resource.attribute.name> =~ ["value1","value2"], compile into a set lookup on the resource attributes. Any other
+ * condition is evaluated with {@link ACLExpressionEvaluator}.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+public class ACLConditionCache {
+  private static final long MAX_CONDITIONS = 10000;
+  private static final String QUOTED_VALUE_REGEX = "\\s*\"[^\"\\\\]*\"\\s*";
+  private static final Pattern ATTRIBUTE_IN_VALUES_CONDITION =
+      Pattern.compile("^\\s*<\\+resource\\.attribute\\.(\\w+)>\\s*=~\\s*\\[(" + QUOTED_VALUE_REGEX + "(?:,"
+          + QUOTED_VALUE_REGEX + ")*)]\\s*$");
+  private static final Pattern QUOTED_VALUE = Pattern.compile("\"([^\"\\\\]*)\"");
+
+  private final ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider;
+  private final LoadingCache<String, ACLCondition> conditions;
+
+  @Inject
+  public ACLConditionCache(ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider) {
+    this.aclExpressionEvaluatorProvider = aclExpressionEvaluatorProvider;
+    this.conditions = Caffeine.newBuilder().maximumSize(MAX_CONDITIONS).build(this::compile);
+  }
+
+  public ACLCondition get(String condition) {
+    return conditions.get(condition);
+  }
+
+  private ACLCondition compile(String condition) {
+    Matcher matcher = ATTRIBUTE_IN_VALUES_CONDITION.matcher(condition);
+    if (matcher.matches()) {
+      String attributeName = matcher.group(1);
+      Set<String> attributeValues = new HashSet<>();
+      Matcher valueMatcher = QUOTED_VALUE.matcher(matcher.group(2));
+      while (valueMatcher.find()) {
+        attributeValues.add(valueMatcher.group(1));
+      }
+      return (permissionCheck, resourceAttributes) -> {
+        String attributeValue = resourceAttributes == null ? null : resourceAttributes.get(attributeName);
+        return attributeValue != null && attributeValues.contains(attributeValue);
+      };
+    }
+    return (permissionCheck, resourceAttributes)
+               -> aclExpressionEvaluatorProvider.get(permissionCheck, resourceAttributes).evaluateExpression(condition);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Enabled ACLs of the primary collection by acl query string, grouped by principal identifier.
+ *
+ * The aggregator change consumers invalidate the principals whose ACLs they touched, after the ACLs are written, and
+ * the invalidations are broadcast to the other instances, which do not run the aggregator. A lookup that raced with
+ * the invalidation writes into the detached entry of the principal, so it can not resurrect stale ACLs.
+ *
+ * Granted ACLs are only cached while this instance is subscribed to the broadcast invalidations, a revoked permission
+ * must not be granted by a stale entry. Absent ACLs are always cached, the expiry bounds how late a grant is seen.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLCache {
+  private static final Duration EXPIRY = Duration.ofMinutes(1);
+  private static final long MAX_PRINCIPALS = 50000;
+  // Distinct acl query strings cached per principal, together with MAX_PRINCIPALS this bounds the cached entries
+  private static final long MAX_QUERY_STRINGS_PER_PRINCIPAL = 256;
+
+  private final Cache<String, Cache<String, List<ACL>>> cache =
+      Caffeine.newBuilder().maximumSize(MAX_PRINCIPALS).expireAfterWrite(EXPIRY).build();
+  @Inject(optional = true) private ACLCacheInvalidationBroadcaster broadcaster;
+
+  /**
+   * @return the mutable, bounded map of the cached ACLs of the principal by acl query string, an empty list is a miss
+   */
+  public Map<String, List<ACL>> getACLs(String principalIdentifier) {
+    return cache
+        .get(principalIdentifier,
+            key -> Caffeine.newBuilder().maximumSize(MAX_QUERY_STRINGS_PER_PRINCIPAL).<String, List<ACL>>build())
+        .asMap();
+  }
+
+  public boolean isCachingGrants() {
+    return broadcaster != null && broadcaster.isSubscribed();
+  }
+
+  public void invalidate(String principalIdentifier) {
+    if (principalIdentifier != null) {
+      invalidate(Collections.singleton(principalIdentifier));
+    }
+  }
+
+  /**
+   * Invalidates the principals on this instance and broadcasts the invalidation to the other instances.
+   */
+  public void invalidate(Collection<String> principalIdentifiers) {
+    if (isEmpty(principalIdentifiers)) {
+      return;
+    }
+    evict(principalIdentifiers);
+    if (broadcaster != null) {
+      broadcaster.broadcast(principalIdentifiers);
+    }
+  }
+
+  public void invalidateAll() {
+    evictAll();
+    if (broadcaster != null) {
+      broadcaster.broadcastAll();
+    }
+  }
+
+  /**
+   * Invalidates the principals on this instance only, when an invalidation broadcast by another instance is received.
+   */
+  public void evict(Collection<String> principalIdentifiers) {
+    principalIdentifiers.stream().filter(Objects::nonNull).forEach(cache::invalidate);
+  }
+
+  public void evictAll() {
+    log.info("Invalidating all the cached ACLs");
+    cache.invalidateAll();
+  }
+}
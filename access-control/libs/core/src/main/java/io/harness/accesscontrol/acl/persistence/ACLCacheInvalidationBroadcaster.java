@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Collection;
+
+/**
+ * Propagates the invalidations of the {@link ACLCache} to every instance of the service.
+ */
+@OwnedBy(PL)
+public interface ACLCacheInvalidationBroadcaster {
+  /**
+   * @return whether this instance currently receives the invalidations broadcast by the other instances
+   */
+  boolean isSubscribed();
+
+  void broadcast(Collection<String> principalIdentifiers);
+
+  void broadcastAll();
+}
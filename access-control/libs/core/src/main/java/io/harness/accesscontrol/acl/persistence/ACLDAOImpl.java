@@ -10,17 +10,23 @@ package io.harness.accesscontrol.acl.persistence;
 import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import static java.util.stream.Collectors.groupingBy;
+
+import io.harness.accesscontrol.acl.ACLMetricsContext;
 import io.harness.accesscontrol.acl.PermissionCheck;
 import io.harness.accesscontrol.acl.api.Principal;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.scopes.core.Scope;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,12 +43,18 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String PATH_DELIMITER = "/";
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
+  public static final String ACL_CACHE_HIT = "acl_cache_hit";
+  public static final String ACL_CACHE_MISS = "acl_cache_miss";
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final Set<String> scopeResourceTypes;
+  @Inject(optional = true) private MetricService metricService;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLCache aclCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -151,12 +163,55 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    Map<String, List<ACL>> cachedACLs = aclCache.getACLs(principal.getPrincipalIdentifier());
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    Set<String> missingQueryStrings = new HashSet<>();
+    aclQueryStrings.forEach(queryString -> {
+      List<ACL> acls = cachedACLs.get(queryString);
+      if (acls == null) {
+        missingQueryStrings.add(queryString);
+      } else {
+        aclsByQueryString.put(queryString, acls);
+      }
+    });
+    recordCacheLookups(aclsByQueryString.size(), missingQueryStrings.size());
+
+    if (!missingQueryStrings.isEmpty()) {
+      Map<String, List<ACL>> aclsPresentInDB =
+          aclRepository.getByAclQueryStringInAndEnabled(missingQueryStrings, true)
+              .stream()
+              .collect(groupingBy(ACL::getAclQueryString));
+      // Absent ACLs are cached as well, most of the query strings never match
+      boolean cachingGrants = aclCache.isCachingGrants();
+      missingQueryStrings.forEach(queryString -> {
+        List<ACL> acls = aclsPresentInDB.getOrDefault(queryString, Collections.emptyList());
+        if (cachingGrants || acls.isEmpty()) {
+          cachedACLs.put(queryString, acls);
+        }
+        aclsByQueryString.put(queryString, acls);
+      });
+    }
+
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
+            -> queryStringsForPermission.stream()
+                   .map(aclsByQueryString::get)
+                   .flatMap(List::stream)
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private void recordCacheLookups(int hits, int misses) {
+    if (metricService == null) {
+      return;
+    }
+    try (ACLMetricsContext ignore = new ACLMetricsContext()) {
+      if (hits > 0) {
+        metricService.recordMetric(ACL_CACHE_HIT, hits);
+      }
+      if (misses > 0) {
+        metricService.recordMetric(ACL_CACHE_MISS, misses);
+      }
+    }
+  }
 }
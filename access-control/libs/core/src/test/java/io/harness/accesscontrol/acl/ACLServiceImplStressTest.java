@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.ResourceInfo;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.conditions.ACLCondition;
+import io.harness.accesscontrol.acl.conditions.ACLConditionCache;
+import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluator;
+import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluatorProvider;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLDAO;
+import io.harness.accesscontrol.permissions.PermissionService;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+@Slf4j
+public class ACLServiceImplStressTest extends AccessControlCoreTestBase {
+  private static final int CHECKS = 1000;
+  private static final int REQUESTS = 200;
+  private static final String[] ENVIRONMENT_TYPES = {"Production", "PreProduction"};
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void checkAccessWithConditionalACLs() {
+    Principal principal = Principal.of(PrincipalType.USER, "user");
+    List<PermissionCheck> permissionChecks = new ArrayList<>();
+    List<List<ACL>> matchingACLs = new ArrayList<>();
+    Map<ResourceInfo, Map<String, String>> attributes = new HashMap<>();
+    for (int i = 0; i < CHECKS; i++) {
+      PermissionCheck permissionCheck = PermissionCheck.builder()
+                                            .permission("core_environment_access")
+                                            .resourceType("ENVIRONMENT")
+                                            .resourceIdentifier("environment" + i)
+                                            .build();
+      permissionChecks.add(permissionCheck);
+      // Two role assignments with the same condition and one with a condition that never matches
+      matchingACLs.add(Arrays.asList(conditionalACL("Production"), conditionalACL("Production"), conditionalACL("QA")));
+      attributes.put(permissionCheck.getResourceInfo(), ImmutableMap.of("type", ENVIRONMENT_TYPES[i % 2]));
+    }
+    ACLDAO aclDAO = mock(ACLDAO.class);
+    when(aclDAO.getMatchingACLs(principal, permissionChecks)).thenReturn(matchingACLs);
+    PermissionService permissionService = mock(PermissionService.class);
+    when(permissionService.list(any())).thenReturn(Collections.emptyList());
+    ResourceAttributeProvider resourceAttributeProvider = resources -> attributes;
+
+    ACLServiceImpl aclService =
+        new ACLServiceImpl(aclDAO, permissionService, new ACLConditionCache(new ACLExpressionEvaluatorProvider()));
+    // Every condition falls back to the expression evaluator, as before the conditions were compiled
+    ACLServiceImpl evaluatingACLService = new ACLServiceImpl(aclDAO, permissionService,
+        new ACLConditionCache(new ACLExpressionEvaluatorProvider()) {
+          @Override
+          public ACLCondition get(String condition) {
+            return (permissionCheck, resourceAttributes)
+                       -> new ACLExpressionEvaluator(permissionCheck, resourceAttributes).evaluateExpression(condition);
+          }
+        });
+
+    List<PermissionCheckResult> expected =
+        evaluatingACLService.checkAccess(principal, permissionChecks, resourceAttributeProvider);
+    assertThat(aclService.checkAccess(principal, permissionChecks, resourceAttributeProvider)).isEqualTo(expected);
+    assertThat(expected.stream().filter(PermissionCheckResult::isPermitted)).hasSize(CHECKS / 2);
+
+    long evaluatedTime = time(evaluatingACLService, principal, permissionChecks, resourceAttributeProvider);
+    long compiledTime = time(aclService, principal, permissionChecks, resourceAttributeProvider);
+    log.info("{} checks per request, evaluated conditions: {} checks/sec, compiled conditions: {} checks/sec", CHECKS,
+        checksPerSecond(evaluatedTime), checksPerSecond(compiledTime));
+  }
+
+  private static long time(ACLServiceImpl aclService, Principal principal, List<PermissionCheck> permissionChecks,
+      ResourceAttributeProvider resourceAttributeProvider) {
+    long start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      aclService.checkAccess(principal, permissionChecks, resourceAttributeProvider);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static long checksPerSecond(long nanos) {
+    return (long) CHECKS * REQUESTS * 1_000_000_000L / Math.max(nanos, 1);
+  }
+
+  private static ACL conditionalACL(String environmentType) {
+    return ACL.builder()
+        .conditional(true)
+        .condition("<+resource.attribute.type> =~ [\"" + environmentType + "\"]")
+        .build();
+  }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.AccessControlCoreTestBase;
 import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.conditions.ACLConditionCache;
 import io.harness.accesscontrol.acl.conditions.ACLExpressionEvaluatorProvider;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACLDAO;
@@ -50,7 +51,8 @@ public class ACLServiceImplTest extends AccessControlCoreTestBase {
     aclDAO = mock(ACLDAO.class);
     permissionService = mock(PermissionService.class);
     ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider = mock(ACLExpressionEvaluatorProvider.class);
-    aclService = new ACLServiceImpl(aclDAO, permissionService, aclExpressionEvaluatorProvider);
+    aclService =
+        new ACLServiceImpl(aclDAO, permissionService, new ACLConditionCache(aclExpressionEvaluatorProvider));
   }
 
   @Test
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.conditions;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLConditionCacheTest extends AccessControlCoreTestBase {
+  private static final String CONDITION = "<+resource.attribute.type> =~ [\"Production\",\"PreProduction\"]";
+  private static final PermissionCheck PERMISSION_CHECK =
+      PermissionCheck.builder().permission("core_environment_access").resourceType("ENVIRONMENT").build();
+
+  private ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider;
+  private ACLConditionCache aclConditionCache;
+
+  @Before
+  public void setup() {
+    aclExpressionEvaluatorProvider = spy(new ACLExpressionEvaluatorProvider());
+    aclConditionCache = new ACLConditionCache(aclExpressionEvaluatorProvider);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testAttributeConditionMatchesExpressionEvaluation() {
+    List<Map<String, String>> resourceAttributes = Arrays.asList(ImmutableMap.of("type", "Production"),
+        ImmutableMap.of("type", "PreProduction"), ImmutableMap.of("type", "Prod"));
+    ACLCondition condition = aclConditionCache.get(CONDITION);
+
+    for (Map<String, String> attributes : resourceAttributes) {
+      assertThat(condition.evaluate(PERMISSION_CHECK, attributes))
+          .isEqualTo(new ACLExpressionEvaluator(PERMISSION_CHECK, attributes).evaluateExpression(CONDITION));
+    }
+    assertThat(condition.evaluate(PERMISSION_CHECK, ImmutableMap.of("name", "Production"))).isFalse();
+    assertThat(condition.evaluate(PERMISSION_CHECK, Collections.emptyMap())).isFalse();
+    assertThat(condition.evaluate(PERMISSION_CHECK, null)).isFalse();
+    verify(aclExpressionEvaluatorProvider, times(0)).get(any(), any());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testConditionIsCompiledOnce() {
+    assertThat(aclConditionCache.get(CONDITION)).isSameAs(aclConditionCache.get(new String(CONDITION)));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testOtherConditionsFallBackToExpressionEvaluation() {
+    String condition = "<+resource.attribute.type> == \"Production\" || <+resource.identifier> == \"prod\"";
+    ACLCondition aclCondition = aclConditionCache.get(condition);
+
+    assertThat(aclCondition.evaluate(PERMISSION_CHECK, ImmutableMap.of("type", "Production"))).isTrue();
+    assertThat(aclCondition.evaluate(PERMISSION_CHECK, ImmutableMap.of("type", "PreProduction"))).isFalse();
+    verify(aclExpressionEvaluatorProvider, times(2)).get(any(), any());
+  }
+}
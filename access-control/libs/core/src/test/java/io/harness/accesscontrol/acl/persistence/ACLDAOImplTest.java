@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class ACLDAOImplTest extends AccessControlCoreTestBase {
+  private static final String PERMISSION = "core_pipeline_view";
+  private static final String RESOURCE_TYPE = "PIPELINE";
+
+  private ACLRepository aclRepository;
+  private ACLCacheInvalidationBroadcaster broadcaster;
+  private ACLCache aclCache;
+  private ACLDAOImpl aclDAO;
+
+  @Before
+  public void setup() throws IllegalAccessException {
+    aclRepository = mock(ACLRepository.class);
+    broadcaster = mock(ACLCacheInvalidationBroadcaster.class);
+    when(broadcaster.isSubscribed()).thenReturn(true);
+    aclCache = new ACLCache();
+    FieldUtils.writeField(aclCache, "broadcaster", broadcaster, true);
+    aclDAO = new ACLDAOImpl(aclRepository, aclCache, Collections.emptyMap());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsFromCache() {
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    ACL acl = ACL.builder()
+                  .principalType(PrincipalType.USER.name())
+                  .principalIdentifier(principal.getPrincipalIdentifier())
+                  .aclQueryString(queryString(principal, "*"))
+                  .enabled(true)
+                  .build();
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(ImmutableList.of(acl));
+    List<PermissionCheck> permissionChecks = ImmutableList.of(
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).resourceIdentifier("p1").permission(PERMISSION).build(),
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).resourceIdentifier("p2").permission(PERMISSION).build(),
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).resourceIdentifier("p1").permission("other").build());
+
+    List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(principal, permissionChecks);
+    assertThat(matchingACLs).containsExactly(ImmutableList.of(acl), ImmutableList.of(acl), Collections.emptyList());
+
+    assertThat(aclDAO.getMatchingACLs(principal, permissionChecks)).isEqualTo(matchingACLs);
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+
+    aclCache.invalidate(principal.getPrincipalIdentifier());
+    verify(broadcaster).broadcast(Collections.singleton(principal.getPrincipalIdentifier()));
+    assertThat(aclDAO.getMatchingACLs(principal, permissionChecks)).isEqualTo(matchingACLs);
+    verify(aclRepository, times(2)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsDoesNotCacheGrantsWithoutBroadcastInvalidations() {
+    when(broadcaster.isSubscribed()).thenReturn(false);
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    ACL acl = ACL.builder()
+                  .principalType(PrincipalType.USER.name())
+                  .principalIdentifier(principal.getPrincipalIdentifier())
+                  .aclQueryString(queryString(principal, "*"))
+                  .enabled(true)
+                  .build();
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(ImmutableList.of(acl));
+    List<PermissionCheck> permissionChecks = ImmutableList.of(
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).resourceIdentifier("p1").permission(PERMISSION).build());
+
+    assertThat(aclDAO.getMatchingACLs(principal, permissionChecks)).containsExactly(ImmutableList.of(acl));
+    assertThat(aclDAO.getMatchingACLs(principal, permissionChecks)).containsExactly(ImmutableList.of(acl));
+
+    // Only the absent ACL of the specific resource is cached, the granted one is read again
+    verify(aclRepository, times(2)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+    verify(aclRepository).getByAclQueryStringInAndEnabled(ImmutableSet.of(queryString(principal, "*")), true);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsQueriesOnlyMissingQueryStrings() {
+    Principal principal = Principal.of(PrincipalType.USER, randomAlphabetic(10));
+    when(aclRepository.getByAclQueryStringInAndEnabled(any(), anyBoolean())).thenReturn(Collections.emptyList());
+
+    PermissionCheck allPipelines =
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).permission(PERMISSION).build();
+    PermissionCheck pipeline =
+        PermissionCheck.builder().resourceType(RESOURCE_TYPE).resourceIdentifier("p1").permission(PERMISSION).build();
+
+    aclDAO.getMatchingACLs(principal, ImmutableList.of(allPipelines));
+    aclDAO.getMatchingACLs(principal, ImmutableList.of(allPipelines, pipeline));
+
+    // The second call only asks for the query string of the specific resource
+    verify(aclRepository, times(2)).getByAclQueryStringInAndEnabled(any(), anyBoolean());
+    verify(aclRepository).getByAclQueryStringInAndEnabled(ImmutableSet.of(queryString(principal, "p1")), true);
+  }
+
+  private static String queryString(Principal principal, String resourceIdentifier) {
+    String resourceSelector = "/" + RESOURCE_TYPE + "/" + resourceIdentifier;
+    return ACL.getAclQueryString(
+        "", resourceSelector, principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), PERMISSION);
+  }
+}
@@ -24,10 +24,12 @@ import static io.harness.eventsframework.EventsFrameworkConstants.USERMEMBERSHIP
 import static io.harness.lock.DistributedLockImplementation.MONGO;
 
 import io.harness.AccessControlClientModule;
+import io.harness.accesscontrol.acl.RedisACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
 import io.harness.accesscontrol.aggregator.AggregatorStackDriverMetricsPublisherImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
 import io.harness.accesscontrol.aggregator.api.AggregatorResourceImpl;
@@ -178,6 +180,13 @@ public class AccessControlModule extends AbstractModule {
     return config.getRedisLockConfig();
   }
 
+  @Provides
+  @Named("eventsFrameworkRedisConfig")
+  @Singleton
+  public RedisConfig eventsFrameworkRedisConfig() {
+    return config.getEventsConfig().getRedisConfig();
+  }
+
   @Provides
   @Named("eventsFrameworkRedissonClient")
   @Singleton
@@ -356,6 +365,7 @@ public class AccessControlModule extends AbstractModule {
     bind(ResourceAttributeProvider.class).to(ResourceAttributeProviderImpl.class);
 
     bind(ACLResource.class).to(ACLResourceImpl.class);
+    bind(ACLCacheInvalidationBroadcaster.class).to(RedisACLCacheInvalidationBroadcaster.class);
     bind(AggregatorResource.class).to(AggregatorResourceImpl.class);
     bind(HealthResource.class).to(HealthResourceImpl.class);
     bind(PermissionResource.class).to(PermissionResourceImpl.class);
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCacheInvalidationBroadcaster;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
+
+import com.google.common.base.Splitter;
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.StatusListener;
+
+/**
+ * Broadcasts the invalidated principals on a redis topic every instance listens to. Messages published while an
+ * instance is not subscribed are lost, so the instance drops its whole cache whenever it subscribes again, and the
+ * {@link ACLCache} does not cache granted ACLs in between.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class RedisACLCacheInvalidationBroadcaster implements ACLCacheInvalidationBroadcaster {
+  private static final String TOPIC_NAME = "acl_cache_invalidation";
+  private static final String ALL_PRINCIPALS = "*";
+  private static final char DELIMITER = '\n';
+
+  private final Provider<ACLCache> aclCacheProvider;
+  private final RTopic topic;
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  @Inject
+  public RedisACLCacheInvalidationBroadcaster(Provider<ACLCache> aclCacheProvider,
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient,
+      @Named("eventsFrameworkRedisConfig") RedisConfig redisConfig) {
+    this.aclCacheProvider = aclCacheProvider;
+    if (redissonClient == null) {
+      log.warn("Redis is not configured, granted ACLs will not be cached");
+      topic = null;
+      return;
+    }
+    String topicName =
+        isEmpty(redisConfig.getEnvNamespace()) ? TOPIC_NAME : redisConfig.getEnvNamespace() + ":" + TOPIC_NAME;
+    topic = redissonClient.getTopic(topicName);
+    topic.addListener(new StatusListener() {
+      @Override
+      public void onSubscribe(String channel) {
+        aclCacheProvider.get().evictAll();
+        subscribed.set(true);
+        log.info("Subscribed to the acl cache invalidations");
+      }
+
+      @Override
+      public void onUnsubscribe(String channel) {
+        subscribed.set(false);
+        aclCacheProvider.get().evictAll();
+        log.warn("Unsubscribed from the acl cache invalidations");
+      }
+    });
+    topic.addListener(String.class, (channel, message) -> onMessage(message));
+  }
+
+  @Override
+  public boolean isSubscribed() {
+    return subscribed.get();
+  }
+
+  @Override
+  public void broadcast(Collection<String> principalIdentifiers) {
+    publish(String.join(String.valueOf(DELIMITER), principalIdentifiers));
+  }
+
+  @Override
+  public void broadcastAll() {
+    publish(ALL_PRINCIPALS);
+  }
+
+  private void publish(String message) {
+    if (topic == null) {
+      return;
+    }
+    try {
+      topic.publish(message);
+    } catch (Exception e) {
+      log.error("Failed to broadcast the acl cache invalidation, other instances rely on the expiry", e);
+    }
+  }
+
+  private void onMessage(String message) {
+    if (ALL_PRINCIPALS.equals(message)) {
+      aclCacheProvider.get().evictAll();
+    } else {
+      aclCacheProvider.get().evict(Splitter.on(DELIMITER).omitEmptyStrings().splitToList(message));
+    }
+  }
+}
@@ -48,6 +48,9 @@ import io.harness.pms.utils.CompletableFutures;
 import io.harness.pms.yaml.YamlField;
 import io.harness.pms.yaml.YamlUtils;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -69,6 +72,12 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
   @Inject @Named(PLAN_CREATOR_SERVICE_EXECUTOR) private Executor executor;
   @Inject ExceptionManager exceptionManager;
 
+  // Parsed yaml of the last round, per plan creation request. Every round of a request gets the same context, and
+  // most rounds do not update the yaml, so it is parsed once instead of once per round. Contexts are weak keys,
+  // the entry goes away together with the request.
+  private final Cache<PlanCreationContext, ParsedYaml> parsedYamlCache =
+      CacheBuilder.newBuilder().weakKeys().expireAfterAccess(10, TimeUnit.MINUTES).build();
+
   private final FilterCreatorService filterCreatorService;
   private final VariableCreatorService variableCreatorService;
   private final List<PartialPlanCreator<?>> planCreators;
@@ -156,7 +165,7 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     long start = System.currentTimeMillis();
     YamlField fullField;
     try {
-      fullField = YamlUtils.readTree(currentYaml);
+      fullField = readTree(ctx, currentYaml);
     } catch (IOException ex) {
       String message = "Invalid yaml during plan creation";
       log.error(message, ex);
@@ -185,6 +194,26 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     }
   }
 
+  @VisibleForTesting
+  YamlField readTree(PlanCreationContext ctx, String yaml) throws IOException {
+    // Execution input templates are extracted by modifying the tree, it can not be shared between the rounds then
+    if (isExecutionInputEnabled(ctx)) {
+      return YamlUtils.readTree(yaml);
+    }
+    ParsedYaml parsedYaml = parsedYamlCache.getIfPresent(ctx);
+    if (parsedYaml != null && parsedYaml.yaml.equals(yaml)) {
+      return parsedYaml.field;
+    }
+    YamlField field = YamlUtils.readTree(yaml);
+    parsedYamlCache.put(ctx, new ParsedYaml(yaml, field));
+    return field;
+  }
+
+  private boolean isExecutionInputEnabled(PlanCreationContext ctx) {
+    PlanCreationContextValue metadata = ctx.getGlobalContext() == null ? null : ctx.getGlobalContext().get("metadata");
+    return metadata != null && metadata.getIsExecutionInputEnabled();
+  }
+
   @Override
   public void createFilter(FilterCreationBlobRequest request, StreamObserver<FilterCreationResponse> responseObserver) {
     FilterCreationResponse filterCreationResponse;
@@ -259,10 +288,12 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
         PartialPlanCreator planCreator = planCreatorOptional.get();
         Class<?> cls = planCreator.getFieldClass();
         String executionInputTemplate = "";
-        if (ctx.getGlobalContext().get("metadata").getIsExecutionInputEnabled()) {
+        if (isExecutionInputEnabled(ctx)) {
           executionInputTemplate = planCreator.getExecutionInputTemplateAndModifyYamlField(field);
         }
-        Object obj = YamlField.class.isAssignableFrom(cls) ? field : YamlUtils.read(field.getNode().toString(), cls);
+        Object obj = YamlField.class.isAssignableFrom(cls)
+            ? field
+            : YamlUtils.treeToValue(field.getNode().getCurrJsonNode(), cls);
 
         try {
           PlanCreationResponse planForField = planCreator.createPlanForField(
@@ -290,4 +321,14 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
       }
     }
   }
+
+  private static class ParsedYaml {
+    private final String yaml;
+    private final YamlField field;
+
+    ParsedYaml(String yaml, YamlField field) {
+      this.yaml = yaml;
+      this.field = field;
+    }
+  }
 }
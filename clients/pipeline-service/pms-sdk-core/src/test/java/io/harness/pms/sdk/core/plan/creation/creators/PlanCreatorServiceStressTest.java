@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation.creators;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
+import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationContext;
+import io.harness.pms.yaml.YamlField;
+import io.harness.pms.yaml.YamlUtils;
+import io.harness.rule.Owner;
+
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Time and allocation per stage of the yaml handling of the plan creation rounds of large pipelines, parsing the yaml
+ * every round and converting every field from its text, against reusing the tree of the request and converting the
+ * fields from the tree.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+public class PlanCreatorServiceStressTest extends CategoryTest {
+  private static final int WARMUP = 20;
+  private static final int ITERATIONS = 100;
+  private static final int STEPS_PER_STAGE = 20;
+
+  private final PlanCreatorService planCreatorService =
+      new PlanCreatorService(mock(PipelineServiceInfoProvider.class), null, null, null, null);
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(StressTests.class)
+  @Ignore("This is stress test we should ignore it to allow for simple run of unit tests")
+  public void compareParsingPerRoundAndSharedTree() throws IOException {
+    for (int stageCount : new int[] {10, 100, 500}) {
+      String yaml = pipeline(stageCount);
+      List<List<String>> rounds = rounds(stageCount);
+      run(stageCount + " stages, parse per round", stageCount, () -> {
+        for (List<String> paths : rounds) {
+          YamlField fullField = YamlUtils.readTree(yaml);
+          for (String path : paths) {
+            YamlUtils.read(fullField.fromYamlPath(path).getNode().toString(), Object.class);
+          }
+        }
+      });
+      run(stageCount + " stages, shared tree", stageCount, () -> {
+        PlanCreationContext ctx = PlanCreationContext.builder().globalContext(Collections.emptyMap()).build();
+        for (List<String> paths : rounds) {
+          YamlField fullField = planCreatorService.readTree(ctx, yaml);
+          for (String path : paths) {
+            YamlUtils.treeToValue(fullField.fromYamlPath(path).getNode().getCurrJsonNode(), Object.class);
+          }
+        }
+      });
+    }
+  }
+
+  private void run(String name, int stageCount, PlanCreation planCreation) throws IOException {
+    for (int i = 0; i < WARMUP; i++) {
+      planCreation.run();
+    }
+
+    ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      planCreation.run();
+    }
+    long elapsedNanos = System.nanoTime() - start;
+    long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+    log.info("{}: {} us per stage, {} bytes allocated per stage", name,
+        elapsedNanos / 1000 / ITERATIONS / stageCount, allocated / ITERATIONS / stageCount);
+  }
+
+  // The dependencies of the rounds the way the plan creators expand them, pipeline, stages, stage and steps
+  private static List<List<String>> rounds(int stageCount) {
+    List<String> stages = new ArrayList<>();
+    List<String> steps = new ArrayList<>();
+    for (int i = 0; i < stageCount; i++) {
+      stages.add("pipeline/stages/[" + i + "]/stage");
+      for (int j = 0; j < STEPS_PER_STAGE; j++) {
+        steps.add("pipeline/stages/[" + i + "]/stage/spec/execution/steps/[" + j + "]/step");
+      }
+    }
+    List<List<String>> rounds = new ArrayList<>();
+    rounds.add(Collections.singletonList("pipeline"));
+    rounds.add(Collections.singletonList("pipeline/stages"));
+    rounds.add(stages);
+    rounds.add(steps);
+    return rounds;
+  }
+
+  private static String pipeline(int stageCount) {
+    StringBuilder yaml = new StringBuilder(256 * stageCount * STEPS_PER_STAGE);
+    yaml.append("pipeline:\n  identifier: pipeline\n  name: pipeline\n  stages:\n");
+    for (int i = 0; i < stageCount; i++) {
+      yaml.append("    - stage:\n")
+          .append("        identifier: stage").append(i).append('\n')
+          .append("        type: Custom\n")
+          .append("        spec:\n")
+          .append("          execution:\n")
+          .append("            steps:\n");
+      for (int j = 0; j < STEPS_PER_STAGE; j++) {
+        yaml.append("              - step:\n")
+            .append("                  identifier: step").append(j).append('\n')
+            .append("                  type: ShellScript\n")
+            .append("                  timeout: 10m\n")
+            .append("                  spec:\n")
+            .append("                    shell: Bash\n")
+            .append("                    source:\n")
+            .append("                      type: Inline\n")
+            .append("                      spec:\n")
+            .append("                        script: echo <+pipeline.name> <+stage.name> ").append(j).append('\n');
+      }
+    }
+    return yaml.toString();
+  }
+
+  private interface PlanCreation {
+    void run() throws IOException;
+  }
+}
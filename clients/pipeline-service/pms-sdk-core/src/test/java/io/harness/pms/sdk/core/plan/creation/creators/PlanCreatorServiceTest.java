@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation.creators;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.PlanCreationContextValue;
+import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationContext;
+import io.harness.pms.yaml.YamlField;
+import io.harness.rule.Owner;
+
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PlanCreatorServiceTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n  stages: []\n";
+
+  private PlanCreatorService planCreatorService;
+
+  @Before
+  public void setUp() {
+    planCreatorService = new PlanCreatorService(mock(PipelineServiceInfoProvider.class), null, null, null, null);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldReuseParsedYamlWithinRequest() throws Exception {
+    PlanCreationContext ctx = PlanCreationContext.builder().globalContext(Collections.emptyMap()).build();
+    YamlField field = planCreatorService.readTree(ctx, YAML);
+
+    assertThat(planCreatorService.readTree(ctx, YAML)).isSameAs(field);
+    assertThat(planCreatorService.readTree(ctx, new StringBuilder(YAML).toString())).isSameAs(field);
+
+    PlanCreationContext otherCtx = PlanCreationContext.builder().globalContext(Collections.emptyMap()).build();
+    assertThat(planCreatorService.readTree(otherCtx, YAML)).isNotSameAs(field);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldParseUpdatedYaml() throws Exception {
+    PlanCreationContext ctx = PlanCreationContext.builder().globalContext(Collections.emptyMap()).build();
+    YamlField field = planCreatorService.readTree(ctx, YAML);
+
+    String updatedYaml = YAML.replace("p1", "p2");
+    YamlField updatedField = planCreatorService.readTree(ctx, updatedYaml);
+    assertThat(updatedField).isNotSameAs(field);
+    assertThat(updatedField.getNode().getField("pipeline").getNode().getIdentifier()).isEqualTo("p2");
+    assertThat(planCreatorService.readTree(ctx, updatedYaml)).isSameAs(updatedField);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldNotShareParsedYamlWithExecutionInput() throws Exception {
+    PlanCreationContext ctx =
+        PlanCreationContext.builder()
+            .globalContext(Collections.singletonMap(
+                "metadata", PlanCreationContextValue.newBuilder().setIsExecutionInputEnabled(true).build()))
+            .build();
+    YamlField field = planCreatorService.readTree(ctx, YAML);
+
+    assertThat(planCreatorService.readTree(ctx, YAML)).isNotSameAs(field);
+  }
+}
@@ -67,6 +67,7 @@ public class CustomApprovalInstanceHandler implements MongoPersistenceIterator.H
             .name("CustomApprovalInstanceHandler")
             .poolSize(iteratorConfig.getThreadPoolCount())
             .interval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
+            .virtualThreads(iteratorConfig.isVirtualThreads())
             .build(),
         CustomApprovalInstanceHandler.class,
         MongoPersistenceIterator.<ApprovalInstance, SpringFilterExpander>builder()
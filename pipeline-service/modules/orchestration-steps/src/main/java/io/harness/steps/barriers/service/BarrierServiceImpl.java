@@ -102,6 +102,7 @@ public class BarrierServiceImpl implements BarrierService, ForceProctor {
             .name("PmsBarrierExecutionInstanceMonitor")
             .poolSize(config.getThreadPoolCount())
             .interval(ofSeconds(config.getTargetIntervalInSeconds()))
+            .virtualThreads(config.isVirtualThreads())
             .build(),
         BarrierService.class,
         MongoPersistenceIterator.<BarrierExecutionInstance, SpringFilterExpander>builder()
@@ -113,6 +114,7 @@ public class BarrierServiceImpl implements BarrierService, ForceProctor {
             .filterExpander(
                 query -> query.addCriteria(Criteria.where(BarrierExecutionInstanceKeys.barrierState).in(STANDING)))
             .schedulingType(REGULAR)
+            .claimBatchSize(config.getClaimBatchSize())
             .persistenceProvider(new SpringPersistenceProvider<>(mongoTemplate))
             .redistribute(true));
   }
@@ -42,6 +42,7 @@ public class ResourceRestraintPersistenceMonitor implements Handler<ResourceRest
                                               .name("ResourceRestraintInstance-Monitor")
                                               .poolSize(config.getThreadPoolCount())
                                               .interval(ofSeconds(config.getTargetIntervalInSeconds()))
+                                              .virtualThreads(config.isVirtualThreads())
                                               .build();
     persistenceIteratorFactory.createPumpIteratorWithDedicatedThreadPool(executorOptions,
         ResourceRestraintPersistenceMonitor.class,
@@ -54,6 +55,7 @@ public class ResourceRestraintPersistenceMonitor implements Handler<ResourceRest
             .acceptableExecutionTime(ofSeconds(30))
             .handler(this)
             .schedulingType(REGULAR)
+            .claimBatchSize(config.getClaimBatchSize())
             .persistenceProvider(new SpringPersistenceProvider<>(mongoTemplate))
             .redistribute(true));
   }
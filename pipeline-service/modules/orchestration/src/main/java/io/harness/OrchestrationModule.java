@@ -120,7 +120,10 @@ public class OrchestrationModule extends AbstractModule implements ServersModule
     install(new AbstractWaiterModule() {
       @Override
       public WaiterConfiguration waiterConfiguration() {
-        return WaiterConfiguration.builder().persistenceLayer(PersistenceLayer.SPRING).build();
+        return WaiterConfiguration.builder()
+            .persistenceLayer(PersistenceLayer.SPRING)
+            .localCompletion(config.isLocalWaitCompletion())
+            .build();
       }
     });
     install(new AbstractOrchestrationDelayModule() {
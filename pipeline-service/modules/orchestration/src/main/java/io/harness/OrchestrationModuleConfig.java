@@ -40,6 +40,7 @@ public class OrchestrationModuleConfig {
   boolean withPMS;
   boolean isPipelineService;
   boolean useFeatureFlagService;
+  boolean localWaitCompletion;
   @Nullable io.harness.remote.client.ServiceHttpClientConfig accountServiceHttpClientConfig;
   @Nullable String accountServiceSecret;
   @Nullable String accountClientId;
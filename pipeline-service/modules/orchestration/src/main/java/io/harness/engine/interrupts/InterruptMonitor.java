@@ -79,6 +79,7 @@ public class InterruptMonitor implements Handler<Interrupt> {
                                               .name("InterruptMonitor-%d")
                                               .poolSize(iteratorConfig.getThreadPoolCount())
                                               .interval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
+                                              .virtualThreads(iteratorConfig.isVirtualThreads())
                                               .build();
 
     persistenceIteratorFactory.createPumpIteratorWithDedicatedThreadPool(executorOptions, InterruptMonitor.class,
@@ -95,6 +96,7 @@ public class InterruptMonitor implements Handler<Interrupt> {
             .acceptableExecutionTime(ofSeconds(30))
             .handler(this)
             .schedulingType(REGULAR)
+            .claimBatchSize(iteratorConfig.getClaimBatchSize())
             .persistenceProvider(new SpringPersistenceProvider<>(mongoTemplate))
             .redistribute(true));
   }
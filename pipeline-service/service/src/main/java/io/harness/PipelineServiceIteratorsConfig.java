@@ -22,6 +22,8 @@ public class PipelineServiceIteratorsConfig {
   @JsonProperty("webhook") IteratorConfig triggerWebhookConfig;
   @JsonProperty("scheduledTrigger") IteratorConfig scheduleTriggerConfig;
   @JsonProperty("timeoutEngine") IteratorConfig timeoutEngineConfig;
+  // Fire the timeouts from an in memory timing wheel, the timeout engine iterator then only recovers orphaned timeouts
+  @JsonProperty("timeoutEngineTimingWheel") boolean timeoutEngineTimingWheel;
   @JsonProperty("barrier") IteratorConfig barrierConfig;
   @JsonProperty("approvalInstance") IteratorConfig approvalInstanceConfig;
   @JsonProperty("resourceRestraint") IteratorConfig resourceRestraintConfig;
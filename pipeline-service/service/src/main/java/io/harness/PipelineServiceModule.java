@@ -274,6 +274,7 @@ public class PipelineServiceModule extends AbstractModule {
             .accountServiceHttpClientConfig(configuration.getManagerClientConfig())
             .accountServiceSecret(configuration.getManagerServiceSecret())
             .useFeatureFlagService(true)
+            .localWaitCompletion(configuration.isLocalWaitCompletion())
             .orchestrationRedisEventsConfig(configuration.getOrchestrationRedisEventsConfig())
             .orchestrationLogConfiguration(configuration.getOrchestrationLogConfiguration())
             .build()));
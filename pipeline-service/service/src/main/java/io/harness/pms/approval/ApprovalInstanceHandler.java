@@ -70,6 +70,7 @@ public class ApprovalInstanceHandler implements MongoPersistenceIterator.Handler
             .name("ApprovalInstanceHandler")
             .poolSize(iteratorConfig.getThreadPoolCount())
             .interval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
+            .virtualThreads(iteratorConfig.isVirtualThreads())
             .build(),
         ApprovalInstanceHandler.class,
         MongoPersistenceIterator.<ApprovalInstance, SpringFilterExpander>builder()
@@ -84,6 +85,7 @@ public class ApprovalInstanceHandler implements MongoPersistenceIterator.Handler
                                          .and(ApprovalInstanceKeys.type)
                                          .in(ApprovalType.JIRA_APPROVAL, ApprovalType.SERVICENOW_APPROVAL)))
             .schedulingType(REGULAR)
+            .claimBatchSize(iteratorConfig.getClaimBatchSize())
             .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate))
             .redistribute(true));
   }
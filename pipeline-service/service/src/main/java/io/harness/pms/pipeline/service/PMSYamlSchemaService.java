@@ -20,6 +20,8 @@ public interface PMSYamlSchemaService {
 
   void validateYamlSchema(String accountId, String orgId, String projectId, String yaml);
 
+  void validateYamlSchema(String accountId, String orgId, String projectId, JsonNode yaml);
+
   void validateUniqueFqn(String yaml);
 
   void invalidateAllCache();
@@ -131,12 +131,26 @@ public class PMSYamlSchemaServiceImpl implements PMSYamlSchemaService {
   public void validateYamlSchema(String accountId, String orgId, String projectId, String yaml) {
     // Keeping pipeline yaml schema validation behind ff. If ff is disabled then schema validation will happen. Will
     // remove after finding the root cause of invalid schema generation and fixing it.
+    if (!pmsYamlSchemaHelper.isFeatureFlagEnabled(FeatureName.DISABLE_PIPELINE_SCHEMA_VALIDATION, accountId)) {
+      JsonNode jsonNode;
+      try {
+        jsonNode = YamlUtils.readTree(yaml).getNode().getCurrJsonNode();
+      } catch (IOException ex) {
+        log.error(ex.getMessage(), ex);
+        throw new JsonSchemaValidationException(ex.getMessage(), ex);
+      }
+      validateYamlSchemaInternal(accountId, orgId, projectId, jsonNode);
+    }
+  }
+
+  @Override
+  public void validateYamlSchema(String accountId, String orgId, String projectId, JsonNode yaml) {
     if (!pmsYamlSchemaHelper.isFeatureFlagEnabled(FeatureName.DISABLE_PIPELINE_SCHEMA_VALIDATION, accountId)) {
       validateYamlSchemaInternal(accountId, orgId, projectId, yaml);
     }
   }
 
-  private void validateYamlSchemaInternal(String accountIdentifier, String orgId, String projectId, String yaml) {
+  private void validateYamlSchemaInternal(String accountIdentifier, String orgId, String projectId, JsonNode yaml) {
     long start = System.currentTimeMillis();
     try {
       JsonNode schema = getPipelineYamlSchema(accountIdentifier, projectId, orgId, Scope.PROJECT);
@@ -21,6 +21,7 @@ import io.harness.pms.pipeline.service.yamlschema.cache.YamlSchemaDetailsWrapper
 import io.harness.yaml.schema.beans.PartialSchemaDTO;
 import io.harness.yaml.schema.beans.YamlSchemaDetailsWrapper;
 import io.harness.yaml.schema.beans.YamlSchemaWithDetails;
+import io.harness.yaml.validator.YamlSchemaValidator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.inject.Inject;
@@ -40,6 +41,7 @@ public class SchemaFetcher {
   @Inject @Named("schemaDetailsCache") Cache<SchemaCacheKey, YamlSchemaDetailsWrapperValue> schemaDetailsCache;
   @Inject @Named("partialSchemaCache") Cache<SchemaCacheKey, PartialSchemaDTOWrapperValue> schemaCache;
   @Inject private SchemaGetterFactory schemaGetterFactory;
+  @Inject private YamlSchemaValidator yamlSchemaValidator;
 
   /**
    * Schema is taken from cache, so every modification will affect cache value.
@@ -101,6 +103,7 @@ public class SchemaFetcher {
     log.info("[PMS] Invalidating yaml schema cache");
     schemaCache.clear();
     schemaDetailsCache.clear();
+    yamlSchemaValidator.invalidateSchemaCache();
     log.info("[PMS] Yaml schema cache was successfully invalidated");
   }
 
@@ -271,7 +271,6 @@ public class ExecutionHelper {
     pipelineYamlConfigForSchemaValidations = InputSetSanitizer.trimValues(pipelineYamlConfigForSchemaValidations);
 
     String pipelineYaml = pipelineYamlConfig.getYaml();
-    String pipelineYamlForSchemaValidations = pipelineYamlConfigForSchemaValidations.getYaml();
     log.info("[PMS_EXECUTE] Pipeline input set merge total time took {}ms", System.currentTimeMillis() - start);
 
     String pipelineYamlWithTemplateRef = pipelineYaml;
@@ -287,7 +286,7 @@ public class ExecutionHelper {
           : templateMergeResponseDTO.getMergedPipelineYamlWithTemplateRef();
     }
     pmsYamlSchemaService.validateYamlSchema(pipelineEntity.getAccountId(), pipelineEntity.getOrgIdentifier(),
-        pipelineEntity.getProjectIdentifier(), pipelineYamlForSchemaValidations);
+        pipelineEntity.getProjectIdentifier(), pipelineYamlConfigForSchemaValidations.getYamlMap());
     if (pipelineEntity.getStoreType() == null || pipelineEntity.getStoreType() == StoreType.INLINE) {
       // For REMOTE Pipelines, entity setup usage framework cannot be relied upon. That is because the setup usages can
       // be outdated wrt the YAML we find on Git during execution. This means the fail fast approach that we have for
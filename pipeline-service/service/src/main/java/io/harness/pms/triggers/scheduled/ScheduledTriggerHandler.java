@@ -62,6 +62,7 @@ public class ScheduledTriggerHandler implements Handler<NGTriggerEntity> {
             .name("ScheduledTriggerProcessor")
             .poolSize(iteratorConfig.getThreadPoolCount())
             .interval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
+            .virtualThreads(iteratorConfig.isVirtualThreads())
             .build(),
         ScheduledTriggerHandler.class,
         MongoPersistenceIterator.<NGTriggerEntity, SpringFilterExpander>builder()
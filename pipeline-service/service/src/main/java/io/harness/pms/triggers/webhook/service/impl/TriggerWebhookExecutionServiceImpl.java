@@ -64,6 +64,7 @@ public class TriggerWebhookExecutionServiceImpl
             .name("WebhookEventProcessor")
             .poolSize(iteratorConfig.getThreadPoolCount())
             .interval(ofSeconds(iteratorConfig.getTargetIntervalInSeconds()))
+            .virtualThreads(iteratorConfig.isVirtualThreads())
             .build(),
         TriggerWebhookExecutionService.class,
         MongoPersistenceIterator.<TriggerWebhookEvent, SpringFilterExpander>builder()
@@ -79,6 +80,7 @@ public class TriggerWebhookExecutionServiceImpl
                                          .lte(2)
                                          .andOperator(Criteria.where(TriggerWebhookEventsKeys.processing).is(false))))
             .schedulingType(REGULAR)
+            .claimBatchSize(iteratorConfig.getClaimBatchSize())
             .persistenceProvider(new SpringPersistenceProvider<>(mongoTemplate))
             .redistribute(true));
   }
@@ -33,6 +33,7 @@ import io.harness.yaml.schema.beans.PartialSchemaDTO;
 import io.harness.yaml.schema.beans.YamlSchemaDetailsWrapper;
 import io.harness.yaml.schema.beans.YamlSchemaMetadata;
 import io.harness.yaml.schema.beans.YamlSchemaWithDetails;
+import io.harness.yaml.validator.YamlSchemaValidator;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -55,6 +56,7 @@ public class SchemaFetcherTest {
   @Mock Cache<SchemaCacheKey, PartialSchemaDTOWrapperValue> schemaCache;
   @Mock SchemaGetterFactory schemaGetterFactory;
   @Mock LocalSchemaGetter localSchemaGetter;
+  @Mock YamlSchemaValidator yamlSchemaValidator;
   @InjectMocks SchemaFetcher schemaFetcher;
 
   @Before
@@ -173,6 +175,7 @@ public class SchemaFetcherTest {
     schemaFetcher.invalidateAllCache();
     verify(schemaCache, times(1)).clear();
     verify(schemaDetailsCache, times(1)).clear();
+    verify(yamlSchemaValidator, times(1)).invalidateSchemaCache();
   }
 
   private String getResource() throws IOException {
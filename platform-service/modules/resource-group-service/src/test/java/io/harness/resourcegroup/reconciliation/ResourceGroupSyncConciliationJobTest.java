@@ -17,6 +17,7 @@ import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -133,7 +134,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJobMockService.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   @Test
@@ -152,7 +153,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJobMockService.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   @Test
@@ -173,7 +174,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
 
     verify(redisConsumer, times(1)).read(any());
     verify(resourceGroupServiceMock, times(1)).deleteByScope(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   private ByteString getResourcePayload(
@@ -218,7 +219,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJobMockService.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   @Test
@@ -238,7 +239,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJob.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   private List<ResourceGroupResponse> getResourceGroupsWithResource(String accountIdentifier, String orgIdentifier,
@@ -313,7 +314,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
       resourceGroupDTO.setAllowedScopeLevels(emptySet());
       verify(resourceGroupServiceMock, times(1)).update(resourceGroupDTO, false);
     });
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   private ResourceGroupFilterDTO getResourceGroupsWithResourceFilter(String accountIdentifier, String orgIdentifier,
@@ -346,7 +347,7 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJob.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 
   private ByteString getResourceGroupPayload(
@@ -392,6 +393,6 @@ public class ResourceGroupSyncConciliationJobTest extends ResourceGroupTestBase
     resourceGroupSyncConciliationJob.readEventsFrameworkMessages();
 
     verify(redisConsumer, times(1)).read(any());
-    verify(redisConsumer, times(1)).acknowledge(any());
+    verify(redisConsumer, times(1)).acknowledge(anyString());
   }
 }